@@ -0,0 +1,41 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.bitcoin;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Future;
+
+/**
+ * The queries of Coin which may require a round trip to some remote service, made without
+ * blocking and for all the players at once. An implementation should look up every address
+ * it is given in as few requests as it can. The exceptions thrown by the corresponding methods
+ * of Coin are thrown by the futures, wrapped in an ExecutionException.
+ *
+ * Any Coin can be used this way with AsyncCoinAdapter.
+ */
+public interface AsyncCoin {
+    Future<Transaction> shuffleTransactionAsync(
+            long amount,
+            List<VerificationKey> from,
+            Queue<Address> to,
+            Map<VerificationKey, Address> changeAddresses);
+
+    // The value held by each address.
+    Future<Map<Address, Long>> valueHeldAsync(Collection<Address> addrs);
+
+    // Whether each address holds sufficient funds for the amount given for it.
+    Future<Map<Address, Boolean>> sufficientFundsAsync(Map<Address, Long> amounts);
+
+    // Same as Coin.getConflictingTransactions.
+    Future<Map<Address, Transaction>> getConflictingTransactionsAsync(
+            Transaction transaction, Collection<Address> addrs, long amount);
+}
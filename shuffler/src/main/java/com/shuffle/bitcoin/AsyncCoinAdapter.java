@@ -0,0 +1,141 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.bitcoin;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Makes the blocking calls of a Coin on an executor, using its batch methods where it has them.
+ */
+public class AsyncCoinAdapter implements AsyncCoin {
+
+    // The calls block on the network rather than on the processor, so they get threads
+    // of their own instead of sharing those that do the work of the protocol.
+    static int maxQueries = 8;
+
+    private static final Executor defaultExecutor
+            = Executors.newFixedThreadPool(maxQueries, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "coin queries");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    private final Coin coin;
+    private final Executor executor;
+
+    public AsyncCoinAdapter(Coin coin, Executor executor) {
+        if (coin == null || executor == null) throw new NullPointerException();
+
+        this.coin = coin;
+        this.executor = executor;
+    }
+
+    // Use the coin's own asynchronous methods if it has them.
+    public static AsyncCoin async(Coin coin, Executor executor) {
+        if (coin instanceof AsyncCoin) return (AsyncCoin) coin;
+
+        return new AsyncCoinAdapter(coin, executor);
+    }
+
+    public static AsyncCoin async(Coin coin) {
+        return async(coin, defaultExecutor);
+    }
+
+    private <X> Future<X> submit(Callable<X> call) {
+        FutureTask<X> task = new FutureTask<>(call);
+        executor.execute(task);
+        return task;
+    }
+
+    @Override
+    public Future<Transaction> shuffleTransactionAsync(
+            final long amount,
+            final List<VerificationKey> from,
+            final Queue<Address> to,
+            final Map<VerificationKey, Address> changeAddresses) {
+
+        return submit(new Callable<Transaction>() {
+            @Override
+            public Transaction call() throws Exception {
+                return coin.shuffleTransaction(amount, from, to, changeAddresses);
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<Address, Long>> valueHeldAsync(final Collection<Address> addrs) {
+        return submit(new Callable<Map<Address, Long>>() {
+            @Override
+            public Map<Address, Long> call() throws Exception {
+                Map<Address, Long> values = new HashMap<>();
+                for (Address addr : addrs) {
+                    values.put(addr, coin.valueHeld(addr));
+                }
+                return values;
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<Address, Boolean>> sufficientFundsAsync(final Map<Address, Long> amounts) {
+        return submit(new Callable<Map<Address, Boolean>>() {
+            @Override
+            public Map<Address, Boolean> call() throws Exception {
+
+                // Usually everyone is checked for the same amount, so there is one batch.
+                Map<Long, Set<Address>> byAmount = new HashMap<>();
+                for (Map.Entry<Address, Long> entry : amounts.entrySet()) {
+                    Set<Address> addrs = byAmount.get(entry.getValue());
+                    if (addrs == null) {
+                        addrs = new HashSet<>();
+                        byAmount.put(entry.getValue(), addrs);
+                    }
+                    addrs.add(entry.getKey());
+                }
+
+                Map<Address, Boolean> sufficient = new HashMap<>();
+                for (Map.Entry<Long, Set<Address>> entry : byAmount.entrySet()) {
+                    Set<Address> insufficient
+                            = coin.insufficientFunds(entry.getValue(), entry.getKey());
+                    for (Address addr : entry.getValue()) {
+                        sufficient.put(addr, !insufficient.contains(addr));
+                    }
+                }
+                return sufficient;
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<Address, Transaction>> getConflictingTransactionsAsync(
+            final Transaction transaction, final Collection<Address> addrs, final long amount) {
+
+        return submit(new Callable<Map<Address, Transaction>>() {
+            @Override
+            public Map<Address, Transaction> call() throws Exception {
+                return coin.getConflictingTransactions(transaction, addrs, amount);
+            }
+        });
+    }
+}
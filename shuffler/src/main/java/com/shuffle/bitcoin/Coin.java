@@ -18,9 +18,11 @@ package com.shuffle.bitcoin;
 
  import java.io.IOException;
  import java.net.MalformedURLException;
+ import java.util.Collection;
  import java.util.List;
  import java.util.Map;
  import java.util.Queue;
+ import java.util.Set;
 
 /**
  *
@@ -44,8 +46,20 @@ public interface Coin {
     // Returns false otherwise.
     boolean sufficientFunds(Address addr, long amount) throws CoinNetworkException, AddressFormatException, IOException;
 
+    // Returns those addresses which do not hold sufficient funds. Since each check may be a
+    // query to some remote service, implementations may make them concurrently.
+    Set<Address> insufficientFunds(Collection<Address> addrs, long amount)
+            throws CoinNetworkException, AddressFormatException, IOException, InterruptedException;
+
     // If there is a conflicting transaction in the mempool or blockchain, this function
     // returns that transaction.
     Transaction getConflictingTransaction(Transaction transaction, Address addr, long amount) throws CoinNetworkException, AddressFormatException;
 
+    // Finds conflicting transactions for a set of addresses. Implementations may make the
+    // lookups concurrently and may stop looking once some conflict has been found, so the
+    // result is only guaranteed to be nonempty if there is a conflict.
+    Map<Address, Transaction> getConflictingTransactions(
+            Transaction transaction, Collection<Address> addrs, long amount)
+            throws CoinNetworkException, AddressFormatException, InterruptedException;
+
 }
@@ -8,6 +8,7 @@
 
 package com.shuffle.bitcoin;
 
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 /**
@@ -20,4 +21,8 @@ public interface DecryptionKey {
     EncryptionKey EncryptionKey();
 
     String decrypt(String m);
+
+    // Remove one layer of a binary onion. FormatException is thrown if m could not
+    // have been produced by the corresponding EncryptionKey.
+    Bytestring decrypt(Bytestring m) throws FormatException;
 }
@@ -8,6 +8,7 @@
 
 package com.shuffle.bitcoin;
 
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 /**
@@ -18,4 +19,8 @@ import com.shuffle.protocol.FormatException;
  */
 public interface EncryptionKey {
     String encrypt(String m);
+
+    // Binary encryption used to build the onion in the shuffle phase. The result is
+    // not re-encoded, so each layer adds only a fixed overhead to the size of m.
+    Bytestring encrypt(Bytestring m);
 }
@@ -12,6 +12,8 @@ import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -30,6 +32,11 @@ public interface Transaction extends Serializable {
 
     boolean addInputScript(Bytestring b) throws FormatException;
 
+    // Add the input scripts of several players at once, which may be checked in parallel.
+    // Returns the players whose input scripts are not valid.
+    <K> Set<K> addInputScripts(Map<K, Bytestring> scripts)
+            throws FormatException, InterruptedException;
+
     // Whether a transaction has enough signatures to be valid.
     boolean isValid();
 }
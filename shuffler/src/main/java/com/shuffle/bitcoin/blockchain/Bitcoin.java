@@ -10,6 +10,7 @@ package com.shuffle.bitcoin.blockchain;
 
 
 import com.shuffle.bitcoin.Address;
+import com.shuffle.bitcoin.AsyncCoin;
 import com.shuffle.bitcoin.Coin;
 import com.shuffle.bitcoin.CoinNetworkException;
 import com.shuffle.bitcoin.SigningKey;
@@ -23,34 +24,87 @@ import org.bitcoinj.core.Context;
 import org.bitcoinj.core.ECKey;
 import org.bitcoinj.core.NetworkParameters;
 import org.bitcoinj.core.PeerGroup;
+import org.bitcoinj.core.ScriptException;
 import org.bitcoinj.core.Sha256Hash;
 import org.bitcoinj.core.Transaction;
 import org.bitcoinj.core.TransactionInput;
 import org.bitcoinj.core.TransactionOutput;
+import org.bitcoinj.core.Utils;
 import org.bitcoinj.core.VerificationException;
 import org.bitcoinj.crypto.TransactionSignature;
 import org.bitcoinj.net.discovery.DnsDiscovery;
 import org.bitcoinj.script.Script;
 import org.bitcoinj.script.ScriptBuilder;
+import org.bitcoinj.script.ScriptChunk;
 import org.bitcoinj.store.BlockStoreException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
-
-public abstract class Bitcoin implements Coin {
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public abstract class Bitcoin implements Coin, AsyncCoin {
     static long cach_expire = 10000; // Ten seconds.
+    static int cacheSize = 1000;
+
+    // The maximum number of lookups made at once by insufficientFunds,
+    // and the time allowed for all of them together.
+    static int maxLookups = 8;
+    static long lookupTimeout = 30000; // Thirty seconds.
 
     final NetworkParameters netParams;
     final PeerGroup peerGroup;
     final int minPeers;
     final Context context;
 
+    // Threads which do not keep the program running.
+    static ThreadFactory daemons(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            }
+        };
+    }
+
+    // Input scripts are checked on these threads unless another executor is given.
+    private static final ExecutorService defaultVerifier = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), daemons("script verifier"));
+
+    // Input scripts are checked on this executor. If it is set to null, they are
+    // checked one after another in the calling thread.
+    private volatile ExecutorService verifier = defaultVerifier;
+
+    // The asynchronous lookups are run on these threads unless another executor is given.
+    private static final ExecutorService defaultLookups
+            = Executors.newFixedThreadPool(maxLookups, daemons("coin lookups"));
+
+    // The asynchronous lookups are run on this executor. If it is set to null, each
+    // one gets a thread of its own.
+    private volatile Executor lookups = defaultLookups;
+
     /**
      *
      * The constructor takes in a NetworkParameters variable that determines whether we
@@ -73,13 +127,42 @@ public abstract class Bitcoin implements Coin {
         this.context = Context.getOrCreate(this.netParams);
     }
 
+    public void setVerifier(ExecutorService verifier) {
+        this.verifier = verifier;
+    }
+
+    public void setLookups(Executor lookups) {
+        this.lookups = lookups;
+    }
+
+    public void setAddressCache(Cache<String, List<Bitcoin.Transaction>> addressCache) {
+        if (addressCache == null) throw new NullPointerException();
+
+        this.addressCache = addressCache;
+    }
+
+    public void setTransactionCache(Cache<String, org.bitcoinj.core.Transaction> transactionCache) {
+        if (transactionCache == null) throw new NullPointerException();
+
+        this.transactionCache = transactionCache;
+    }
+
     public class Transaction implements com.shuffle.bitcoin.Transaction {
         final String hash;
-        private org.bitcoinj.core.Transaction bitcoinj;
+        org.bitcoinj.core.Transaction bitcoinj;
         final boolean canSend;
         boolean confirmed;
         boolean sent = false;
 
+        // The position of the input spending from each address. Computed when needed.
+        private Map<String, Integer> inputs = null;
+
+        // The hash signed for each input, computed when needed. These do not depend on the
+        // scripts of the other inputs, so they stay valid as signatures are added. They are
+        // thrown away if anything else that they cover changes.
+        private Sha256Hash[] sighashes = null;
+        private byte[] sighashParts = null;
+
         public Transaction(String hash, boolean canSend) {
             this.hash = hash;
             this.canSend = canSend;
@@ -107,7 +190,7 @@ public abstract class Bitcoin implements Coin {
         // Get the underlying bitcoinj representation of this transaction.
         public org.bitcoinj.core.Transaction bitcoinj() throws BlockStoreException, IOException {
             if (bitcoinj == null) {
-                bitcoinj = getTransaction(hash);
+                bitcoinj = cachedTransaction(hash);
             }
 
             return bitcoinj;
@@ -130,6 +213,14 @@ public abstract class Bitcoin implements Coin {
             }
         }
 
+        Map<String, Integer> inputs() {
+            if (inputs == null) {
+                inputs = indexInputs(bitcoinj);
+            }
+
+            return inputs;
+        }
+
         @Override
         public Bytestring serialize() {
             return new Bytestring(bitcoinj.bitcoinSerialize());
@@ -140,35 +231,138 @@ public abstract class Bitcoin implements Coin {
             if (!(sk instanceof SigningKeyImpl)) {
                 return null;
             }
-            return Bitcoin.this.getSignature(this.bitcoinj, ((SigningKeyImpl) sk).signingKey);
+            return Bitcoin.this.getSignature(this, ((SigningKeyImpl) sk).signingKey);
         }
 
         @Override
         public boolean addInputScript(Bytestring b) throws FormatException {
             List<Bytestring> programSignatures = new LinkedList<>();
             programSignatures.add(b);
-            if (Bitcoin.this.signTransaction(this.bitcoinj, programSignatures) == null) {
+            if (Bitcoin.this.signTransaction(this, programSignatures) == null) {
                 return false;
             }
             return true;
         }
 
+        @Override
+        public <K> Set<K> addInputScripts(Map<K, Bytestring> scripts) throws InterruptedException {
+            return Bitcoin.this.addInputScripts(this, scripts);
+        }
+
         @Override
         public boolean isValid() {
-            for (TransactionInput input : this.bitcoinj.getInputs()) {
-                TransactionOutput output = input.getConnectedOutput();
-                if (input.getScriptSig() == null) {
-                    return false;
+            int n = bitcoinj.getInputs().size();
+            List<Integer> indices = new ArrayList<>();
+            List<Script> scripts = new ArrayList<>();
+            try {
+                for (int i = 0; i < n; i++) {
+                    Script script = bitcoinj.getInput(i).getScriptSig();
+                    if (script == null) return false;
+
+                    indices.add(i);
+                    scripts.add(script);
                 }
-                try {
-                    input.verify(output);
-                } catch (VerificationException e) {
-                    return false;
+
+                List<Boolean> checked = checkInputs(this, indices, scripts);
+                for (int i = 0; i < n; i++) {
+                    Boolean ok = checked.get(i);
+                    if (ok == null ? !verifyInput(i) : !ok) return false;
                 }
+            } catch (VerificationException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             }
+
             return true;
         }
 
+        // The parts of the transaction that a SIGHASH_ALL signature covers, apart from the
+        // output being spent, which is given by the outpoint: the version, the outpoints and
+        // sequence numbers of the inputs, the outputs and the lock time.
+        private byte[] signedParts() {
+            ByteArrayOutputStream parts = new ByteArrayOutputStream();
+            try {
+                Utils.uint32ToByteStreamLE(bitcoinj.getVersion(), parts);
+                for (TransactionInput input : bitcoinj.getInputs()) {
+                    parts.write(input.getOutpoint().bitcoinSerialize());
+                    Utils.uint32ToByteStreamLE(input.getSequenceNumber(), parts);
+                }
+                for (TransactionOutput output : bitcoinj.getOutputs()) {
+                    parts.write(output.bitcoinSerialize());
+                }
+                Utils.uint32ToByteStreamLE(bitcoinj.getLockTime(), parts);
+            } catch (IOException e) {
+                // Cannot happen when writing to memory.
+                throw new RuntimeException(e);
+            }
+
+            return parts.toByteArray();
+        }
+
+        synchronized Sha256Hash sighash(int i) {
+            // Far cheaper than computing a hash, which copies the whole transaction.
+            byte[] parts = signedParts();
+            if (sighashes == null || !Arrays.equals(sighashParts, parts)) {
+                sighashes = new Sha256Hash[bitcoinj.getInputs().size()];
+                sighashParts = parts;
+            }
+
+            if (sighashes[i] == null) {
+                sighashes[i] = bitcoinj.hashForSignature(i,
+                        bitcoinj.getInput(i).getConnectedOutput().getScriptPubKey(),
+                        org.bitcoinj.core.Transaction.SigHash.ALL, false);
+            }
+
+            return sighashes[i];
+        }
+
+        // Check a script for the given input without touching the transaction, so that this
+        // can be called from several threads at once. Pay-to-address scripts whose flag byte
+        // is exactly SIGHASH_ALL are checked against the cached hash. Returns null for anything else,
+        // which has to go through bitcoinj.
+        Boolean checkInput(int i, Script scriptSig) {
+            try {
+                Script pubKey = bitcoinj.getInput(i).getConnectedOutput().getScriptPubKey();
+                List<ScriptChunk> chunks = scriptSig.getChunks();
+
+                if (!pubKey.isSentToAddress() || chunks.size() != 2
+                        || chunks.get(0).data == null || chunks.get(1).data == null) {
+                    return null;
+                }
+
+                TransactionSignature sig
+                        = TransactionSignature.decodeFromBitcoin(chunks.get(0).data, false);
+
+                // The hash covers the raw flag byte, so it must be exactly SIGHASH_ALL.
+                if (sig.sighashFlags != TransactionSignature.calcSigHashValue(
+                        org.bitcoinj.core.Transaction.SigHash.ALL, false)) {
+                    return null;
+                }
+
+                byte[] key = chunks.get(1).data;
+                return Arrays.equals(Utils.sha256hash160(key), pubKey.getPubKeyHash())
+                        && ECKey.verify(sighash(i).getBytes(), sig, key);
+            } catch (VerificationException | IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        // Check the script of an input.
+        boolean verifyInput(int i) {
+            TransactionInput input = bitcoinj.getInput(i);
+            try {
+                Boolean checked = checkInput(i, input.getScriptSig());
+                if (checked != null) return checked;
+
+                input.verify(input.getConnectedOutput());
+                return true;
+            } catch (VerificationException e) {
+                return false;
+            }
+        }
+
         @Override
         public String toString() {
             return hash;
@@ -184,19 +378,23 @@ public abstract class Bitcoin implements Coin {
         return new Transaction(tx.getHashAsString(), tx, false);
     }
 
-    protected class Cached {
-        public final String address;
-        public final List<Bitcoin.Transaction> txList;
-        public final long last;
-
-        private Cached(String address, List<Bitcoin.Transaction> txList, long last) {
-            this.address = address;
-            this.txList = txList;
-            this.last = last;
-        }
-    }
+    // The transactions of an address change whenever a new one arrives, so they are only
+    // kept for a short time.
+    protected volatile Cache<String, List<Bitcoin.Transaction>> addressCache
+            = new Cache<>(cacheSize, cach_expire);
+
+    // A transaction cannot change without changing its hash, so there is no need to look it
+    // up again. We don't remember transactions that were not found, however.
+    protected volatile Cache<String, org.bitcoinj.core.Transaction> transactionCache
+            = new Cache<>(cacheSize, new Cache.Expiry<org.bitcoinj.core.Transaction>() {
+                @Override
+                public long ttl(org.bitcoinj.core.Transaction tx) {
+                    return tx == null ? 0 : Cache.FOREVER;
+                }
+            });
 
-    protected Map<String, Cached> cache = new HashMap<>();
+    // Outpoint indices for the transaction lists in addressCache.
+    private final Cache<String, Outpoints> outpointCache = new Cache<>(cacheSize, cach_expire);
 
     public NetworkParameters getNetParams(){
         return netParams;
@@ -234,16 +432,18 @@ public abstract class Bitcoin implements Coin {
 
         // this section adds inputs to the transaction and adds outputs to the change addresses.
         org.bitcoinj.core.Transaction tx = new org.bitcoinj.core.Transaction(netParams);
+        Map<String, Integer> inputs = new HashMap<>();
         for (VerificationKey key : from) {
             try {
                 String address = key.address().toString();
-                List<Bitcoin.Transaction> transactions = getAddressTransactions(address);
+                List<Bitcoin.Transaction> transactions = getAddressTransactions(address, 2);
                 if (transactions.size() > 1) return null;
-                org.bitcoinj.core.Transaction tx2 = getTransaction(transactions.get(0).hash);
+                org.bitcoinj.core.Transaction tx2 = cachedTransaction(transactions.get(0).hash);
                 for (TransactionOutput output : tx2.getOutputs()) {
                     String addressP2pkh = output.getAddressFromP2PKHScript(netParams).toString();
                     if (address.equals(addressP2pkh)) {
                         tx.addInput(output);
+                        inputs.put(address, tx.getInputs().size() - 1);
                         if (!changeAddresses.containsKey(key) | changeAddresses.get(key) != null) {
                             try {
                                 tx.addOutput(output.getValue().subtract(
@@ -265,7 +465,7 @@ public abstract class Bitcoin implements Coin {
         for (Address sendto : to) {
             String address = sendto.toString();
             try {
-                List<Bitcoin.Transaction> transactions = getAddressTransactions(address);
+                List<Bitcoin.Transaction> transactions = getAddressTransactions(address, 1);
                 if (transactions.size() > 0) return null;
             } catch (IOException e) {
                 throw new CoinNetworkException("Could not generate shuffle tx: " + e.getMessage());
@@ -278,7 +478,26 @@ public abstract class Bitcoin implements Coin {
             }
         }
 
-        return new Transaction(tx.getHashAsString(), tx, true);
+        Transaction t = new Transaction(tx.getHashAsString(), tx, true);
+        t.inputs = inputs;
+        return t;
+    }
+
+    // Maps the address that each input spends from to the position of the input, so that
+    // a signature can be matched with its input without trying all of them.
+    Map<String, Integer> indexInputs(org.bitcoinj.core.Transaction tx) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < tx.getInputs().size(); i++) {
+            TransactionOutput output = tx.getInput(i).getConnectedOutput();
+            if (output == null) continue;
+
+            org.bitcoinj.core.Address address = output.getAddressFromP2PKHScript(netParams);
+            if (address != null) {
+                index.put(address.toString(), i);
+            }
+        }
+
+        return index;
     }
 
     /**
@@ -297,6 +516,27 @@ public abstract class Bitcoin implements Coin {
         }
     }
 
+    // The balances of several addresses, looked up together if the service allows it.
+    public Map<Address, Long> valueHeld(Collection<Address> addrs)
+            throws CoinNetworkException, AddressFormatException {
+
+        Map<Address, Long> values = new HashMap<>();
+        try {
+            Map<String, List<Bitcoin.Transaction>> transactions
+                    = getAddressTransactions(addresses(addrs), 0);
+
+            for (Address addr : addrs) {
+                String address = addr.toString();
+                values.put(addr, transactions == null ? getAddressBalance(address)
+                        : balance(address, outpoints(address, transactions.get(address))));
+            }
+        } catch (IOException e) {
+            throw new CoinNetworkException("Could not look up balance: " + e.getMessage());
+        }
+
+        return values;
+    }
+
     /**
      *
      * The sumUnspentTxOutputs takes in a list of transactions, sums the UTXOs pertaining to address,
@@ -304,81 +544,198 @@ public abstract class Bitcoin implements Coin {
      *
      */
 
-    protected synchronized long getAddressBalance(String address) throws IOException, CoinNetworkException, AddressFormatException {
+    protected long getAddressBalance(String address) throws IOException, CoinNetworkException, AddressFormatException {
 
-        List<Bitcoin.Transaction> txList = getAddressTransactions(address);
+        return balance(address, outpoints(address));
+    }
 
+    private long balance(String address, Outpoints outpoints) {
         long sum = 0;
-        for (Bitcoin.Transaction tx : txList) {
-            org.bitcoinj.core.Transaction tx2 = tx.bitcoinj;
-            String txhash = tx.hash;
-            boolean usedInput = false;
-
-            // check that txhash hasn't been used as input in any transactions, if it has, we discard.
-            outerloop:
-            for (Bitcoin.Transaction checkTx : txList) {
-                org.bitcoinj.core.Transaction tempTx = checkTx.bitcoinj;
-                for (TransactionInput input : tempTx.getInputs()) {
-                    if (input.getOutpoint().getHash().toString().equals(txhash)) {
-                        usedInput = true;
-                        break outerloop;
-                    }
-                }
-            }
+        for (Bitcoin.Transaction tx : outpoints.transactions) {
+            sum += unspent(address, tx.bitcoinj, outpoints);
+        }
 
-            // else, we find the specific output in the transaction pertaining to our address, and add the value to sum.
+        return sum;
+    }
 
-            if (!usedInput) {
-                for (TransactionOutput output : tx2.getOutputs()) {
-                    String addressP2pkh = output.getAddressFromP2PKHScript(netParams).toString();
-                    if (address.equals(addressP2pkh)) {
-                        sum += output.getValue().getValue();
-                        break;
-                    }
-                }
-            }
+    // The value of the outputs of tx to the given address which no transaction in outpoints spends.
+    private long unspent(String address, org.bitcoinj.core.Transaction tx, Outpoints outpoints) {
+        long sum = 0;
+        for (TransactionOutput output : tx.getOutputs()) {
+            org.bitcoinj.core.Address addressP2pkh = output.getAddressFromP2PKHScript(netParams);
+            if (addressP2pkh != null && address.equals(addressP2pkh.toString())
+                    && !outpoints.spent(output.getOutPointFor())) {
 
+                sum += output.getValue().getValue();
+            }
         }
 
         return sum;
     }
 
+    // The transactions of an address together with an index of the outputs they spend.
+    // The index is made once for each list we get from getAddressTransactions.
+    Outpoints outpoints(String address)
+            throws IOException, CoinNetworkException, AddressFormatException {
+
+        return outpoints(address, getAddressTransactions(address));
+    }
+
+    Outpoints outpoints(String address, final List<Bitcoin.Transaction> transactions)
+            throws IOException, CoinNetworkException {
+
+        if (transactions == null) {
+            throw new IOException("Could not list the transactions of " + address);
+        }
+
+        // Ensures that all transactions have the bitcoinj field set
+        for (Bitcoin.Transaction tx : transactions) {
+            if (tx.bitcoinj == null) {
+                tx.bitcoinj = cachedTransaction(tx.hash);
+                if (tx.bitcoinj == null) throw new IOException("Could not get transaction " + tx.hash);
+            }
+        }
+
+        Callable<Outpoints> index = new Callable<Outpoints>() {
+            @Override
+            public Outpoints call() {
+                return new Outpoints(transactions);
+            }
+        };
+
+        try {
+            Outpoints outpoints = outpointCache.get(address, index);
+            if (outpoints.transactions == transactions) return outpoints;
+
+            // The index was made from an older list.
+            outpointCache.invalidate(address);
+            outpoints = outpointCache.get(address, index);
+            if (outpoints.transactions == transactions) return outpoints;
+
+            return new Outpoints(transactions);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new CoinNetworkException(e.getCause().getMessage());
+        }
+    }
+
     @Override
     public final boolean sufficientFunds(Address addr, long amount) throws CoinNetworkException, AddressFormatException, IOException {
         String address = addr.toString();
 
-        List<Bitcoin.Transaction> transactions = getAddressTransactions(address);
+        // We only need to know whether there is more than one transaction.
+        return sufficientFunds(address, getAddressTransactions(address, 2), amount);
+    }
+
+    // Whether the given transactions of an address leave it with enough funds.
+    boolean sufficientFunds(String address, List<Bitcoin.Transaction> transactions, long amount)
+            throws CoinNetworkException {
 
         if (transactions.size() == 1) {
             Bitcoin.Transaction tx = transactions.get(0);
             if (!tx.confirmed) {
                 return false;
             }
-            long txAmount = 0;
 
-            if (tx.bitcoinj == null) {
-                try {
-                    tx.bitcoinj = getTransaction(tx.hash);
-                } catch (IOException e) {
-                    return false;
-                }
+            Outpoints outpoints;
+            try {
+                outpoints = outpoints(address, transactions);
+            } catch (IOException e) {
+                return false;
             }
 
-            for (TransactionOutput output : tx.bitcoinj.getOutputs()) {
+            /**
+             * Every address in the outputs should be of type pay to public key hash, not pay to script hash
+             */
+            return unspent(address, tx.bitcoinj, outpoints) >= amount;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public Set<Address> insufficientFunds(Collection<Address> addrs, long amount)
+            throws CoinNetworkException, AddressFormatException, IOException, InterruptedException {
+
+        Map<Address, Long> amounts = new HashMap<>();
+        for (Address addr : addrs) {
+            amounts.put(addr, amount);
+        }
+
+        Set<Address> insufficient = new HashSet<>();
+        for (Map.Entry<Address, Boolean> entry : sufficientFunds(amounts).entrySet()) {
+            if (!entry.getValue()) {
+                insufficient.add(entry.getKey());
+            }
+        }
+
+        return insufficient;
+    }
 
-                /**
-                 * Every address in the outputs should be of type pay to public key hash, not pay to script hash
-                 */
+    // Whether each address holds sufficient funds for the amount given for it. If the service
+    // can look up several addresses in one request, they are all looked up together.
+    // Otherwise the lookups are made concurrently, since each one may be a round trip.
+    public Map<Address, Boolean> sufficientFunds(Map<Address, Long> amounts)
+            throws CoinNetworkException, AddressFormatException, IOException, InterruptedException {
 
-                String addressP2pkh = output.getAddressFromP2PKHScript(netParams).toString();
-                if (address.equals(addressP2pkh)) {
-                    txAmount += output.getValue().value;
+        Map<Address, Boolean> sufficient = new HashMap<>();
+        if (amounts.isEmpty()) return sufficient;
+
+        // We only need to know whether each address has more than one transaction.
+        Map<String, List<Bitcoin.Transaction>> transactions
+                = getAddressTransactions(addresses(amounts.keySet()), 2);
+
+        if (transactions != null) {
+            for (Map.Entry<Address, Long> entry : amounts.entrySet()) {
+                String address = entry.getKey().toString();
+                sufficient.put(entry.getKey(),
+                        sufficientFunds(address, transactions.get(address), entry.getValue()));
+            }
+
+            return sufficient;
+        }
+
+        List<Address> list = new ArrayList<>(amounts.keySet());
+        List<Callable<Boolean>> checks = new ArrayList<>();
+        for (final Address addr : list) {
+            final long amount = amounts.get(addr);
+            checks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return sufficientFunds(addr, amount);
+                }
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(maxLookups, checks.size()));
+        try {
+            List<Future<Boolean>> results
+                    = pool.invokeAll(checks, lookupTimeout, TimeUnit.MILLISECONDS);
+
+            for (int i = 0; i < list.size(); i++) {
+                Future<Boolean> result = results.get(i);
+                if (result.isCancelled()) {
+                    throw new CoinNetworkException("Timed out checking funds of " + list.get(i));
+                }
+
+                try {
+                    sufficient.put(list.get(i), result.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof CoinNetworkException) throw (CoinNetworkException) cause;
+                    if (cause instanceof AddressFormatException) throw (AddressFormatException) cause;
+                    if (cause instanceof IOException) throw (IOException) cause;
+                    throw new CoinNetworkException(cause.getMessage());
                 }
             }
-            return txAmount >= amount;
-        } else {
-            return false;
+        } finally {
+            pool.shutdownNow();
         }
+
+        return sufficient;
     }
 
     @Override
@@ -386,38 +743,116 @@ public abstract class Bitcoin implements Coin {
             com.shuffle.bitcoin.Transaction t, Address addr, long amount) throws CoinNetworkException, AddressFormatException {
 
         if (!(t instanceof Transaction)) throw new IllegalArgumentException();
-        Transaction transaction = (Transaction)t;
 
-        String address = addr.toString();
+        return getConflictingTransaction((Transaction) t, addr);
+    }
+
+    // If the service can look up several addresses in one request, they are all looked
+    // up together. Otherwise the lookups for each address are made concurrently, and we
+    // stop as soon as a conflict is found.
+    @Override
+    public Map<Address, com.shuffle.bitcoin.Transaction> getConflictingTransactions(
+            com.shuffle.bitcoin.Transaction t, Collection<Address> addrs, long amount)
+            throws CoinNetworkException, AddressFormatException, InterruptedException {
+
+        if (!(t instanceof Transaction)) throw new IllegalArgumentException();
+        final Transaction transaction = (Transaction) t;
+
+        Map<Address, com.shuffle.bitcoin.Transaction> conflicts = new HashMap<>();
+        if (addrs.isEmpty()) return conflicts;
 
-        List<Bitcoin.Transaction> transactions = null;
         try {
-            transactions = getAddressTransactions(address);
+            Map<String, List<Bitcoin.Transaction>> transactions
+                    = getAddressTransactions(addresses(addrs), 0);
+
+            if (transactions != null) {
+                for (Address addr : addrs) {
+                    String address = addr.toString();
+                    com.shuffle.bitcoin.Transaction conflict
+                            = conflict(transaction, outpoints(address, transactions.get(address)));
+                    if (conflict != null) {
+                        conflicts.put(addr, conflict);
+                    }
+                }
+
+                return conflicts;
+            }
         } catch (IOException e) {
-            // Can we return null here?
-            return null;
+            throw new CoinNetworkException("Could not look for double spends: " + e.getMessage());
         }
 
-        // Ensures that all transactions have the bitcoinj field set
-        for (Bitcoin.Transaction tx : transactions) {
-            if (tx.bitcoinj == null) {
+        long deadline = System.currentTimeMillis() + lookupTimeout;
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(maxLookups, addrs.size()));
+        try {
+            CompletionService<com.shuffle.bitcoin.Transaction> lookups
+                    = new ExecutorCompletionService<>(pool);
+
+            Map<Future<com.shuffle.bitcoin.Transaction>, Address> pending = new HashMap<>();
+            for (final Address addr : addrs) {
+                pending.put(lookups.submit(new Callable<com.shuffle.bitcoin.Transaction>() {
+                    @Override
+                    public com.shuffle.bitcoin.Transaction call() throws Exception {
+                        return getConflictingTransaction(transaction, addr);
+                    }
+                }), addr);
+            }
+
+            while (!pending.isEmpty()) {
+                // Once we have found a conflict, only collect those lookups which are done.
+                Future<com.shuffle.bitcoin.Transaction> f = conflicts.isEmpty()
+                        ? lookups.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS)
+                        : lookups.poll();
+
+                if (f == null) {
+                    if (!conflicts.isEmpty()) break;
+
+                    throw new CoinNetworkException("Timed out looking for double spends.");
+                }
+
+                Address addr = pending.remove(f);
                 try {
-                    tx.bitcoinj = getTransaction(tx.hash);
-                } catch (IOException e) {
-                    // We should not have an IOException
-                    return null;
+                    com.shuffle.bitcoin.Transaction conflict = f.get();
+                    if (conflict != null) {
+                        conflicts.put(addr, conflict);
+                    }
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof CoinNetworkException) throw (CoinNetworkException) cause;
+                    if (cause instanceof AddressFormatException) throw (AddressFormatException) cause;
+                    throw new CoinNetworkException(cause.getMessage());
                 }
             }
+        } finally {
+            pool.shutdownNow();
         }
 
-        for (Bitcoin.Transaction tx : transactions) {
-            for (TransactionInput input : tx.bitcoinj.getInputs()) {
-                // Can be multiple inputs for transaction parameter.
-                for (TransactionInput txInput : transaction.bitcoinj.getInputs()) {
-                    if (input.equals(txInput)) {
-                        return tx;
-                    }
-                }
+        return conflicts;
+    }
+
+    private com.shuffle.bitcoin.Transaction getConflictingTransaction(
+            Transaction transaction, Address addr)
+            throws CoinNetworkException, AddressFormatException {
+
+        String address = addr.toString();
+
+        Outpoints outpoints;
+        try {
+            outpoints = outpoints(address);
+        } catch (IOException e) {
+            // Can we return null here?
+            return null;
+        }
+
+        return conflict(transaction, outpoints);
+    }
+
+    // The transaction among outpoints which spends one of the same outputs as transaction.
+    com.shuffle.bitcoin.Transaction conflict(Transaction transaction, Outpoints outpoints) {
+        // Can be multiple inputs for transaction parameter.
+        for (TransactionInput txInput : transaction.bitcoinj.getInputs()) {
+            Bitcoin.Transaction spender = outpoints.spender(txInput.getOutpoint());
+            if (spender != null) {
+                return spender;
             }
         }
 
@@ -425,6 +860,14 @@ public abstract class Bitcoin implements Coin {
     }
 
     public org.bitcoinj.core.Transaction signTransaction(org.bitcoinj.core.Transaction signTx, List<Bytestring> programSignatures) {
+        return signTransaction(new Transaction(signTx.getHashAsString(), signTx, false), programSignatures);
+    }
+
+    // Each input script goes to the input spending from the address of its public key.
+    // Only if it does not verify there do we try the other inputs.
+    org.bitcoinj.core.Transaction signTransaction(Transaction t, List<Bytestring> programSignatures) {
+        org.bitcoinj.core.Transaction signTx = t.bitcoinj;
+        Map<String, Integer> inputs = t.inputs();
 
         List<Script> inputScripts = new LinkedList<>();
         for (Bytestring programs : programSignatures) {
@@ -434,77 +877,400 @@ public abstract class Bitcoin implements Coin {
         }
 
         for (Script inScript : inputScripts) {
+            Integer index = inputs.get(signer(inScript));
+            if (index != null && setInputScript(t, index, inScript)) {
+                continue;
+            }
+
+            boolean found = false;
             for (int i = 0; i < signTx.getInputs().size(); i++) {
-                TransactionInput input = signTx.getInput(i);
-                TransactionOutput connectedOutput = input.getConnectedOutput();
-                byte[] originalScript = input.getScriptBytes().clone();
-                input.setScriptSig(inScript);
-                try {
-                    input.verify(connectedOutput);
+                if (setInputScript(t, i, inScript)) {
+                    found = true;
                     break;
-                } catch (VerificationException e) {
-                    input.setScriptSig(this.bytestringToInputScript(new Bytestring(originalScript)));
-                    if (i == signTx.getInputs().size() - 1) {
-                        return null;
-                    }
                 }
             }
+
+            if (!found) {
+                return null;
+            }
         }
 
         return signTx;
     }
 
+    // The scripts are checked concurrently and then added to the transaction one at a time.
+    // Returns the keys of those scripts which do not verify against any input.
+    <K> Set<K> addInputScripts(Transaction t, Map<K, Bytestring> scripts)
+            throws InterruptedException {
+
+        Map<String, Integer> inputs = t.inputs();
+        Set<K> invalid = new HashSet<>();
+        List<K> keys = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        List<Script> parsed = new ArrayList<>();
+        for (Map.Entry<K, Bytestring> entry : scripts.entrySet()) {
+            Script script;
+            try {
+                script = bytestringToInputScript(entry.getValue());
+            } catch (ScriptException e) {
+                invalid.add(entry.getKey());
+                continue;
+            }
+
+            keys.add(entry.getKey());
+            indices.add(inputs.get(signer(script)));
+            parsed.add(script);
+        }
+
+        List<Boolean> checked = checkInputs(t, indices, parsed);
+
+        for (int j = 0; j < keys.size(); j++) {
+            Boolean ok = checked.get(j);
+            if (ok != null && ok) {
+                t.bitcoinj.getInput(indices.get(j)).setScriptSig(parsed.get(j));
+                continue;
+            }
+
+            // Anything that could not be checked directly goes the slow way, which
+            // also tries the script against the other inputs.
+            List<Bytestring> script = new LinkedList<>();
+            script.add(new Bytestring(parsed.get(j).getProgram()));
+            if (signTransaction(t, script) == null) {
+                invalid.add(keys.get(j));
+            }
+        }
+
+        return invalid;
+    }
+
+    // Check each script against the input with the same position in indices, using the
+    // verifier if there is one. An entry in the result is null if the script has no input
+    // or could not be checked without bitcoinj.
+    private List<Boolean> checkInputs(
+            final Transaction t, List<Integer> indices, List<Script> scripts)
+            throws InterruptedException {
+
+        // Hashing in bitcoinj temporarily changes the transaction, so every hash is computed
+        // here before fanning out. The checks only read the cached hashes after that.
+        List<Callable<Boolean>> checks = new ArrayList<>();
+        for (int j = 0; j < indices.size(); j++) {
+            final Integer index = indices.get(j);
+            final Script script = scripts.get(j);
+            if (index != null) t.sighash(index);
+
+            checks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return index == null ? null : t.checkInput(index, script);
+                }
+            });
+        }
+
+        ExecutorService verifier = this.verifier;
+        List<Future<Boolean>> futures;
+        if (verifier == null || checks.size() < 2) {
+            futures = new ArrayList<>();
+            for (Callable<Boolean> check : checks) {
+                FutureTask<Boolean> f = new FutureTask<>(check);
+                f.run();
+                futures.add(f);
+            }
+        } else {
+            futures = verifier.invokeAll(checks);
+        }
+
+        List<Boolean> results = new ArrayList<>();
+        for (Future<Boolean> f : futures) {
+            try {
+                results.add(f.get());
+            } catch (ExecutionException e) {
+                results.add(null);
+            }
+        }
+
+        return results;
+    }
+
+    // The address of the key which made an input script, or null if it can't be read.
+    private String signer(Script inputScript) {
+        try {
+            return new org.bitcoinj.core.Address(
+                    netParams, Utils.sha256hash160(inputScript.getPubKey())).toString();
+        } catch (ScriptException e) {
+            return null;
+        }
+    }
+
+    // Set the script of the given input. The original is restored if it does not verify.
+    private boolean setInputScript(Transaction t, int i, Script inScript) {
+        TransactionInput input = t.bitcoinj.getInput(i);
+        byte[] originalScript = input.getScriptBytes().clone();
+        input.setScriptSig(inScript);
+        if (t.verifyInput(i)) {
+            return true;
+        }
+
+        input.setScriptSig(this.bytestringToInputScript(new Bytestring(originalScript)));
+        return false;
+    }
+
     /**
      * Takes in a transaction and a private key and returns a signature (if possible)
      * as a Bytestring object.
      */
     public Bytestring getSignature(org.bitcoinj.core.Transaction signTx, ECKey privKey) {
+        return getSignature(new Transaction(signTx.getHashAsString(), signTx, false), privKey);
+    }
 
-        org.bitcoinj.core.Transaction copyTx = signTx;
-
-        for (int i = 0; i < copyTx.getInputs().size(); i++) {
-            TransactionInput input = copyTx.getInput(i);
-            TransactionOutput connectedOutput = input.getConnectedOutput();
-            Sha256Hash hash = copyTx.hashForSignature(i, connectedOutput.getScriptPubKey(), org.bitcoinj.core.Transaction.SigHash.ALL, false);
-            ECKey.ECDSASignature ecSig = privKey.sign(hash);
-            TransactionSignature txSig = new TransactionSignature(ecSig, org.bitcoinj.core.Transaction.SigHash.ALL, false);
-            byte[] originalScript = input.getScriptBytes().clone();
-            Script inputScript = ScriptBuilder.createInputScript(txSig, ECKey.fromPublicOnly(privKey.getPubKey()));
-            input.setScriptSig(inputScript);
-            try {
-                input.verify(connectedOutput);
-                return new Bytestring(inputScript.getProgram());
-            } catch (VerificationException e) {
-                input.setScriptSig(this.bytestringToInputScript(new Bytestring(originalScript)));
-            }
+    Bytestring getSignature(Transaction t, ECKey privKey) {
+
+        // Go directly to the input spending from our address if we can find it.
+        Integer index = t.inputs().get(privKey.toAddress(netParams).toString());
+        if (index != null) {
+            Bytestring signature = getSignature(t, privKey, index);
+            if (signature != null) return signature;
+        }
+
+        for (int i = 0; i < t.bitcoinj.getInputs().size(); i++) {
+            Bytestring signature = getSignature(t, privKey, i);
+            if (signature != null) return signature;
         }
 
         return null;
     }
 
+    private Bytestring getSignature(Transaction t, ECKey privKey, int i) {
+        ECKey.ECDSASignature ecSig = privKey.sign(t.sighash(i));
+        TransactionSignature txSig = new TransactionSignature(ecSig, org.bitcoinj.core.Transaction.SigHash.ALL, false);
+        Script inputScript = ScriptBuilder.createInputScript(txSig, ECKey.fromPublicOnly(privKey.getPubKey()));
+
+        if (!setInputScript(t, i, inputScript)) return null;
+
+        return new Bytestring(inputScript.getProgram());
+    }
+
     // Converts a Bytestring object to a Script object.
     public Script bytestringToInputScript(Bytestring program) {
         return new Script(program.bytes);
     }
 
-    // Since we rely on 3rd party services to query the blockchain, by
-    // default we cache the result.
-    protected synchronized List<Bitcoin.Transaction> getAddressTransactions(String address)
+    private <X> Future<X> submit(Callable<X> call) {
+        FutureTask<X> task = new FutureTask<>(call);
+
+        Executor lookups = this.lookups;
+        if (lookups == null) {
+            Thread thread = new Thread(task);
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            lookups.execute(task);
+        }
+
+        return task;
+    }
+
+    @Override
+    public Future<com.shuffle.bitcoin.Transaction> shuffleTransactionAsync(
+            final long amount,
+            final List<VerificationKey> from,
+            final Queue<Address> to,
+            final Map<VerificationKey, Address> changeAddresses) {
+
+        return submit(new Callable<com.shuffle.bitcoin.Transaction>() {
+            @Override
+            public com.shuffle.bitcoin.Transaction call() throws Exception {
+                return shuffleTransaction(amount, from, to, changeAddresses);
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<Address, Long>> valueHeldAsync(final Collection<Address> addrs) {
+        return submit(new Callable<Map<Address, Long>>() {
+            @Override
+            public Map<Address, Long> call() throws Exception {
+                return valueHeld(addrs);
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<Address, Boolean>> sufficientFundsAsync(final Map<Address, Long> amounts) {
+        return submit(new Callable<Map<Address, Boolean>>() {
+            @Override
+            public Map<Address, Boolean> call() throws Exception {
+                return sufficientFunds(amounts);
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<Address, com.shuffle.bitcoin.Transaction>> getConflictingTransactionsAsync(
+            final com.shuffle.bitcoin.Transaction transaction,
+            final Collection<Address> addrs,
+            final long amount) {
+
+        return submit(new Callable<Map<Address, com.shuffle.bitcoin.Transaction>>() {
+            @Override
+            public Map<Address, com.shuffle.bitcoin.Transaction> call() throws Exception {
+                return getConflictingTransactions(transaction, addrs, amount);
+            }
+        });
+    }
+
+    static Set<String> addresses(Collection<Address> addrs) {
+        Set<String> addresses = new HashSet<>();
+        for (Address addr : addrs) {
+            addresses.add(addr.toString());
+        }
+        return addresses;
+    }
+
+    // The transactions of several addresses, looked up together. If limit is positive, at
+    // most that many are returned for each address. Null means that they must be looked up
+    // one at a time. The lookup is given as long as the lookups of single addresses.
+    // Addresses in the cache are not looked up again, and the results are cached as if
+    // each address had been looked up alone.
+    protected Map<String, List<Bitcoin.Transaction>> getAddressTransactions(
+            Collection<String> addresses, final int limit)
             throws IOException, CoinNetworkException, AddressFormatException {
 
-        long now = System.currentTimeMillis();
-        Cached cached = cache.get(address);
-        if (cached != null) {
-            if (now - cached.last < cach_expire) {
-                return cached.txList;
+        Map<String, List<Bitcoin.Transaction>> transactions = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+        for (String address : addresses) {
+            List<Bitcoin.Transaction> cached = addressCache.peek(addressKey(address, limit));
+            if (cached == null) {
+                missing.add(address);
+            } else {
+                transactions.put(address, cached);
+            }
+        }
+
+        if (missing.isEmpty()) return transactions;
+
+        FutureTask<Map<String, List<Bitcoin.Transaction>>> lookup = new FutureTask<>(
+                new Callable<Map<String, List<Bitcoin.Transaction>>>() {
+                    @Override
+                    public Map<String, List<Bitcoin.Transaction>> call() throws Exception {
+                        return getAddressTransactionsInner(missing, limit);
+                    }
+                });
+
+        // Not run on the lookups executor, since we may have been called from there.
+        daemons("batched lookup").newThread(lookup).start();
+
+        Map<String, List<Bitcoin.Transaction>> found;
+        try {
+            found = lookup.get(lookupTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            lookup.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (java.util.concurrent.TimeoutException e) {
+            lookup.cancel(true);
+            throw new CoinNetworkException(
+                    "Timed out looking up " + addresses.size() + " addresses.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof CoinNetworkException) throw (CoinNetworkException) cause;
+            if (cause instanceof AddressFormatException) throw (AddressFormatException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new CoinNetworkException(cause.getMessage());
+        }
+
+        if (found == null) return null;
+
+        for (String address : missing) {
+            List<Bitcoin.Transaction> list = found.get(address);
+            if (list != null) {
+                addressCache.put(addressKey(address, limit), list);
             }
+            transactions.put(address, list);
         }
 
-        List<Bitcoin.Transaction> txList = getAddressTransactionsInner(address);
+        return transactions;
+    }
 
-        cache.put(address, new Cached(address, txList, System.currentTimeMillis()));
+    // Services which can look up more than one address in a request should override this.
+    // An address with too many transactions to list is mapped to null.
+    protected Map<String, List<Bitcoin.Transaction>> getAddressTransactionsInner(
+            Collection<String> addresses, int limit)
+            throws IOException, CoinNetworkException, AddressFormatException {
 
-        return txList;
+        return null;
+    }
+
+    // Since we rely on 3rd party services to query the blockchain, by
+    // default we cache the result. Not synchronized, so that lookups of
+    // different addresses can be made at the same time.
+    protected List<Bitcoin.Transaction> getAddressTransactions(final String address)
+            throws IOException, CoinNetworkException, AddressFormatException {
+
+        return cachedAddressTransactions(addressKey(address, 0), new Callable<List<Bitcoin.Transaction>>() {
+            @Override
+            public List<Bitcoin.Transaction> call() throws Exception {
+                return getAddressTransactionsInner(address);
+            }
+        });
+    }
+
+    // At most limit of the transactions of an address. This is all we need when we
+    // only want to know whether an address has more than a few transactions.
+    protected List<Bitcoin.Transaction> getAddressTransactions(final String address, final int limit)
+            throws IOException, CoinNetworkException, AddressFormatException {
+
+        return cachedAddressTransactions(addressKey(address, limit),
+                new Callable<List<Bitcoin.Transaction>>() {
+                    @Override
+                    public List<Bitcoin.Transaction> call() throws Exception {
+                        return getAddressTransactionsInner(address, limit);
+                    }
+                });
+    }
+
+    // Where the transactions of an address are kept in addressCache.
+    private static String addressKey(String address, int limit) {
+        return limit > 0 ? address + "?limit=" + limit : address;
+    }
+
+    private List<Bitcoin.Transaction> cachedAddressTransactions(
+            String key, Callable<List<Bitcoin.Transaction>> lookup)
+            throws IOException, CoinNetworkException, AddressFormatException {
+
+        try {
+            return addressCache.get(key, lookup);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof CoinNetworkException) throw (CoinNetworkException) cause;
+            if (cause instanceof AddressFormatException) throw (AddressFormatException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new CoinNetworkException(cause.getMessage());
+        }
+    }
+
+    // Look up a transaction by hash, remembering the result.
+    org.bitcoinj.core.Transaction cachedTransaction(final String hash) throws IOException {
+        try {
+            return transactionCache.get(hash, new Callable<org.bitcoinj.core.Transaction>() {
+                @Override
+                public org.bitcoinj.core.Transaction call() throws Exception {
+                    return getTransaction(hash);
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
     }
 
     protected boolean send(Bitcoin.Transaction t) throws ExecutionException, InterruptedException, CoinNetworkException {
@@ -525,7 +1291,18 @@ public abstract class Bitcoin implements Coin {
     abstract protected List<Bitcoin.Transaction> getAddressTransactionsInner(String address)
             throws IOException, CoinNetworkException, AddressFormatException;
 
-    // Should be synchronized.
+    // Services which can be asked for only part of the history should override this.
+    protected List<Bitcoin.Transaction> getAddressTransactionsInner(String address, int limit)
+            throws IOException, CoinNetworkException, AddressFormatException {
+
+        List<Bitcoin.Transaction> transactions = getAddressTransactionsInner(address);
+        if (transactions == null || transactions.size() <= limit) return transactions;
+
+        return new ArrayList<>(transactions.subList(0, limit));
+    }
+
+    // May be called from several threads at once. Services which cannot handle
+    // concurrent requests must synchronize it themselves.
     abstract org.bitcoinj.core.Transaction getTransaction(String transactionHash)
             throws IOException;
 }
@@ -18,11 +18,16 @@ import org.json.JSONObject;
 import org.json.JSONTokener;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-
-import javax.xml.bind.annotation.adapters.HexBinaryAdapter;
+import java.util.Map;
 
 
 /**
@@ -43,6 +48,9 @@ public final class BlockCypherDotCom extends Bitcoin {
 
    final RateLimiter rateLimiter = RateLimiter.create(3.0);
 
+   // The number of addresses that can be looked up in one request.
+   static int maxBatch = 3;
+
    public BlockCypherDotCom(NetworkParameters netParams, int minPeers) {
       super(netParams, minPeers);
    }
@@ -94,31 +102,141 @@ public final class BlockCypherDotCom extends Bitcoin {
      */
     public List<Transaction> getAddressTransactionsInner(String address) throws IOException, CoinNetworkException, AddressFormatException {
 
-        String url;
+        List<Transaction> txhashes = getAddressTransactions(new URL(addressUrl(address)));
+        if (txhashes.size() == 50) {
+            return null;
+        }
+        return txhashes;
+    }
+
+    // Only the first few transactions are requested.
+    @Override
+    protected List<Transaction> getAddressTransactionsInner(String address, int limit) throws IOException, CoinNetworkException, AddressFormatException {
+        return getAddressTransactions(new URL(addressUrl(address) + "?limit=" + limit));
+    }
+
+    private String addressUrl(String address) throws AddressFormatException {
+        return addressesUrl(address, address);
+    }
+
+    // Several addresses are separated by semicolons. The network is
+    // determined from the given address.
+    private String addressesUrl(String addresses, String address) throws AddressFormatException {
         if (Address.getParametersFromAddress(address)==NetworkParameters.fromID(NetworkParameters.ID_TESTNET)) {
-            url = "https://api.blockcypher.com/v1/btc/test3/addrs/" + address + "/full";
+            return "https://api.blockcypher.com/v1/btc/test3/addrs/" + addresses + "/full";
         } else {
-            url = "https://api.blockcypher.com/v1/btc/main/addrs/" + address + "/full";
+            return "https://api.blockcypher.com/v1/btc/main/addrs/" + addresses + "/full";
         }
+    }
 
-        URL obj = new URL(url);
+    private List<Transaction> getAddressTransactions(URL obj) throws IOException {
         rateLimiter.acquire();
-        JSONTokener tokener = new JSONTokener(obj.openStream());
-        JSONObject root = new JSONObject(tokener);
-        List<Transaction> txhashes = new LinkedList<>();
-        for (int i = 0; i < root.getJSONArray("txs").length(); i++) {
-            boolean confirmed;
-            String blockHeight = root.getJSONArray("txs").getJSONObject(i).get("block_height").toString();
-            confirmed = blockHeight != null;
-            txhashes.add(new Transaction(
-                    root.getJSONArray("txs").getJSONObject(i).get("hash").toString(), false, confirmed));
-        }
-        if (txhashes.size() == 50) {
-            return null;
+        final List<Transaction> txhashes = new LinkedList<>();
+
+        // The full transactions can be long, so they are read one at a time.
+        try (Reader in = new InputStreamReader(obj.openStream(), StandardCharsets.UTF_8)) {
+            readAddress(new JSONTokener(in), txhashes);
         }
         return txhashes;
     }
 
+    // Several addresses are looked up in each request. An address counts
+    // as a request of its own against the rate limit.
+    @Override
+    protected Map<String, List<Transaction>> getAddressTransactionsInner(
+            Collection<String> addresses, int limit) throws IOException, AddressFormatException {
+
+        final Map<String, List<Transaction>> transactions = new HashMap<>();
+        List<String> list = new ArrayList<>(addresses);
+        for (int i = 0; i < list.size(); i += maxBatch) {
+            List<String> batch = list.subList(i, Math.min(i + maxBatch, list.size()));
+
+            StringBuilder addrs = new StringBuilder();
+            for (String address : batch) {
+                if (addrs.length() > 0) addrs.append(';');
+                addrs.append(address);
+            }
+
+            String url = addressesUrl(addrs.toString(), batch.get(0));
+            if (limit > 0) url += "?limit=" + limit;
+
+            rateLimiter.acquire(batch.size());
+            try (Reader in = new InputStreamReader(
+                    new URL(url).openStream(), StandardCharsets.UTF_8)) {
+
+                // We get an array of addresses, unless only one was asked for.
+                JSONTokener json = new JSONTokener(in);
+                char c = json.nextClean();
+                json.back();
+                if (c == '[') {
+                    JsonStream.array(json, new JsonStream.Value() {
+                        @Override
+                        public void read(JSONTokener json) throws IOException {
+                            List<Transaction> txhashes = new LinkedList<>();
+                            transactions.put(readAddress(json, txhashes), txhashes);
+                        }
+                    });
+                } else {
+                    List<Transaction> txhashes = new LinkedList<>();
+                    transactions.put(readAddress(json, txhashes), txhashes);
+                }
+            }
+        }
+
+        for (String address : list) {
+            List<Transaction> txhashes = transactions.get(address);
+            if (txhashes == null) {
+                throw new IOException("No transactions returned for " + address);
+            }
+
+            // As when an address is looked up alone, we can't tell whether there were more.
+            if (limit <= 0 && txhashes.size() == 50) {
+                transactions.put(address, null);
+            }
+        }
+
+        return transactions;
+    }
+
+    // Reads an address and its transactions, one transaction at a time. Returns the address.
+    private String readAddress(JSONTokener json, final List<Transaction> txhashes)
+            throws IOException {
+
+        final String[] address = new String[1];
+        final String[] error = new String[1];
+        JsonStream.object(json, new JsonStream.Field() {
+            @Override
+            public void read(String key, JSONTokener json) throws IOException {
+                switch (key) {
+                    case "address":
+                        address[0] = json.nextValue().toString();
+                        break;
+                    case "error":
+                        error[0] = json.nextValue().toString();
+                        break;
+                    case "txs":
+                        JsonStream.array(json, new JsonStream.Value() {
+                            @Override
+                            public void read(JSONTokener json) {
+                                JSONObject tx = new JSONObject(json);
+                                boolean confirmed;
+                                String blockHeight = tx.get("block_height").toString();
+                                confirmed = blockHeight != null;
+                                txhashes.add(new Transaction(tx.get("hash").toString(), false, confirmed));
+                            }
+                        });
+                        break;
+                    default:
+                        json.nextValue();
+                }
+            }
+        });
+
+        if (error[0] != null) throw new IOException(error[0]);
+
+        return address[0];
+    }
+
     /**
      *
      * This function takes in a transaction hash and passes it to Blockchain.info's API.
@@ -137,8 +255,7 @@ public final class BlockCypherDotCom extends Bitcoin {
         rateLimiter.acquire();
         JSONTokener tokener = new JSONTokener(obj.openStream());
         JSONObject root = new JSONObject(tokener);
-        HexBinaryAdapter adapter = new HexBinaryAdapter();
-        byte[] bytearray = adapter.unmarshal(root.get("hex").toString());
+        byte[] bytearray = JsonStream.hex(root.get("hex").toString());
         org.bitcoinj.core.Transaction transaction = new org.bitcoinj.core.Transaction(netParams,bytearray);
         return transaction;
     }
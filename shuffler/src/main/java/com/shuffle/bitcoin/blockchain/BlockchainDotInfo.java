@@ -8,15 +8,15 @@
 
 package com.shuffle.bitcoin.blockchain;
 
-import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 
-import javax.xml.bind.annotation.adapters.HexBinaryAdapter;
 import org.bitcoinj.core.Context;
 import org.bitcoinj.core.NetworkParameters;
 import org.json.JSONTokener;
@@ -71,22 +71,7 @@ public final class BlockchainDotInfo extends Bitcoin {
      */
     protected final List<Transaction> getAddressTransactionsInner(String address) throws IOException {
 
-        String url = "https://blockchain.info/rawaddr/" + address;
-        URL obj = new URL(url);
-        JSONTokener tokener = new JSONTokener(obj.openStream());
-        JSONObject root = new JSONObject(tokener);
-        List<Transaction> txhashes = new LinkedList<>();
-        for (int i = 0; i < root.getJSONArray("txs").length(); i++) {
-            boolean confirmed;
-            String blockHeight = root.getJSONArray("txs").getJSONObject(i).get("block_height").toString();
-            if (blockHeight == null) {
-                confirmed = false;
-            } else {
-                confirmed = true;
-            }
-            txhashes.add(new Transaction(
-                    root.getJSONArray("txs").getJSONObject(i).get("hash").toString(), false, confirmed));
-        }
+        List<Transaction> txhashes = getAddressTransactions(new URL("https://blockchain.info/rawaddr/" + address));
         if (txhashes.size() == 50) {
             return null;
         }
@@ -94,6 +79,45 @@ public final class BlockchainDotInfo extends Bitcoin {
 
     }
 
+    // Only the first few transactions are requested.
+    @Override
+    protected final List<Transaction> getAddressTransactionsInner(String address, int limit) throws IOException {
+        return getAddressTransactions(new URL("https://blockchain.info/rawaddr/" + address + "?limit=" + limit));
+    }
+
+    private List<Transaction> getAddressTransactions(URL obj) throws IOException {
+        final List<Transaction> txhashes = new LinkedList<>();
+
+        // The response is read one transaction at a time.
+        try (Reader in = new InputStreamReader(obj.openStream(), StandardCharsets.UTF_8)) {
+            JsonStream.object(new JSONTokener(in), new JsonStream.Field() {
+                @Override
+                public void read(String key, JSONTokener json) throws IOException {
+                    if (!key.equals("txs")) {
+                        json.nextValue();
+                        return;
+                    }
+
+                    JsonStream.array(json, new JsonStream.Value() {
+                        @Override
+                        public void read(JSONTokener json) {
+                            JSONObject tx = new JSONObject(json);
+                            boolean confirmed;
+                            String blockHeight = tx.get("block_height").toString();
+                            if (blockHeight == null) {
+                                confirmed = false;
+                            } else {
+                                confirmed = true;
+                            }
+                            txhashes.add(new Transaction(tx.get("hash").toString(), false, confirmed));
+                        }
+                    });
+                }
+            });
+        }
+        return txhashes;
+    }
+
     /**
      *
      * This function takes in a transaction hash and passes it to Blockchain.info's API.
@@ -107,14 +131,10 @@ public final class BlockchainDotInfo extends Bitcoin {
         HttpURLConnection con = (HttpURLConnection) obj.openConnection();
         con.setRequestMethod("GET");
         con.setRequestProperty("User-Agent", userAgent);
-        BufferedReader in = new BufferedReader(new InputStreamReader(con.getInputStream()));
-        String inputLine;
-        StringBuilder response = new StringBuilder();
-        while ((inputLine = in.readLine()) != null) {
-            response.append(inputLine);
+        byte[] bytearray;
+        try (Reader in = new InputStreamReader(con.getInputStream(), StandardCharsets.US_ASCII)) {
+            bytearray = JsonStream.hex(in);
         }
-        HexBinaryAdapter adapter = new HexBinaryAdapter();
-        byte[] bytearray = adapter.unmarshal(response.toString());
         // bitcoinj needs this Context variable
         Context context = Context.getOrCreate(netParams);
         return new org.bitcoinj.core.Transaction(netParams, bytearray);
@@ -10,30 +10,26 @@ package com.shuffle.bitcoin.blockchain;
 
 import com.shuffle.bitcoin.CoinNetworkException;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import javax.xml.bind.DatatypeConverter;
-import javax.xml.bind.annotation.adapters.HexBinaryAdapter;
 
 import org.bitcoinj.core.AddressFormatException;
 import org.bitcoinj.core.Context;
 import org.bitcoinj.core.NetworkParameters;
 
-import org.apache.commons.codec.binary.Base64;
-
 import org.bitcoinj.store.BlockStoreException;
-import org.json.JSONArray;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
 /**
  * Created by Eugene Siegel on 4/22/16.
@@ -55,24 +51,29 @@ import org.json.JSONObject;
  * you can use the two flags in the command line:
  * "./btcd --addrindex --notls"
  *
+ * Lookups for all the players are sent to btcd together in one batch.
+ *
  */
 public class Btcd extends Bitcoin {
 
-    private final String rpcuser;
-    private final String rpcpass;
-    private final URL url;
+    private final BtcdClient client;
 
     public Btcd(NetworkParameters netParams, String rpcuser, String rpcpass)
             throws MalformedURLException {
 
+        this(netParams, defaultUrl(netParams), rpcuser, rpcpass);
+    }
+
+    public Btcd(NetworkParameters netParams, URL url, String rpcuser, String rpcpass) {
         super(netParams, 0);
-        this.rpcuser = rpcuser;
-        this.rpcpass = rpcpass;
+        client = new BtcdClient(url, rpcuser, rpcpass);
+    }
 
+    private static URL defaultUrl(NetworkParameters netParams) throws MalformedURLException {
         if (netParams.equals(NetworkParameters.fromID(NetworkParameters.ID_MAINNET))) {
-            url = new URL("http://127.0.0.1:8334");
+            return new URL("http://127.0.0.1:8334");
         } else if (netParams.equals(NetworkParameters.fromID(NetworkParameters.ID_TESTNET))) {
-            url = new URL("http://127.0.0.1:18334");
+            return new URL("http://127.0.0.1:18334");
         } else {
             throw new IllegalArgumentException("Invalid network parameters passed to btcd. ");
         }
@@ -81,119 +82,93 @@ public class Btcd extends Bitcoin {
     /**
      * This method takes in a transaction hash and returns a bitcoinj transaction object.
      */
-    synchronized org.bitcoinj.core.Transaction getTransaction(String transactionHash) throws IOException {
-
-        org.bitcoinj.core.Transaction tx = null;
-        String requestBody = "{\"jsonrpc\":\"2.0\",\"id\":\"null\",\"method\":\"getrawtransaction\", \"params\":[\"" + transactionHash + "\"]}";
-
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setDoOutput(true);
-        connection.setRequestMethod("POST");
-        connection.setRequestProperty("Content-Type", "application/json");
-        connection.setRequestProperty("Accept", "application/json");
-        Base64 b = new Base64();
-        String authString = rpcuser + ":" + rpcpass;
-        String encoding = b.encodeAsString(authString.getBytes());
-        connection.setRequestProperty("Authorization", "Basic " + encoding);
-        connection.setRequestProperty("Content-Length", Integer.toString(requestBody.getBytes().length));
-        connection.setDoInput(true);
-        OutputStream out = connection.getOutputStream();
-        out.write(requestBody.getBytes());
-
-        if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-            InputStream is = connection.getInputStream();
-            BufferedReader rd = new BufferedReader(new InputStreamReader(is));
-            String line;
-            StringBuffer response = new StringBuffer();
-            while ((line = rd.readLine()) != null) {
-                response.append(line);
-                response.append('\r');
-            }
-            rd.close();
-
-            JSONObject json = new JSONObject(response.toString());
-            String hexTx = (String) json.get("result");
-            HexBinaryAdapter adapter = new HexBinaryAdapter();
-            byte[] bytearray = adapter.unmarshal(hexTx);
-            Context context = Context.getOrCreate(netParams);
-            tx = new org.bitcoinj.core.Transaction(netParams, bytearray);
+    org.bitcoinj.core.Transaction getTransaction(String transactionHash) throws IOException {
 
+        BtcdClient.Response response = client.call("getrawtransaction", transactionHash);
+        if (response.result == null) {
+            return null;
         }
 
-        out.flush();
-        out.close();
-
-        return tx;
-
+        byte[] bytearray = JsonStream.hex(response.result.toString());
+        Context.getOrCreate(netParams);
+        return new org.bitcoinj.core.Transaction(netParams, bytearray);
     }
 
     /**
      * This method will take in an address hash and return a List of all transactions associated with
      * this address.  These transactions are in bitcoinj's Transaction format.
      */
-    public synchronized List<Transaction> getAddressTransactionsInner(String address) throws IOException {
-
-        List<Transaction> txList = null;
-        String requestBody = "{\"jsonrpc\":\"2.0\",\"id\":\"null\",\"method\":\"searchrawtransactions\", \"params\":[\"" + address + "\"]}";
-
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setDoOutput(true);
-        connection.setRequestMethod("POST");
-        connection.setRequestProperty("Content-Type", "application/json");
-        connection.setRequestProperty("Accept", "application/json");
-        Base64 b = new Base64();
-        String authString = rpcuser + ":" + rpcpass;
-        String encoding = b.encodeAsString(authString.getBytes());
-        connection.setRequestProperty("Authorization", "Basic " + encoding);
-        connection.setRequestProperty("Content-Length", Integer.toString(requestBody.getBytes().length));
-        connection.setDoInput(true);
-        OutputStream out = connection.getOutputStream();
-        out.write(requestBody.getBytes());
-
-        if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-            InputStream is = connection.getInputStream();
-            BufferedReader rd = new BufferedReader(new InputStreamReader(is));
-            String line;
-            StringBuffer response = new StringBuffer();
-            while ((line = rd.readLine()) != null) {
-                response.append(line);
-                response.append('\r');
-            }
-            rd.close();
-
-            JSONObject json = new JSONObject(response.toString());
-            JSONArray jsonarray = null;
-            txList = new LinkedList<>();
-            if (json.isNull("result")) {
-                return txList;
-            } else {
-                jsonarray = json.getJSONArray("result");
-            }
-            for (int i = 0; i < jsonarray.length(); i++) {
-                JSONObject currentJson = jsonarray.getJSONObject(i);
-                String txid = currentJson.get("txid").toString();
-                HexBinaryAdapter adapter = new HexBinaryAdapter();
-                byte[] bytearray = adapter.unmarshal(currentJson.get("hex").toString());
-                Context context = Context.getOrCreate(netParams);
-                int confirmations = Integer.parseInt(currentJson.get("confirmations").toString());
-                boolean confirmed;
-                if (confirmations == 0) {
-                    confirmed = false;
-                } else {
-                    confirmed = true;
+    public List<Transaction> getAddressTransactionsInner(String address) throws IOException {
+        return readTransactions(client.call(transactions, "searchrawtransactions", address));
+    }
+
+    // btcd stops after the number of transactions we ask for.
+    @Override
+    protected List<Transaction> getAddressTransactionsInner(String address, int limit)
+            throws IOException {
+
+        return readTransactions(client.call(transactions, "searchrawtransactions", address, 1, 0, limit));
+    }
+
+    // Search for the transactions of an address, skipping none and returning at most limit.
+    private static BtcdClient.Request search(String address, int limit) {
+        return new BtcdClient.Request("searchrawtransactions", address, 1, 0, limit);
+    }
+
+    // Reads the result of searchrawtransactions one transaction at a time.
+    private final BtcdClient.Reader transactions = new BtcdClient.Reader() {
+        @Override
+        public Object read(JSONTokener json) throws IOException {
+            final List<Transaction> txList = new LinkedList<>();
+            JsonStream.array(json, new JsonStream.Value() {
+                @Override
+                public void read(JSONTokener json) {
+                    txList.add(readTransaction(new JSONObject(json)));
                 }
-                org.bitcoinj.core.Transaction bitTx = new org.bitcoinj.core.Transaction(netParams, bytearray);
-                Transaction tx = new Transaction(txid, bitTx, false, confirmed);
-                txList.add(tx);
-            }
+            });
+            return txList;
+        }
+    };
 
+    // All the addresses are looked up in one round trip.
+    @Override
+    protected Map<String, List<Transaction>> getAddressTransactionsInner(Collection<String> addresses, int limit)
+            throws IOException {
+
+        List<String> list = new ArrayList<>(addresses);
+        List<BtcdClient.Request> requests = new ArrayList<>();
+        for (String address : list) {
+            requests.add(limit > 0 ? search(address, limit)
+                    : new BtcdClient.Request("searchrawtransactions", address));
         }
 
-        out.flush();
-        out.close();
+        List<BtcdClient.Response> responses = client.batch(requests, transactions);
 
-        return txList;
+        Map<String, List<Transaction>> transactions = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            transactions.put(list.get(i), readTransactions(responses.get(i)));
+        }
 
+        return transactions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Transaction> readTransactions(BtcdClient.Response response) {
+        if (response.result == null) {
+            return new LinkedList<>();
+        }
+
+        return (List<Transaction>) response.result;
+    }
+
+    private Transaction readTransaction(JSONObject currentJson) {
+        String txid = currentJson.get("txid").toString();
+        byte[] bytearray = JsonStream.hex(currentJson.get("hex").toString());
+        Context.getOrCreate(netParams);
+        int confirmations = Integer.parseInt(currentJson.get("confirmations").toString());
+        boolean confirmed = confirmations != 0;
+        org.bitcoinj.core.Transaction bitTx = new org.bitcoinj.core.Transaction(netParams, bytearray);
+        return new Transaction(txid, bitTx, false, confirmed);
     }
 
     @Override
@@ -210,78 +185,18 @@ public class Btcd extends Bitcoin {
         } catch (IOException er) {
             return false;
         }
-        String requestBody = "{\"jsonrpc\":\"2.0\",\"id\":\"null\",\"method\":\"sendrawtransaction\", \"params\":[\"" + hexTx + "\"]}";
-
-        HttpURLConnection connection = null;
-        try {
-            connection = (HttpURLConnection) url.openConnection();
-        } catch (IOException e) {
-            return false;
-        }
-        connection.setDoOutput(true);
-        try {
-            connection.setRequestMethod("POST");
-        } catch (java.net.ProtocolException e) {
-            return false;
-        }
-        connection.setRequestProperty("Content-Type", "application/json");
-        connection.setRequestProperty("Accept", "application/json");
-        Base64 b = new Base64();
-        String authString = rpcuser + ":" + rpcpass;
-        String encoding = b.encodeAsString(authString.getBytes());
-        connection.setRequestProperty("Authorization", "Basic " + encoding);
-        connection.setRequestProperty("Content-Length", Integer.toString(requestBody.getBytes().length));
-        connection.setDoInput(true);
-        OutputStream out;
-        try {
-            out = connection.getOutputStream();
-        } catch (IOException e) {
-            return false;
-        }
-        try {
-            out.write(requestBody.getBytes());
-        } catch (IOException e) {
-            return false;
-        }
 
+        BtcdClient.Response response;
         try {
-            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) return false;
+            response = client.call("sendrawtransaction", hexTx);
         } catch (IOException e) {
             return false;
         }
 
-        InputStream is;
-        try {
-            is = connection.getInputStream();
-        } catch (IOException e) {
-            return false;
-        }
-        BufferedReader rd = new BufferedReader(new InputStreamReader(is));
-        String line;
-        StringBuffer response = new StringBuffer();
-        while (true) {
-            try {
-                if ((line = rd.readLine()) == null) break;
-            } catch (IOException e) {
-                return false;
-            }
-            response.append(line);
-            response.append('\r');
-        }
-
-        try {
-            rd.close();
-        } catch (IOException e) {
-            return false;
-        }
-
-        JSONObject json = new JSONObject(response.toString());
-        if (json.isNull("result")) {
-            JSONObject errorObj = json.getJSONObject("error");
-            String errorMsg = errorObj.getString("message");
-            String parsed = errorMsg.substring(0,37);
+        if (response.error != null) {
+            String errorMsg = response.message();
             // transaction is already in mempool, return true
-            if (parsed.equals("TX rejected: already have transaction")) {
+            if (errorMsg.startsWith("TX rejected: already have transaction")) {
                 return true;
             }
             throw new CoinNetworkException(errorMsg);
@@ -291,8 +206,13 @@ public class Btcd extends Bitcoin {
     }
 
     @Override
-    protected synchronized List<Transaction> getAddressTransactions(String address) throws IOException, CoinNetworkException, AddressFormatException {
+    protected List<Transaction> getAddressTransactions(String address) throws IOException, CoinNetworkException, AddressFormatException {
         return getAddressTransactionsInner(address);
     }
 
+    @Override
+    protected List<Transaction> getAddressTransactions(String address, int limit) throws IOException {
+        return getAddressTransactionsInner(address, limit);
+    }
+
 }
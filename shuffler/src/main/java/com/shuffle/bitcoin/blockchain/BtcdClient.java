@@ -0,0 +1,253 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.bitcoin.blockchain;
+
+import org.apache.commons.codec.binary.Base64;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A JSON-RPC client for btcd. It holds no lock, so any number of requests may be in flight
+ * at once, and several calls can be sent together in one batch. Responses are always read
+ * to the end so that the JVM can keep the connection open and use it again. They are read
+ * as they arrive, and a Reader can be given to turn a long result into something smaller
+ * without ever holding all of it.
+ */
+public class BtcdClient {
+
+    // How long to wait for btcd to accept a connection and between reads, in milliseconds.
+    static int connectTimeout = 10000;
+    static int readTimeout = 30000;
+
+    // Reads the result of a request. The tokener is positioned at the result, which is
+    // not null, and the whole of it must be read.
+    public interface Reader {
+        Object read(JSONTokener json) throws IOException, JSONException;
+    }
+
+    // Reads results as ordinary JSON values.
+    public static final Reader VALUE = new Reader() {
+        @Override
+        public Object read(JSONTokener json) {
+            return json.nextValue();
+        }
+    };
+
+    public static class Request {
+        public final String method;
+        public final List<Object> params;
+
+        public Request(String method, Object... params) {
+            if (method == null) throw new NullPointerException();
+
+            this.method = method;
+            this.params = Arrays.asList(params);
+        }
+
+        JSONObject json(int id) {
+            return new JSONObject().put("jsonrpc", "1.0").put("id", id)
+                    .put("method", method).put("params", new JSONArray(params));
+        }
+
+        @Override
+        public String toString() {
+            return method + params;
+        }
+    }
+
+    public static class Response {
+        public final Object result; // Null if there was an error.
+        public final JSONObject error; // Null if there was not.
+        private final int id;
+
+        private Response(int id, Object result, JSONObject error) {
+            this.id = id;
+            this.result = result;
+            this.error = error;
+        }
+
+        // Read a response as it comes in. btcd puts the id after the result.
+        private static Response read(JSONTokener json, final Reader reader)
+                throws IOException, JSONException {
+
+            final Object[] result = new Object[1];
+            final JSONObject[] error = new JSONObject[1];
+            final int[] id = new int[]{-1};
+
+            JsonStream.object(json, new JsonStream.Field() {
+                @Override
+                public void read(String key, JSONTokener json) throws IOException {
+                    switch (key) {
+                        case "result":
+                            if (!JsonStream.nextNull(json)) result[0] = reader.read(json);
+                            break;
+                        case "error":
+                            Object e = json.nextValue();
+                            if (e instanceof JSONObject) error[0] = (JSONObject) e;
+                            break;
+                        case "id":
+                            Object i = json.nextValue();
+                            if (i instanceof Number) id[0] = ((Number) i).intValue();
+                            break;
+                        default:
+                            json.nextValue();
+                    }
+                }
+            });
+
+            return new Response(id[0], result[0], error[0]);
+        }
+
+        // The message given with an error, or null if there isn't one.
+        public String message() {
+            if (error == null) return null;
+
+            return error.optString("message", error.toString());
+        }
+
+        @Override
+        public String toString() {
+            return error == null ? "result{" + result + "}" : "error{" + error + "}";
+        }
+    }
+
+    private final URL url;
+    private final String authorization;
+
+    public BtcdClient(URL url, String rpcuser, String rpcpass) {
+        if (url == null || rpcuser == null || rpcpass == null) throw new NullPointerException();
+
+        this.url = url;
+        this.authorization = "Basic " + new Base64().encodeAsString(
+                (rpcuser + ":" + rpcpass).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Response call(String method, Object... params) throws IOException {
+        return call(VALUE, method, params);
+    }
+
+    public Response call(Reader reader, String method, Object... params) throws IOException {
+        return batch(Collections.singletonList(new Request(method, params)), reader).get(0);
+    }
+
+    public List<Response> batch(List<Request> requests) throws IOException {
+        return batch(requests, VALUE);
+    }
+
+    // Send several requests in one round trip. The responses are in the same order.
+    // Every result is read with the given reader.
+    public List<Response> batch(List<Request> requests, Reader reader) throws IOException {
+        if (requests.isEmpty()) return new ArrayList<>();
+
+        String body;
+        if (requests.size() == 1) {
+            body = requests.get(0).json(0).toString();
+        } else {
+            JSONArray array = new JSONArray();
+            for (int i = 0; i < requests.size(); i++) {
+                array.put(requests.get(i).json(i));
+            }
+            body = array.toString();
+        }
+
+        Response[] responses = post(body, reader, requests.size());
+
+        for (int i = 0; i < responses.length; i++) {
+            if (responses[i] == null) {
+                throw new IOException("No response from btcd to " + requests.get(i));
+            }
+        }
+
+        return Arrays.asList(responses);
+    }
+
+    private Response[] post(String body, final Reader reader, int count) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setDoOutput(true);
+        connection.setDoInput(true);
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setRequestProperty("Accept", "application/json");
+        connection.setRequestProperty("Authorization", authorization);
+        connection.setFixedLengthStreamingMode(bytes.length);
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(bytes);
+        }
+
+        int code = connection.getResponseCode();
+
+        // btcd reports some errors with an error code and a JSON body, so
+        // we read the body either way.
+        InputStream in = code == HttpURLConnection.HTTP_OK
+                ? connection.getInputStream() : connection.getErrorStream();
+
+        if (in == null) {
+            throw new IOException("btcd returned " + code);
+        }
+
+        final Response[] responses = new Response[count];
+        try {
+            JSONTokener json = new JSONTokener(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+            char c = json.nextClean();
+            json.back();
+            if (c == '[') {
+                JsonStream.array(json, new JsonStream.Value() {
+                    @Override
+                    public void read(JSONTokener json) throws IOException {
+                        put(responses, Response.read(json, reader));
+                    }
+                });
+            } else if (c == '{') {
+                put(responses, Response.read(json, reader));
+            } else {
+                throw new IOException("btcd returned " + code);
+            }
+
+            // Finish reading so that the connection can be used again.
+            byte[] buffer = new byte[1024];
+            while (in.read(buffer) != -1) {}
+        } catch (JSONException e) {
+            throw new IOException("Could not read response from btcd: " + e.getMessage());
+        } finally {
+            in.close();
+        }
+
+        return responses;
+    }
+
+    private static void put(Response[] responses, Response response) throws IOException {
+        if (response.id < 0 || response.id >= responses.length) {
+            if (response.error != null) throw new IOException(response.message());
+
+            throw new IOException("Unexpected response id from btcd: " + response.id);
+        }
+
+        responses[response.id] = response;
+    }
+}
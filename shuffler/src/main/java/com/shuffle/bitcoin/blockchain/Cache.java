@@ -0,0 +1,197 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.bitcoin.blockchain;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache for lookups from the blockchain. It holds at most a fixed number of entries,
+ * evicting the least recently used first, and each entry expires after a time that may
+ * depend on its value. If several threads want the same key at once, only one of them
+ * loads it and the others wait for the result. Lookups of different keys don't wait
+ * for one another.
+ */
+public class Cache<K, V> {
+
+    // How long a value may be kept, in milliseconds.
+    public interface Expiry<V> {
+        long ttl(V value);
+    }
+
+    public static final long FOREVER = Long.MAX_VALUE;
+
+    private final int capacity;
+    private final Expiry<V> expiry;
+
+    private final ConcurrentMap<K, Entry> entries = new ConcurrentHashMap<>();
+
+    // Incremented on every access and used to find the least recently used entry.
+    private final AtomicLong clock = new AtomicLong(0);
+
+    private class Entry {
+        final FutureTask<V> task;
+        volatile long expires = FOREVER;
+        volatile long used;
+
+        Entry(Callable<V> loader) {
+            task = new FutureTask<>(loader);
+            used = clock.incrementAndGet();
+        }
+
+        boolean expired(long now) {
+            return task.isDone() && now >= expires;
+        }
+    }
+
+    public Cache(int capacity, Expiry<V> expiry) {
+        if (expiry == null) throw new NullPointerException();
+        if (capacity < 1) throw new IllegalArgumentException();
+
+        this.capacity = capacity;
+        this.expiry = expiry;
+    }
+
+    // Every value is kept for the same time.
+    public Cache(int capacity, final long ttl) {
+        this(capacity, new Expiry<V>() {
+            @Override
+            public long ttl(V value) {
+                return ttl;
+            }
+        });
+    }
+
+    // Get the value for the given key, calling loader if it is not in the cache.
+    // Values that could not be loaded are not kept.
+    public V get(K key, Callable<V> loader) throws ExecutionException, InterruptedException {
+        if (key == null || loader == null) throw new NullPointerException();
+
+        Entry e = entries.get(key);
+        if (e != null && e.expired(System.currentTimeMillis())) {
+            entries.remove(key, e);
+            e = null;
+        }
+
+        if (e == null) {
+            Entry loading = new Entry(loader);
+            e = entries.putIfAbsent(key, loading);
+
+            if (e == null) {
+                e = loading;
+                evict();
+                load(key, loading);
+            }
+        }
+
+        e.used = clock.incrementAndGet();
+        return e.task.get();
+    }
+
+    // The value for the given key if it has been loaded and has not expired, or else null.
+    public V peek(K key) {
+        if (key == null) throw new NullPointerException();
+
+        Entry e = entries.get(key);
+        if (e == null || !e.task.isDone() || e.expired(System.currentTimeMillis())) return null;
+
+        try {
+            V value = e.task.get();
+            e.used = clock.incrementAndGet();
+            return value;
+        } catch (InterruptedException | ExecutionException ex) {
+            return null;
+        }
+    }
+
+    // Remember a value which was loaded some other way, replacing whatever we had.
+    public void put(K key, final V value) {
+        if (key == null) throw new NullPointerException();
+
+        long ttl = expiry.ttl(value);
+        if (ttl <= 0) {
+            entries.remove(key);
+            return;
+        }
+
+        Entry e = new Entry(new Callable<V>() {
+            @Override
+            public V call() {
+                return value;
+            }
+        });
+        e.task.run();
+        if (ttl != FOREVER) {
+            e.expires = System.currentTimeMillis() + ttl;
+        }
+
+        entries.put(key, e);
+        evict();
+    }
+
+    private void load(K key, Entry e) throws InterruptedException {
+        e.task.run();
+
+        try {
+            long ttl = expiry.ttl(e.task.get());
+            if (ttl <= 0) {
+                entries.remove(key, e);
+            } else if (ttl != FOREVER) {
+                e.expires = System.currentTimeMillis() + ttl;
+            }
+        } catch (ExecutionException ex) {
+            entries.remove(key, e);
+        }
+    }
+
+    // Remove the least recently used entries until there is room. The cache is small
+    // compared to the cost of a lookup, so we just look through all of it.
+    private void evict() {
+        while (entries.size() > capacity) {
+            long now = System.currentTimeMillis();
+            Map.Entry<K, Entry> oldest = null;
+            for (Map.Entry<K, Entry> e : entries.entrySet()) {
+                if (e.getValue().expired(now)) {
+                    oldest = e;
+                    break;
+                }
+
+                if (oldest == null || e.getValue().used < oldest.getValue().used) {
+                    oldest = e;
+                }
+            }
+
+            if (oldest == null) return;
+
+            entries.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Cache[" + entries.size() + "/" + capacity + "]";
+    }
+}
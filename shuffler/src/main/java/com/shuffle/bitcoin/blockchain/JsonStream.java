@@ -0,0 +1,142 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.bitcoin.blockchain;
+
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Functions for reading JSON from a stream as it arrives, so that a long response from
+ * a blockchain service never has to be in memory all at once. Only one element of an
+ * array is read at a time.
+ */
+final class JsonStream {
+    private JsonStream() {}
+
+    // Called with the tokener positioned at a value, which must be read completely.
+    interface Value {
+        void read(JSONTokener json) throws IOException, JSONException;
+    }
+
+    // Called with the tokener positioned at the value of the given key, which must be read.
+    interface Field {
+        void read(String key, JSONTokener json) throws IOException, JSONException;
+    }
+
+    // Read each element of an array.
+    static void array(JSONTokener json, Value each) throws IOException, JSONException {
+        if (json.nextClean() != '[') throw json.syntaxError("Expected '['");
+
+        if (json.nextClean() == ']') return;
+        json.back();
+
+        while (true) {
+            each.read(json);
+
+            switch (json.nextClean()) {
+                case ',':
+                    continue;
+                case ']':
+                    return;
+                default:
+                    throw json.syntaxError("Expected ',' or ']'");
+            }
+        }
+    }
+
+    // Read each field of an object.
+    static void object(JSONTokener json, Field each) throws IOException, JSONException {
+        if (json.nextClean() != '{') throw json.syntaxError("Expected '{'");
+
+        if (json.nextClean() == '}') return;
+        json.back();
+
+        while (true) {
+            String key = json.nextValue().toString();
+            if (json.nextClean() != ':') throw json.syntaxError("Expected ':'");
+
+            each.read(key, json);
+
+            switch (json.nextClean()) {
+                case ',':
+                    continue;
+                case '}':
+                    return;
+                default:
+                    throw json.syntaxError("Expected ',' or '}'");
+            }
+        }
+    }
+
+    // If the next value is null, read it and return true.
+    static boolean nextNull(JSONTokener json) throws JSONException {
+        char c = json.nextClean();
+        json.back();
+        if (c != 'n') return false;
+
+        json.nextValue();
+        return true;
+    }
+
+    // The value of each ASCII hex digit, and -1 for every other character.
+    private static final byte[] digits = new byte[128];
+    static {
+        Arrays.fill(digits, (byte) -1);
+        for (int i = 0; i < 10; i++) digits['0' + i] = (byte) i;
+        for (int i = 0; i < 6; i++) {
+            digits['a' + i] = (byte) (10 + i);
+            digits['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private static int digit(char c) {
+        int d = c < digits.length ? digits[c] : -1;
+        if (d < 0) throw new IllegalArgumentException("Invalid hex character " + c);
+        return d;
+    }
+
+    static byte[] hex(CharSequence hex) {
+        if (hex.length() % 2 != 0) throw new IllegalArgumentException("Odd length hex string.");
+
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (digit(hex.charAt(2 * i)) << 4 | digit(hex.charAt(2 * i + 1)));
+        }
+        return bytes;
+    }
+
+    // Decode a stream of hex characters, ignoring whitespace.
+    static byte[] hex(Reader in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        char[] buffer = new char[8192];
+        int high = -1;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (Character.isWhitespace(buffer[i])) continue;
+
+                if (high < 0) {
+                    high = digit(buffer[i]);
+                } else {
+                    bytes.write(high << 4 | digit(buffer[i]));
+                    high = -1;
+                }
+            }
+        }
+
+        if (high >= 0) throw new IllegalArgumentException("Odd length hex string.");
+
+        return bytes.toByteArray();
+    }
+}
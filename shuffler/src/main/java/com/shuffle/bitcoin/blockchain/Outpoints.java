@@ -0,0 +1,48 @@
+/**
+ *
+ * Copyright © 2016 Mycelium.
+ * Use of this source code is governed by an ISC
+ * license that can be found in the LICENSE file.
+ *
+ */
+
+package com.shuffle.bitcoin.blockchain;
+
+import org.bitcoinj.core.TransactionInput;
+import org.bitcoinj.core.TransactionOutPoint;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the outputs spent by the transactions of an address, so that we can tell
+ * whether an output has been spent, and by what, without going through all of them.
+ */
+class Outpoints {
+    // The list the index was made from.
+    final List<Bitcoin.Transaction> transactions;
+
+    private final Map<TransactionOutPoint, Bitcoin.Transaction> spenders = new HashMap<>();
+
+    // Every transaction in the list must have its bitcoinj field set.
+    Outpoints(List<Bitcoin.Transaction> transactions) {
+        if (transactions == null) throw new NullPointerException();
+
+        this.transactions = transactions;
+        for (Bitcoin.Transaction tx : transactions) {
+            for (TransactionInput input : tx.bitcoinj.getInputs()) {
+                spenders.put(input.getOutpoint(), tx);
+            }
+        }
+    }
+
+    boolean spent(TransactionOutPoint outpoint) {
+        return spenders.containsKey(outpoint);
+    }
+
+    // The transaction which spends the given output, or null if none of them do.
+    Bitcoin.Transaction spender(TransactionOutPoint outpoint) {
+        return spenders.get(outpoint);
+    }
+}
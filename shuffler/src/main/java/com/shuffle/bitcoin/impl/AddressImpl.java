@@ -6,14 +6,20 @@ import com.shuffle.protocol.FormatException;
 import org.bitcoinj.core.AddressFormatException;
 
 /**
+ * Immutable. The string form is worked out once, since base58 encoding is slow.
+ *
  * Created by conta on 10.03.16.
  */
 public class AddressImpl implements Address {
 
-   org.bitcoinj.core.Address address;
+   final org.bitcoinj.core.Address address;
+   private final String string;
+   private final int hash;
 
    AddressImpl(org.bitcoinj.core.Address address) {
       this.address = address;
+      this.string = address.toString();
+      this.hash = address.hashCode();
    }
 
    public AddressImpl(String address) throws FormatException {
@@ -23,15 +29,17 @@ public class AddressImpl implements Address {
       } catch (AddressFormatException e) {
          throw new FormatException("Could not parse address " + address);
       }
+      this.string = this.address.toString();
+      this.hash = this.address.hashCode();
    }
 
    @Override
    public int hashCode() {
-      return address.hashCode();
+      return hash;
    }
 
    public String toString() {
-      return this.address.toString();
+      return string;
    }
 
    @Override
@@ -44,7 +52,8 @@ public class AddressImpl implements Address {
 
    @Override
    public boolean equals(Object obj) {
-      return obj instanceof AddressImpl && address.equals(((AddressImpl) obj).address);
+      return obj == this
+              || obj instanceof AddressImpl && address.equals(((AddressImpl) obj).address);
 
    }
 }
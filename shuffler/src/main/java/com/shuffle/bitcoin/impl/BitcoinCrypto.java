@@ -31,6 +31,7 @@ import java.net.HttpURLConnection;
 import java.net.URL;
 import java.security.GeneralSecurityException;
 import java.security.KeyFactory;
+import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
@@ -43,6 +44,9 @@ import java.security.spec.X509EncodedKeySpec;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -52,11 +56,23 @@ import javax.crypto.Cipher;
 
 public class BitcoinCrypto implements Crypto {
 
-   private final SecureRandom sr;
    // Figure out which network we should connect to. Each one gets its own set of files.
    NetworkParameters params;
    KeyChainGroup keyChainGroup;
-   private final KeyPairGenerator keyPG;
+   // Each thread generates keys with its own generator, which draws on its own DRBG.
+   private static final class Generator {
+      final KeyPairGenerator keyPG;
+      final SecureRandom random;
+
+      Generator(KeyPairGenerator keyPG, SecureRandom random) {
+         this.keyPG = keyPG;
+         this.random = random;
+      }
+   }
+
+   private static final ThreadLocal<Generator> generator = new ThreadLocal<>();
+   // If set, decryption keys are made ahead of time in the background.
+   private volatile KeyPool keyPool = null;
    //Wallet wallet;
    //WalletAppKit kit;
    String fileprefix = "shufflepuff";
@@ -85,9 +101,8 @@ public class BitcoinCrypto implements Crypto {
       this.keyChainGroup = new KeyChainGroup(networkParameters);
       Security.insertProviderAt(new BouncyCastleProvider(), 1);
       crashIfJCEMissing();
-      //this.sr = SecureRandom.getInstance("SHA1PRNG", new BouncyCastleProvider());
-      this.sr = SecureRandom.getInstance("SHA1PRNG");
-      this.keyPG = KeyPairGenerator.getInstance("ECIES", new BouncyCastleProvider());
+      // Fail now rather than when the first key is made.
+      keyPairGenerator();
       //this.kit = getKit();
       //this.wallet = getKit().wallet();
 
@@ -105,9 +120,8 @@ public class BitcoinCrypto implements Crypto {
       this.keyChainGroup = new KeyChainGroup(networkParameters, seed);
       Security.insertProviderAt(new BouncyCastleProvider(), 1);
       crashIfJCEMissing();
-      //this.sr = SecureRandom.getInstance("SHA1PRNG", new BouncyCastleProvider());
-      this.sr = SecureRandom.getInstance("SHA1PRNG");
-      this.keyPG = KeyPairGenerator.getInstance("ECIES", new BouncyCastleProvider());
+      // Fail now rather than when the first key is made.
+      keyPairGenerator();
       //this.kit = initKit(seed);
       //this.wallet = kit.wallet();
    }
@@ -249,16 +263,63 @@ public class BitcoinCrypto implements Crypto {
       }
    }
 
+   // Keep the given number of decryption keys ready, made on the given executor.
+   public void setKeyPool(int size, Executor executor) {
+      keyPool = new KeyPool(new KeyPool.Factory() {
+         @Override
+         public DecryptionKey make() {
+            return generateDecryptionKey();
+         }
+      }, size, executor);
+   }
+
+   // Keep the given number of decryption keys ready, made on a background thread.
+   public void setKeyPool(int size) {
+      setKeyPool(size, Executors.newSingleThreadExecutor(new ThreadFactory() {
+         @Override
+         public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "decryption keys");
+            t.setDaemon(true);
+            return t;
+         }
+      }));
+   }
+
    @Override
-   public synchronized DecryptionKey makeDecryptionKey() {
+   public DecryptionKey makeDecryptionKey() {
+      KeyPool keyPool = this.keyPool;
+      if (keyPool != null) return keyPool.take();
+
+      return generateDecryptionKey();
+   }
+
+   private DecryptionKey generateDecryptionKey() {
       // String ppath = getCurrentPathAsString();
       // System.out.println("Current path used by decryption key genereated: " + ppath);
       // ECKey newDecKey = keyChainGroup.getActiveKeyChain().getKeyByPath(HDUtils.parsePath(ppath),true);
       // decKeyCounter++;
       // return ECIES KeyPair
-      keyPG.initialize(256, sr);
-      return new DecryptionKeyImpl(keyPG.generateKeyPair());
+      KeyPair keys;
+      try {
+         keys = keyPairGenerator().generateKeyPair();
+      } catch (NoSuchAlgorithmException e) {
+         // Already checked in the constructor.
+         throw new RuntimeException(e);
+      }
+      return new DecryptionKeyImpl(keys);
+   }
 
+   // The calling thread's generator, set up again whenever its DRBG has been replaced.
+   private static KeyPairGenerator keyPairGenerator() throws NoSuchAlgorithmException {
+      SecureRandom random = Randomness.current();
+      Generator g = generator.get();
+      if (g == null || g.random != random) {
+         KeyPairGenerator keyPG = KeyPairGenerator.getInstance("ECIES", new BouncyCastleProvider());
+         keyPG.initialize(256, random);
+         g = new Generator(keyPG, random);
+         generator.set(g);
+      }
+      return g.keyPG;
    }
 
    public List<String> getKeyChainMnemonic() {
@@ -273,7 +334,7 @@ public class BitcoinCrypto implements Crypto {
 
    @Override
    public int getRandom(int n) {
-      return sr.nextInt(n + 1);
+      return Randomness.current().nextInt(n + 1);
    }
 
    public static Bytestring hexStringToByteArray(String s) {
@@ -12,9 +12,9 @@ import com.shuffle.player.Protobuf;
 import com.shuffle.protocol.FormatException;
 
 import org.bitcoinj.core.NetworkParameters;
+import org.spongycastle.util.encoders.Hex;
 
 import java.io.IOException;
-import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 
@@ -25,22 +25,46 @@ public class CryptoProtobuf extends Protobuf {
     NetworkParameters params;
     Bitcoin bitcoin;
 
+    public CryptoProtobuf() {
+        super();
+    }
+
+    public CryptoProtobuf(int version) {
+        super(version);
+    }
+
+    // Our keys are hex encoded, so the raw forms are half the size.
+    @Override
+    public Bytestring encodeVerificationKey(VerificationKey vk) {
+        return new Bytestring(Hex.decode(vk.toString()));
+    }
+
+    @Override
+    public VerificationKey decodeVerificationKey(Bytestring b) throws FormatException {
+        return super.decodeVerificationKey(new Bytestring(Hex.toHexString(b.bytes).getBytes()));
+    }
+
+    @Override
+    public Bytestring encodeEncryptionKey(EncryptionKey ek) {
+        return new Bytestring(Hex.decode(ek.toString()));
+    }
+
+    @Override
+    public EncryptionKey decodeEncryptionKey(Bytestring b) throws FormatException {
+        return super.decodeEncryptionKey(new Bytestring(Hex.toHexString(b.bytes).getBytes()));
+    }
+
     @Override
     // Unmarshall an address from its string representation.
     public Address unmarshallAdress(String str) throws FormatException {
-        return new AddressImpl(str);
+        return KeyCache.address(str);
     }
 
     @Override
     // Unmarshall an encryption key from a string.
     public EncryptionKey unmarshallEncryptionKey(String str)
             throws InvalidKeySpecException, NoSuchAlgorithmException {
-        try {
-            return new EncryptionKeyImpl(BitcoinCrypto.loadPublicKey(org.bouncycastle.util.encoders.Base64.toBase64String(org.spongycastle.util.encoders.Hex.decode(str))));
-        } catch (GeneralSecurityException e) {
-            e.printStackTrace();
-            throw new RuntimeException();
-        }
+        return KeyCache.encryptionKey(str);
     }
 
     @Override
@@ -52,7 +76,7 @@ public class CryptoProtobuf extends Protobuf {
     @Override
     // Unmarshall a verification key.
     public VerificationKey unmarshallVerificationKey(String str) {
-        return new VerificationKeyImpl(str, params);
+        return KeyCache.verificationKey(str, params);
     }
 
     @Override
@@ -72,7 +96,7 @@ public class CryptoProtobuf extends Protobuf {
 
             @Override
             public Address unmarshall(Bytestring string) throws FormatException {
-                return new AddressImpl(new String(string.bytes));
+                return KeyCache.address(new String(string.bytes));
             }
         };
     }
@@ -1,9 +1,9 @@
 package com.shuffle.bitcoin.impl;
 
-import com.google.inject.Guice;
-import com.shuffle.JvmModule;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.protocol.FormatException;
 
 import org.bitcoinj.core.ECKey;
 import org.spongycastle.crypto.RuntimeCryptoException;
@@ -11,15 +11,12 @@ import org.spongycastle.util.encoders.Hex;
 
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
 import java.security.KeyPair;
-import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 
 
 /**
@@ -31,11 +28,13 @@ public class DecryptionKeyImpl implements DecryptionKey {
     final ECKey key;
     final PrivateKey privateKey;
     private final EncryptionKey ek;
+    private final Ecies ecies;
 
     public DecryptionKeyImpl(KeyPair keyPair) {
         this.privateKey = keyPair.getPrivate();
         this.key = ECKey.fromPrivate(this.privateKey.getEncoded());
         ek = new EncryptionKeyImpl(keyPair.getPublic());
+        ecies = new Ecies(Cipher.DECRYPT_MODE, privateKey);
     }
 
     public DecryptionKeyImpl(String privString, String publicString) {
@@ -44,6 +43,7 @@ public class DecryptionKeyImpl implements DecryptionKey {
           this.privateKey = BitcoinCrypto.loadPrivateKey(org.bouncycastle.util.encoders.Base64.toBase64String(Hex.decode(privString)));
           this.ek = new EncryptionKeyImpl(BitcoinCrypto.loadPublicKey(org.bouncycastle.util.encoders.Base64.toBase64String(Hex.decode(publicString))));
           this.key = ECKey.fromPrivate(this.privateKey.getEncoded());
+          this.ecies = new Ecies(Cipher.DECRYPT_MODE, privateKey);
        } catch (GeneralSecurityException e) {
           e.printStackTrace();
           throw new RuntimeCryptoException();
@@ -67,26 +67,9 @@ public class DecryptionKeyImpl implements DecryptionKey {
 
     @Override
     public String decrypt(String input) {
-        Guice.createInjector(new JvmModule()).injectMembers(this);
-
-        //encrypt cipher
-        Cipher cipher = null;
-        try {
-           cipher = Cipher.getInstance("ECIES");
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-           e.printStackTrace();
-           throw new RuntimeException(e);
-        }
-        try {
-           cipher.init(Cipher.DECRYPT_MODE, privateKey);
-        } catch (InvalidKeyException e) {
-           e.printStackTrace();
-           throw new RuntimeException(e);
-        }
-        byte[] bytes = Hex.decode(input);
         byte[] decrypted = new byte[0];
         try {
-           decrypted = cipher.doFinal(bytes);
+           decrypted = decrypt(Hex.decode(input));
         } catch (IllegalBlockSizeException e) {
            e.printStackTrace();
         } catch (BadPaddingException e) {
@@ -96,6 +79,20 @@ public class DecryptionKeyImpl implements DecryptionKey {
         return new String(decrypted, StandardCharsets.UTF_8);
     }
 
+    @Override
+    public Bytestring decrypt(Bytestring input) throws FormatException {
+        try {
+           return new Bytestring(decrypt(input.bytes));
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+           // The ciphertext was not produced with our encryption key.
+           throw new FormatException("Could not decrypt onion: " + e.getMessage());
+        }
+    }
+
+    private byte[] decrypt(byte[] bytes) throws IllegalBlockSizeException, BadPaddingException {
+        return ecies.doFinal(bytes);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
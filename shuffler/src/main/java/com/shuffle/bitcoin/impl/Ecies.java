@@ -0,0 +1,70 @@
+package com.shuffle.bitcoin.impl;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+
+/**
+ * ECIES encryption or decryption with a single key. Cipher.getInstance searches the list
+ * of providers and creates the cipher by reflection, so instead each thread keeps its own
+ * cipher, which is initialized once with the key and used again for every message.
+ *
+ * Encryption with a reused cipher is safe because a new ephemeral key is generated
+ * for every message.
+ */
+final class Ecies {
+    private static final Provider provider = new BouncyCastleProvider();
+
+    private final int mode;
+    private final Key key;
+    private final ThreadLocal<Cipher> ciphers = new ThreadLocal<>();
+
+    Ecies(int mode, Key key) {
+        if (key == null) throw new NullPointerException();
+        if (mode != Cipher.ENCRYPT_MODE && mode != Cipher.DECRYPT_MODE) {
+            throw new IllegalArgumentException();
+        }
+
+        this.mode = mode;
+        this.key = key;
+    }
+
+    private Cipher cipher() {
+        Cipher cipher = ciphers.get();
+        if (cipher != null) return cipher;
+
+        try {
+            cipher = Cipher.getInstance("ECIES", provider);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+        try {
+            cipher.init(mode, key);
+        } catch (InvalidKeyException e) {
+            e.printStackTrace();
+            throw new RuntimeException(e);
+        }
+
+        ciphers.set(cipher);
+        return cipher;
+    }
+
+    byte[] doFinal(byte[] input) throws IllegalBlockSizeException, BadPaddingException {
+        try {
+            return cipher().doFinal(input);
+        } catch (IllegalBlockSizeException | BadPaddingException | RuntimeException e) {
+            // Don't trust a cipher that has failed. This thread will make a new one.
+            ciphers.remove();
+            throw e;
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.shuffle.bitcoin.impl;
 
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 
 import org.apache.commons.codec.binary.Hex;
 
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
@@ -14,7 +14,6 @@ import java.security.spec.InvalidKeySpecException;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
 
 /**
  * Created by conta on 01.04.16.
@@ -22,9 +21,15 @@ import javax.crypto.NoSuchPaddingException;
 public class EncryptionKeyImpl implements EncryptionKey {
 
     private final PublicKey publicKey;
+    private final Ecies ecies;
+    private final String hex;
+    private final int hash;
 
     public EncryptionKeyImpl(PublicKey pubKey) {
         this.publicKey = pubKey;
+        this.ecies = new Ecies(Cipher.ENCRYPT_MODE, publicKey);
+        this.hex = org.spongycastle.util.encoders.Hex.toHexString(publicKey.getEncoded());
+        this.hash = publicKey.hashCode();
     }
 
     // takes a key in hex as string
@@ -38,6 +43,9 @@ public class EncryptionKeyImpl implements EncryptionKey {
             e.printStackTrace();
             throw new RuntimeException();
         }
+        this.ecies = new Ecies(Cipher.ENCRYPT_MODE, publicKey);
+        this.hex = org.spongycastle.util.encoders.Hex.toHexString(publicKey.getEncoded());
+        this.hash = publicKey.hashCode();
     }
 
     public PublicKey getPublicKey() {
@@ -45,40 +53,29 @@ public class EncryptionKeyImpl implements EncryptionKey {
     }
 
     public String toString() {
-        return org.spongycastle.util.encoders.Hex.toHexString(this.publicKey.getEncoded());
+        return hex;
     }
 
     @Override
     public String encrypt(String input) {
-
         // encrypts the address passed for this encryption key
+        return Hex.encodeHexString(encrypt(input.getBytes(StandardCharsets.UTF_8)));
+    }
 
-        //get cipher cipher for ECIES encryption
-        Cipher cipher = null;
-        try {
-            cipher = Cipher.getInstance("ECIES");
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-            e.printStackTrace();
-            throw new RuntimeException(e);
-        }
-        //init cipher with with our encryption key
-        try {
-            cipher.init(Cipher.ENCRYPT_MODE, publicKey);
-        } catch (InvalidKeyException e) {
-            e.printStackTrace();
-        }
-        //get bytes of address passed
-        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
-        //encrypt
-        byte[] encrypted = new byte[0];
+    @Override
+    public Bytestring encrypt(Bytestring input) {
+        // ECIES output is self-delimiting (ephemeral key || ciphertext || mac), so the
+        // raw bytes can be encrypted again directly without any further encoding.
+        return new Bytestring(encrypt(input.bytes));
+    }
+
+    private byte[] encrypt(byte[] bytes) {
         try {
-            encrypted = cipher.doFinal(bytes);
+            return ecies.doFinal(bytes);
         } catch (IllegalBlockSizeException | BadPaddingException e) {
             e.printStackTrace();
             throw new RuntimeException(e);
         }
-        //create new address with
-        return Hex.encodeHexString(encrypted);
     }
 
     @Override
@@ -88,12 +85,12 @@ public class EncryptionKeyImpl implements EncryptionKey {
 
         EncryptionKeyImpl that = (EncryptionKeyImpl) o;
 
-        return publicKey.equals(that.publicKey);
+        return hash == that.hash && publicKey.equals(that.publicKey);
 
     }
 
     @Override
     public int hashCode() {
-        return publicKey.hashCode();
+        return hash;
     }
 }
\ No newline at end of file
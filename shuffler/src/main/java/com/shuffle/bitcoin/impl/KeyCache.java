@@ -0,0 +1,87 @@
+package com.shuffle.bitcoin.impl;
+
+import com.shuffle.protocol.FormatException;
+
+import org.bitcoinj.core.NetworkParameters;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.concurrent.Callable;
+
+/**
+ * The same keys and addresses come in with every packet, and decoding them means EC point
+ * decoding, address derivation, X509 parsing or base58, so each one is decoded only once.
+ * The objects returned are immutable and the same one is returned for the same encoding.
+ */
+final class KeyCache {
+    private KeyCache() {}
+
+    private static final int capacity = 4096;
+
+    private static final Lru<String, VerificationKeyImpl> verificationKeys = new Lru<>(capacity);
+
+    private static final Lru<String, EncryptionKeyImpl> encryptionKeys = new Lru<>(capacity);
+
+    private static final Lru<String, AddressImpl> addresses = new Lru<>(capacity);
+
+    // Throws whatever decode throws.
+    private static <V> V get(Lru<String, V> cache, String key, Callable<V> decode)
+            throws Exception {
+
+        V value = cache.get(key);
+        if (value != null) return value;
+
+        return cache.putIfAbsent(key, decode.call());
+    }
+
+    // A key is only the same if it is for the same network.
+    static VerificationKeyImpl verificationKey(final String hex, final NetworkParameters params) {
+        String key = (params == null ? "" : params.getId()) + ":" + hex;
+        try {
+            return get(verificationKeys, key, new Callable<VerificationKeyImpl>() {
+                @Override
+                public VerificationKeyImpl call() {
+                    return new VerificationKeyImpl(hex, params);
+                }
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static EncryptionKeyImpl encryptionKey(final String hex)
+            throws InvalidKeySpecException, NoSuchAlgorithmException {
+
+        try {
+            return get(encryptionKeys, hex, new Callable<EncryptionKeyImpl>() {
+                @Override
+                public EncryptionKeyImpl call()
+                        throws InvalidKeySpecException, NoSuchAlgorithmException {
+
+                    return new EncryptionKeyImpl(hex);
+                }
+            });
+        } catch (InvalidKeySpecException | NoSuchAlgorithmException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static AddressImpl address(final String address) throws FormatException {
+        try {
+            return get(addresses, address, new Callable<AddressImpl>() {
+                @Override
+                public AddressImpl call() throws FormatException {
+                    return new AddressImpl(address);
+                }
+            });
+        } catch (FormatException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.shuffle.bitcoin.impl;
+
+import com.shuffle.bitcoin.DecryptionKey;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A few decryption keys made ahead of time, so that a round can begin without waiting
+ * for a key to be generated. Whenever a key is taken, another is made in the background.
+ *
+ * A key is removed from the pool when it is taken, so no key is ever given out twice.
+ */
+class KeyPool {
+    interface Factory {
+        DecryptionKey make();
+    }
+
+    private final Factory factory;
+    private final Executor executor;
+    private final int size;
+
+    private final BlockingQueue<DecryptionKey> keys;
+
+    // The number of keys being made right now.
+    private final AtomicInteger making = new AtomicInteger(0);
+
+    KeyPool(Factory factory, int size, Executor executor) {
+        if (factory == null || executor == null) throw new NullPointerException();
+        if (size < 1) throw new IllegalArgumentException();
+
+        this.factory = factory;
+        this.executor = executor;
+        this.size = size;
+        keys = new ArrayBlockingQueue<>(size);
+
+        refill();
+    }
+
+    // Never blocks on key generation unless the pool is empty.
+    DecryptionKey take() {
+        DecryptionKey dk = keys.poll();
+        refill();
+
+        if (dk != null) return dk;
+
+        // Nothing is ready, so we have to make one ourselves.
+        return factory.make();
+    }
+
+    int available() {
+        return keys.size();
+    }
+
+    private void refill() {
+        while (true) {
+            int n = making.get();
+            if (keys.size() + n >= size) return;
+            if (!making.compareAndSet(n, n + 1)) continue;
+
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            // If the pool has been filled in the meantime, the key is dropped.
+                            keys.offer(factory.make());
+                        } finally {
+                            making.decrementAndGet();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                making.decrementAndGet();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.shuffle.bitcoin.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map which holds at most a fixed number of entries and forgets the least recently used
+ * first. Every operation takes constant time under a single lock. Values are not loaded
+ * here, so that a slow load doesn't hold the lock. If two threads load the same value,
+ * the first one in is kept.
+ */
+final class Lru<K, V> {
+    private final Map<K, V> entries;
+
+    @SuppressWarnings("serial")
+    Lru(final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException();
+
+        // Ordered by access, so that the eldest entry is the least recently used.
+        entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    // Returns the value now held for the key, which is the one given unless
+    // there already was one.
+    synchronized V putIfAbsent(K key, V value) {
+        if (key == null || value == null) throw new NullPointerException();
+
+        V old = entries.get(key);
+        if (old != null) return old;
+
+        entries.put(key, value);
+        return value;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.shuffle.bitcoin.impl;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.prng.SP800SecureRandomBuilder;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Random numbers for shuffling and for generating keys. A SecureRandom is synchronized, so
+ * instead of sharing one, every thread has its own SP800-90A hash DRBG, seeded separately
+ * from the system. The system source is only touched when a DRBG is made, and a thread's
+ * DRBG is replaced with a freshly seeded one after it has been used for a while.
+ */
+final class Randomness {
+    private Randomness() {}
+
+    // How many times a DRBG may be handed out, and for how long, before it is replaced.
+    static final int reseedInterval = 1 << 16;
+    static final long reseedAge = TimeUnit.MINUTES.toNanos(10);
+
+    // Where the seeds come from.
+    private static final SecureRandom entropy = new SecureRandom();
+
+    // Makes sure that no two DRBGs get the same nonce.
+    private static final AtomicLong made = new AtomicLong(0);
+
+    private static final class Drbg {
+        final SecureRandom random;
+        final long born = System.nanoTime();
+        int uses = 0;
+
+        Drbg() {
+            // The personalization string and the nonce need not be secret, only distinct.
+            byte[] personalization = ByteBuffer.allocate(16)
+                    .putLong(Thread.currentThread().getId()).putLong(System.nanoTime()).array();
+            byte[] nonce = ByteBuffer.allocate(8).putLong(made.incrementAndGet()).array();
+
+            random = new SP800SecureRandomBuilder(entropy, false)
+                    .setPersonalizationString(personalization)
+                    .buildHash(new SHA256Digest(), nonce, false);
+        }
+
+        boolean expired() {
+            return uses >= reseedInterval || System.nanoTime() - born >= reseedAge;
+        }
+    }
+
+    private static final ThreadLocal<Drbg> drbg = new ThreadLocal<>();
+
+    // The calling thread's DRBG. It must not be given to other threads.
+    static SecureRandom current() {
+        Drbg d = drbg.get();
+        if (d == null || d.expired()) {
+            d = new Drbg();
+            drbg.set(d);
+        }
+
+        d.uses++;
+        return d.random;
+    }
+}
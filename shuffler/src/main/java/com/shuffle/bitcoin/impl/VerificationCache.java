@@ -0,0 +1,52 @@
+package com.shuffle.bitcoin.impl;
+
+import com.shuffle.p2p.Bytestring;
+
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.Sha256Hash;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The results of signature checks. The same packets are checked again and again: when they
+ * are received, when they are sent as evidence in the blame phase and when they are sent
+ * on. A result depends only on the key, the digest of the message and the signature, so
+ * it is safe to remember it.
+ */
+public final class VerificationCache {
+    private VerificationCache() {}
+
+    private static final int capacity = 4096;
+
+    private static final Lru<Sha256Hash, Boolean> results = new Lru<>(capacity);
+
+    private static final AtomicLong lookups = new AtomicLong(0);
+    private static final AtomicLong misses = new AtomicLong(0);
+
+    // The number of checks answered from the cache.
+    public static long hits() {
+        return lookups.get() - misses.get();
+    }
+
+    // The number of checks for which a signature had to be verified.
+    public static long misses() {
+        return misses.get();
+    }
+
+    private static boolean check(byte[] digest, Bytestring signature, byte[] pubKey) {
+        misses.incrementAndGet();
+        return ECKey.verify(digest, ECKey.ECDSASignature.decodeFromDER(signature.bytes), pubKey);
+    }
+
+    static boolean verify(byte[] digest, Bytestring signature, byte[] pubKey) {
+        lookups.incrementAndGet();
+
+        // The first byte of a public key tells its length, so this is unambiguous.
+        Sha256Hash key = Sha256Hash.of(
+                new Bytestring(pubKey).append(new Bytestring(digest)).append(signature).bytes);
+        Boolean result = results.get(key);
+        if (result != null) return result;
+
+        return results.putIfAbsent(key, check(digest, signature, pubKey));
+    }
+}
@@ -9,9 +9,10 @@ import org.bitcoinj.core.NetworkParameters;
 import org.bitcoinj.core.Sha256Hash;
 import org.bouncycastle.util.encoders.Hex;
 
-import java.util.Arrays;
-
 /**
+ * Immutable. The address and hash code are worked out once, since keys are compared
+ * and put in sets all the time.
+ *
  * Created by conta on 31.03.16.
  */
 public class VerificationKeyImpl implements VerificationKey {
@@ -20,21 +21,21 @@ public class VerificationKeyImpl implements VerificationKey {
    private final byte[] vKey;
    private final NetworkParameters params;
    public final Address address;
+   private final String addressString; // base58 is slow.
+   private final int hash;
 
    public VerificationKeyImpl(byte[] ecKey, NetworkParameters params) {
       this.ecKey = ECKey.fromPublicOnly(ecKey);
       this.vKey = this.ecKey.getPubKey();
       this.params = params;
       this.address = new AddressImpl(this.ecKey.toAddress(params));
+      this.addressString = address.toString();
+      this.hash = address.hashCode();
    }
 
    public VerificationKeyImpl(String string, NetworkParameters params) {
       // TODO
-      byte[] bytes = Hex.decode(string);
-      this.ecKey = ECKey.fromPublicOnly(bytes);
-      this.vKey = this.ecKey.getPubKey();
-      this.params = params;
-      this.address = new AddressImpl(this.ecKey.toAddress(params));
+      this(Hex.decode(string), params);
    }
 
    // returns PublicKey compressed, 66 chars
@@ -46,14 +47,13 @@ public class VerificationKeyImpl implements VerificationKey {
 
    @Override
    public boolean verify(Bytestring payload, Bytestring signature) {
-      ECKey.ECDSASignature ecdsaSignature;
-      ecdsaSignature = ECKey.ECDSASignature.decodeFromDER(signature.bytes);
-      return ECKey.verify(Sha256Hash.of(payload.bytes).getBytes(),ecdsaSignature,vKey);
+      // The same packets are checked many times over.
+      return VerificationCache.verify(Sha256Hash.of(payload.bytes).getBytes(), signature, vKey);
    }
 
    @Override
    public boolean equals(Object vk) {
-      return vk != null
+      return vk == this || vk != null
               && vk instanceof VerificationKeyImpl
               && address.equals(((VerificationKeyImpl) vk).address);
 
@@ -70,15 +70,13 @@ public class VerificationKeyImpl implements VerificationKey {
          throw new IllegalArgumentException("unable to compare with other VerificationKey");
       }
       //get netParams to create right address and check by address.
-      return address.toString().compareTo((((VerificationKeyImpl) o).address).toString());
+      return addressString.compareTo(((VerificationKeyImpl) o).addressString);
    }
 
    @Override
    public int hashCode() {
-      int result = ecKey.hashCode();
-      result = 31 * result + Arrays.hashCode(vKey);
-      result = 31 * result + params.hashCode();
-      return result;
+      // Equal keys have equal addresses.
+      return hash;
    }
 
 }
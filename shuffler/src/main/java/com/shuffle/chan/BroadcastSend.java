@@ -0,0 +1,36 @@
+package com.shuffle.chan;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * BroadcastSend sends the same object down every one of a set of channels.
+ */
+public class BroadcastSend<X> implements Send<X> {
+    private final Collection<? extends Send<X>> chans;
+
+    public BroadcastSend(Collection<? extends Send<X>> chans) {
+        if (chans == null) throw new NullPointerException();
+
+        this.chans = chans;
+    }
+
+    // Returns true if any channel accepted x, since then x has gone out and cannot be
+    // taken back.
+    @Override
+    public boolean send(X x) throws InterruptedException, IOException {
+        boolean sent = false;
+        for (Send<X> chan : chans) {
+            sent = chan.send(x) || sent;
+        }
+
+        return sent;
+    }
+
+    @Override
+    public void close() {
+        for (Send<X> chan : chans) {
+            chan.close();
+        }
+    }
+}
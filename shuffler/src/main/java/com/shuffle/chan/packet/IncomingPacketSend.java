@@ -1,26 +1,29 @@
 package com.shuffle.chan.packet;
 
 import com.shuffle.chan.Send;
+import com.shuffle.p2p.Bytestring;
 
 import java.io.IOException;
 import java.io.Serializable;
 
 /**
  * IncomingPacketSend checks incoming packets to see that they have the correct
- * values for from, to, session, and sequenceNumber
+ * values for from, to, session, and sequenceNumber. A packet with no recipient is
+ * a broadcast. A sender numbers all its packets from one sequence, broadcasts
+ * included, so the numbers on one link only have to increase.
  *
  * Created by Daniel Krawisz on 5/24/16.
  */
 public class IncomingPacketSend<Address extends Serializable, X extends Serializable> implements Send<Packet<Address, X>> {
     private final Send<Packet<Address, X>> send;
 
-    private final String session;
+    private final Bytestring session;
     private final Address from, to;
 
     int sequenceNumber = 0;
     boolean closed = false;
 
-    public IncomingPacketSend(Send<Packet<Address, X>> send, String session, Address from, Address to) {
+    public IncomingPacketSend(Send<Packet<Address, X>> send, Bytestring session, Address from, Address to) {
         if (send == null || session == null || from == null || to == null) throw new NullPointerException();
 
         this.send = send;
@@ -34,14 +37,14 @@ public class IncomingPacketSend<Address extends Serializable, X extends Serializ
         if (closed) return false;
 
         if (!session.equals(x.session) || !from.equals(x.from)
-                || !to.equals(x.to) || sequenceNumber != x.sequenceNumber) {
+                || (x.to != null && !to.equals(x.to)) || x.sequenceNumber < sequenceNumber) {
 
             return false;
         }
 
         boolean sent = send.send(x);
 
-        if (sent) sequenceNumber ++;
+        if (sent) sequenceNumber = x.sequenceNumber + 1;
 
         return sent;
     }
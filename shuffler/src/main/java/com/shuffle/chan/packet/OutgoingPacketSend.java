@@ -5,9 +5,12 @@ import com.shuffle.p2p.Bytestring;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * OutgoingPacketSend creates packets with the correct sequence numbers.
+ * OutgoingPacketSend creates packets with the correct sequence numbers. If to is
+ * null, the packets are broadcasts. Several of them can share one sequence so that
+ * every packet from the same sender gets a different number.
  *
  * Created by Daniel Krawisz on 5/24/16.
  */
@@ -17,26 +20,35 @@ public class OutgoingPacketSend<Address extends Serializable, X extends Serializ
     private final Bytestring session;
     private final Address from, to;
 
-    int sequenceNumber = 0;
+    private final AtomicInteger sequenceNumber;
     boolean closed = false;
 
-    public OutgoingPacketSend(Send<Packet<Address, X>> send, Bytestring session, Address from, Address to) {
-        if (send == null || session == null || from == null || to == null) throw new NullPointerException();
+    public OutgoingPacketSend(
+            Send<Packet<Address, X>> send, Bytestring session, Address from, Address to,
+            AtomicInteger sequenceNumber) {
+
+        if (send == null || session == null || from == null || sequenceNumber == null)
+            throw new NullPointerException();
 
         this.send = send;
         this.session = session;
         this.from = from;
         this.to = to;
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public OutgoingPacketSend(Send<Packet<Address, X>> send, Bytestring session, Address from, Address to) {
+        this(send, session, from, to, new AtomicInteger(0));
     }
 
     @Override
     public boolean send(X x) throws InterruptedException, IOException {
         if (closed) return false;
 
-        boolean sent = send.send(new Packet<Address, X>(session, from, to, sequenceNumber, x));
+        boolean sent = send.send(new Packet<Address, X>(session, from, to, sequenceNumber.get(), x));
 
         if (sent) {
-            sequenceNumber++;
+            sequenceNumber.incrementAndGet();
         }
 
         return sent;
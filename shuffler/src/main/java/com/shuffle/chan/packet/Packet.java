@@ -5,6 +5,8 @@ import com.shuffle.p2p.Bytestring;
 import java.io.Serializable;
 
 /**
+ * If to is null, the packet is a broadcast to everyone in the session.
+ *
  * Created by Daniel Krawisz on 5/24/16.
  */
 public class Packet<Address extends Serializable, X extends Serializable> implements Serializable {
@@ -15,7 +17,7 @@ public class Packet<Address extends Serializable, X extends Serializable> implem
     public final X payload;
 
     public Packet(Bytestring session, Address from, Address to, int sequenceNumber, X payload) {
-        if (session == null || from == null || to == null || payload == null)
+        if (session == null || from == null || payload == null)
             throw new NullPointerException();
 
         this.session = session;
@@ -32,7 +34,7 @@ public class Packet<Address extends Serializable, X extends Serializable> implem
 
     @Override
     public int hashCode() {
-        return session.hashCode() + 17 * (from.hashCode() + 17 * (to.hashCode() + 17 * (sequenceNumber + 17 * payload.hashCode())));
+        return session.hashCode() + 17 * (from.hashCode() + 17 * ((to == null ? 0 : to.hashCode()) + 17 * (sequenceNumber + 17 * payload.hashCode())));
     }
 
     @Override
@@ -41,7 +43,7 @@ public class Packet<Address extends Serializable, X extends Serializable> implem
 
         Packet p = (Packet)o;
 
-        return session.equals(p.session) && from.equals(p.from) && to.equals(p.to)
+        return session.equals(p.session) && from.equals(p.from) && (to == null ? p.to == null : to.equals(p.to))
                 && sequenceNumber == p.sequenceNumber && payload.equals(p.payload);
     }
 }
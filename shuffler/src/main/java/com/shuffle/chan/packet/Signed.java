@@ -5,6 +5,7 @@ import com.shuffle.p2p.Bytestring;
 import com.shuffle.player.proto.Proto;
 import com.shuffle.protocol.FormatException;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -14,11 +15,20 @@ public class Signed<X> implements Serializable {
     public final X message;
     public final Bytestring signature;
 
-    Signed(X message, Bytestring signature) {
+    // The bytes which were signed, if we have them. Not serialized, since nothing would
+    // guarantee that they match the message on the other side.
+    public final transient Bytestring encoded;
+
+    Signed(X message, Bytestring signature, Bytestring encoded) {
         if (message == null || signature == null) throw new NullPointerException();
 
         this.message = message;
         this.signature = signature;
+        this.encoded = encoded;
+    }
+
+    Signed(X message, Bytestring signature) {
+        this(message, signature, null);
     }
 
     public Signed(Bytestring message, Bytestring signature, VerificationKey key, Marshaller<X> m) throws FormatException {
@@ -30,6 +40,29 @@ public class Signed<X> implements Serializable {
 
         this.signature = signature;
         this.message = m.unmarshall(message);
+        this.encoded = message;
+    }
+
+    // For when the message has already been read from the bytes which were signed.
+    public Signed(X message, Bytestring encoded, Bytestring signature, VerificationKey key) {
+        if (message == null || encoded == null || signature == null || key == null) {
+            throw new NullPointerException();
+        }
+
+        if (!key.verify(encoded, signature)) {
+            throw new IllegalArgumentException();
+        }
+
+        this.message = message;
+        this.signature = signature;
+        this.encoded = encoded;
+    }
+
+    // The bytes which were signed. They are only recomputed if we don't already have them.
+    public Bytestring encoded(Marshaller<X> m) throws IOException {
+        if (encoded != null) return encoded;
+
+        return m.marshall(message);
     }
 
     @Override
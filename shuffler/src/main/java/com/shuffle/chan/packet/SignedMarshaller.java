@@ -0,0 +1,55 @@
+package com.shuffle.chan.packet;
+
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.protocol.FormatException;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * Marshalls signed messages as the bytes which were signed, followed by the signature.
+ * Nothing is serialized again if the signed bytes are already known, and the message
+ * is only parsed once when it is read back.
+ */
+public class SignedMarshaller<X extends Serializable> implements Marshaller<Signed<X>> {
+    private final Marshaller<X> m;
+
+    public SignedMarshaller(Marshaller<X> m) {
+        if (m == null) throw new NullPointerException();
+
+        this.m = m;
+    }
+
+    @Override
+    public Bytestring marshall(Signed<X> x) throws IOException {
+        Bytestring encoded = x.encoded(m);
+        if (encoded == null) return null;
+
+        return new Bytestring(ByteBuffer.allocate(4 + encoded.bytes.length + x.signature.bytes.length)
+                .putInt(encoded.bytes.length).put(encoded.bytes).put(x.signature.bytes).array());
+    }
+
+    @Override
+    public Signed<X> unmarshall(Bytestring string) throws FormatException {
+        if (string == null || string.bytes.length < 4) {
+            throw new FormatException("Signed message too short.");
+        }
+
+        ByteBuffer b = ByteBuffer.wrap(string.bytes);
+        int length = b.getInt();
+        if (length < 0 || length > b.remaining()) {
+            throw new FormatException("Invalid length " + length + " for signed message.");
+        }
+
+        byte[] encoded = new byte[length];
+        byte[] signature = new byte[b.remaining() - length];
+        b.get(encoded).get(signature);
+
+        Bytestring e = new Bytestring(encoded);
+        X message = m.unmarshall(e);
+        if (message == null) throw new FormatException("Could not read signed message.");
+
+        return new Signed<>(message, new Bytestring(signature), e);
+    }
+}
@@ -37,7 +37,7 @@ public class SigningSend<X> implements Send<X> {
         b = marshaller.marshall(x);
         if (b == null) return false;
         Bytestring s = key.sign(b);
-        return s != null && session.send(new Signed<>(x, s));
+        return s != null && session.send(new Signed<>(x, s, b));
 
     }
 
@@ -0,0 +1,197 @@
+package com.shuffle.chan.packet;
+
+import com.shuffle.bitcoin.VerificationKey;
+import com.shuffle.chan.Send;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A stage which checks signatures on incoming messages in a pool of worker threads, so that
+ * the threads reading from the network don't have to. Messages from the same sender are
+ * passed on in the order they arrived. Each sender has a bounded queue, and a sender whose
+ * queue is full is blocked until there is room, so one peer flooding us with messages
+ * holds up only its own connection.
+ */
+public class Verifier<X extends Serializable> {
+    private static final Logger log = LogManager.getLogger(Verifier.class);
+
+    private final Marshaller<X> marshaller;
+    private final ExecutorService pool;
+    private final int capacity; // Maximum number of unverified messages per sender.
+
+    private final AtomicLong verified = new AtomicLong(0);
+    private final AtomicLong rejected = new AtomicLong(0);
+    private final AtomicLong totalLatency = new AtomicLong(0); // Nanoseconds.
+    private final AtomicLong maxLatency = new AtomicLong(0); // Nanoseconds.
+
+    public Verifier(Marshaller<X> marshaller, int threads, int capacity) {
+        if (marshaller == null) throw new NullPointerException();
+        if (threads < 1 || capacity < 1) throw new IllegalArgumentException();
+
+        this.marshaller = marshaller;
+        this.capacity = capacity;
+
+        // Each sender has at most one task in the pool at a time, so the task queue
+        // cannot grow beyond the number of senders.
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "verifier");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.pool = pool;
+    }
+
+    public Verifier(Marshaller<X> marshaller) {
+        this(marshaller, Runtime.getRuntime().availableProcessors(), 100);
+    }
+
+    private class Pending {
+        final Signed<X> x;
+        final long queued = System.nanoTime();
+
+        private Pending(Signed<X> x) {
+            this.x = x;
+        }
+    }
+
+    private class Sender implements Send<Signed<X>>, Runnable {
+        private final VerificationKey key;
+        private final Send<Signed<X>> send;
+        private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>(capacity);
+
+        // Whether a task for this sender is in the pool.
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean sendClosed = new AtomicBoolean(false);
+        private volatile boolean closed = false;
+
+        private Sender(VerificationKey key, Send<Signed<X>> send) {
+            this.key = key;
+            this.send = send;
+        }
+
+        private void schedule() {
+            if ((!queue.isEmpty() || closed && !sendClosed.get())
+                    && scheduled.compareAndSet(false, true)) {
+
+                pool.execute(this);
+            }
+        }
+
+        @Override
+        public boolean send(Signed<X> x) throws InterruptedException, IOException {
+            if (closed || x == null) return false;
+
+            queue.put(new Pending(x));
+            schedule();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                // Don't hold on to the thread for too long if other senders are waiting.
+                for (int i = 0; i < capacity; i++) {
+                    Pending p = queue.poll();
+                    if (p == null) break;
+
+                    if (!verify(p)) continue;
+
+                    if (!send.send(p.x)) {
+                        log.warn("Verified message from " + key + " could not be delivered.");
+                    }
+                }
+
+                if (closed && queue.isEmpty() && sendClosed.compareAndSet(false, true)) {
+                    send.close();
+                }
+            } catch (InterruptedException | IOException e) {
+                log.warn("Verifier for " + key + " stopped: " + e.getMessage());
+                queue.clear();
+                closed = true;
+            } finally {
+                scheduled.set(false);
+                schedule();
+            }
+        }
+
+        private boolean verify(Pending p) throws IOException {
+            boolean ok = key.verify(p.x.encoded(marshaller), p.x.signature);
+
+            long latency = System.nanoTime() - p.queued;
+            totalLatency.addAndGet(latency);
+            long max;
+            do {
+                max = maxLatency.get();
+            } while (latency > max && !maxLatency.compareAndSet(max, latency));
+
+            if (ok) {
+                verified.incrementAndGet();
+            } else {
+                rejected.incrementAndGet();
+                log.warn("Invalid signature from " + key + " on " + p.x.message);
+            }
+
+            return ok;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            schedule();
+        }
+    }
+
+    // Messages sent along the returned channel are passed on to send
+    // if they have been correctly signed by key.
+    public Send<Signed<X>> verifies(VerificationKey key, Send<Signed<X>> send) {
+        if (key == null || send == null) throw new NullPointerException();
+
+        return new Sender(key, send);
+    }
+
+    // The number of messages which have been found to be correctly signed.
+    public long verified() {
+        return verified.get();
+    }
+
+    // The number of messages which have been discarded for having a bad signature.
+    public long rejected() {
+        return rejected.get();
+    }
+
+    // Mean time in milliseconds between a message arriving and its signature being checked.
+    public double meanLatency() {
+        long n = verified.get() + rejected.get();
+        if (n == 0) return 0;
+
+        return totalLatency.get() / (n * 1000000.0);
+    }
+
+    // Longest time in milliseconds between a message arriving and its signature being checked.
+    public double maxLatency() {
+        return maxLatency.get() / 1000000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "Verifier[verified: " + verified() + ", rejected: " + rejected()
+                + ", mean latency: " + meanLatency() + "ms, max latency: " + maxLatency() + "ms]";
+    }
+}
@@ -32,7 +32,7 @@ public class VerifyingSend<X> implements Send<Signed<X>> {
 
     @Override
     public boolean send(Signed<X> x) throws InterruptedException, IOException {
-        return x != null && key.verify(marshaller.marshall(x.message), x.signature) && send.send(x);
+        return x != null && key.verify(x.encoded(marshaller), x.signature) && send.send(x);
 
     }
 
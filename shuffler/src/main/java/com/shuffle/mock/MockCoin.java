@@ -9,6 +9,7 @@
 package com.shuffle.mock;
 
 import com.shuffle.bitcoin.Address;
+import com.shuffle.bitcoin.AsyncCoin;
 import com.shuffle.bitcoin.Coin;
 import com.shuffle.bitcoin.CoinNetworkException;
 import com.shuffle.bitcoin.SigningKey;
@@ -27,20 +28,26 @@ import java.io.ObjectInputStream;
 import java.io.Reader;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * Simulation of a cryptocurrency network for testing purposes.
  *
  * Created by Daniel Krawisz on 12/5/15.
  */
-public class MockCoin implements com.shuffle.sim.MockCoin {
+public class MockCoin implements com.shuffle.sim.MockCoin, AsyncCoin {
     public static class Output implements Serializable {
         public final Address address;
         public final long amountHeld;
@@ -193,6 +200,18 @@ public class MockCoin implements com.shuffle.sim.MockCoin {
             return false;
         }
 
+        @Override
+        public <K> Set<K> addInputScripts(Map<K, Bytestring> scripts) throws FormatException {
+            Set<K> invalid = new HashSet<>();
+            for (Map.Entry<K, Bytestring> script : scripts.entrySet()) {
+                if (!addInputScript(script.getValue())) {
+                    invalid.add(script.getKey());
+                }
+            }
+
+            return invalid;
+        }
+
         @Override
         // Check whether a signature exists for each input.
         public boolean isValid() {
@@ -334,6 +353,18 @@ public class MockCoin implements com.shuffle.sim.MockCoin {
         return valueHeld(addr) >= amount;
     }
 
+    @Override
+    public Set<Address> insufficientFunds(Collection<Address> addrs, long amount) {
+        Set<Address> insufficient = new HashSet<>();
+        for (Address addr : addrs) {
+            if (!sufficientFunds(addr, amount)) {
+                insufficient.add(addr);
+            }
+        }
+
+        return insufficient;
+    }
+
     @Override
     // TODO transaction fees.
     public Transaction shuffleTransaction(
@@ -389,6 +420,86 @@ public class MockCoin implements com.shuffle.sim.MockCoin {
         return sent.get(output);
     }
 
+    @Override
+    public Map<Address, Transaction> getConflictingTransactions(
+            Transaction transaction, Collection<Address> addrs, long amount) {
+
+        Map<Address, Transaction> conflicts = new HashMap<>();
+        for (Address addr : addrs) {
+            Transaction t = getConflictingTransaction(transaction, addr, amount);
+            if (t != null) {
+                conflicts.put(addr, t);
+            }
+        }
+
+        return conflicts;
+    }
+
+    // There is no network to wait for, so the asynchronous methods return futures
+    // which are already done.
+    private static <X> Future<X> done(Callable<X> call) {
+        FutureTask<X> task = new FutureTask<>(call);
+        task.run();
+        return task;
+    }
+
+    @Override
+    public Future<Transaction> shuffleTransactionAsync(
+            final long amount,
+            final List<VerificationKey> from,
+            final Queue<Address> to,
+            final Map<VerificationKey, Address> changeAddresses) {
+
+        return done(new Callable<Transaction>() {
+            @Override
+            public Transaction call() throws CoinNetworkException {
+                return shuffleTransaction(amount, from, to, changeAddresses);
+            }
+        });
+    }
+
+    @Override
+    public synchronized Future<Map<Address, Long>> valueHeldAsync(final Collection<Address> addrs) {
+        return done(new Callable<Map<Address, Long>>() {
+            @Override
+            public Map<Address, Long> call() {
+                Map<Address, Long> values = new HashMap<>();
+                for (Address addr : addrs) {
+                    values.put(addr, valueHeld(addr));
+                }
+                return values;
+            }
+        });
+    }
+
+    @Override
+    public synchronized Future<Map<Address, Boolean>> sufficientFundsAsync(
+            final Map<Address, Long> amounts) {
+
+        return done(new Callable<Map<Address, Boolean>>() {
+            @Override
+            public Map<Address, Boolean> call() {
+                Map<Address, Boolean> sufficient = new HashMap<>();
+                for (Map.Entry<Address, Long> entry : amounts.entrySet()) {
+                    sufficient.put(entry.getKey(), valueHeld(entry.getKey()) >= entry.getValue());
+                }
+                return sufficient;
+            }
+        });
+    }
+
+    @Override
+    public synchronized Future<Map<Address, Transaction>> getConflictingTransactionsAsync(
+            final Transaction transaction, final Collection<Address> addrs, final long amount) {
+
+        return done(new Callable<Map<Address, Transaction>>() {
+            @Override
+            public Map<Address, Transaction> call() {
+                return getConflictingTransactions(transaction, addrs, amount);
+            }
+        });
+    }
+
     @Override
     public Transaction getSpendingTransaction(Address addr, long amount) {
         Output output = blockchain.get(addr);
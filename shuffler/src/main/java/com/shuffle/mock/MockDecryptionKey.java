@@ -11,6 +11,7 @@ package com.shuffle.mock;
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 import java.io.Serializable;
@@ -51,6 +52,12 @@ public class MockDecryptionKey implements DecryptionKey, Serializable {
         return m + "~decrypt[" + index + "]";
     }
 
+    @Override
+    public Bytestring decrypt(Bytestring m) {
+        return MockEncryptionKey.layer(
+                m, MockEncryptionKey.ENCRYPT, MockEncryptionKey.DECRYPT, index);
+    }
+
     @Override
     public String toString() {
         return "dk[" + index + "]";
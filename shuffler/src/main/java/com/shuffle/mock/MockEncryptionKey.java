@@ -10,8 +10,11 @@ package com.shuffle.mock;
 
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 /**
@@ -19,6 +22,11 @@ import java.util.regex.Pattern;
  * Created by Daniel Krawisz on 12/8/15.
  */
 public class MockEncryptionKey implements EncryptionKey, Serializable {
+    // Tags for the binary form of a layer, which is a tag byte followed by the index.
+    static final byte ENCRYPT = 'e';
+    static final byte DECRYPT = 'd';
+    static final int LAYER = 5;
+
     public final int index;
 
     public MockEncryptionKey(int index) {
@@ -40,6 +48,25 @@ public class MockEncryptionKey implements EncryptionKey, Serializable {
         return m + "~encrypt[" + index + "]";
     }
 
+    @Override
+    public Bytestring encrypt(Bytestring m) {
+        return layer(m, DECRYPT, ENCRYPT, index);
+    }
+
+    // Binary equivalent of the string methods. Strips the layer tagged with cancel
+    // if it is on top and appends a layer tagged with add otherwise.
+    static Bytestring layer(Bytestring m, byte cancel, byte add, int index) {
+        byte[] top = ByteBuffer.allocate(LAYER).put(cancel).putInt(index).array();
+        int n = m.bytes.length;
+
+        if (n >= LAYER && Arrays.equals(Arrays.copyOfRange(m.bytes, n - LAYER, n), top)) {
+            return new Bytestring(Arrays.copyOf(m.bytes, n - LAYER));
+        }
+
+        return new Bytestring(
+                ByteBuffer.allocate(n + LAYER).put(m.bytes).put(add).putInt(index).array());
+    }
+
     @Override
     public String toString() {
         return "ek[" + index + "]";
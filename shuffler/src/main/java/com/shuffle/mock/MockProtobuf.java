@@ -11,12 +11,52 @@ import com.shuffle.player.Protobuf;
 import com.shuffle.protocol.FormatException;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Created by Daniel Krawisz on 7/14/16.
  */
 public class MockProtobuf extends Protobuf {
 
+    public MockProtobuf() {
+        super();
+    }
+
+    public MockProtobuf(int version) {
+        super(version);
+    }
+
+    // Mock keys are sent as their index.
+    private static Bytestring encodeIndex(int index) {
+        return new Bytestring(ByteBuffer.allocate(4).putInt(index).array());
+    }
+
+    private static int decodeIndex(Bytestring b) throws FormatException {
+        if (b.bytes.length != 4) throw new FormatException("Could not read " + b + " as index.");
+
+        return ByteBuffer.wrap(b.bytes).getInt();
+    }
+
+    @Override
+    public Bytestring encodeVerificationKey(VerificationKey vk) {
+        return encodeIndex(((MockVerificationKey) vk).index);
+    }
+
+    @Override
+    public VerificationKey decodeVerificationKey(Bytestring b) throws FormatException {
+        return new MockVerificationKey(decodeIndex(b));
+    }
+
+    @Override
+    public Bytestring encodeEncryptionKey(EncryptionKey ek) {
+        return encodeIndex(((MockEncryptionKey) ek).index);
+    }
+
+    @Override
+    public EncryptionKey decodeEncryptionKey(Bytestring b) throws FormatException {
+        return new MockEncryptionKey(decodeIndex(b));
+    }
+
     @Override
     // Unmarshall an address from its string representation.
     public Address unmarshallAdress(String str) {
@@ -15,10 +15,12 @@ import com.shuffle.bitcoin.SigningKey;
 import com.shuffle.bitcoin.Transaction;
 import com.shuffle.bitcoin.VerificationKey;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
 /**
  * Created by Daniel Krawisz on 3/9/16.
@@ -55,8 +57,19 @@ public class TransactionMutator implements Coin {
         return coin.sufficientFunds(addr, amount);
     }
 
+    @Override
+    public Set<Address> insufficientFunds(Collection<Address> addrs, long amount) {
+        return coin.insufficientFunds(addrs, amount);
+    }
+
     @Override
     public Transaction getConflictingTransaction(Transaction t, Address addr, long amount) {
         return coin.getConflictingTransaction(t, addr, amount);
     }
+
+    @Override
+    public Map<Address, Transaction> getConflictingTransactions(
+            Transaction t, Collection<Address> addrs, long amount) {
+        return coin.getConflictingTransactions(t, addrs, amount);
+    }
 }
@@ -26,6 +26,11 @@ public class Collector<Address, X extends Serializable> implements Listener<Addr
         this.inbox = inbox;
     }
 
+    // Open a channel into the inbox for messages from the given peer.
+    public Send<X> receivesFrom(Address address) {
+        return inbox.receivesFrom(address);
+    }
+
     public Send<X> get(Address address) {
         return connected.get(address);
     }
@@ -50,7 +55,7 @@ public class Collector<Address, X extends Serializable> implements Listener<Addr
 
         if (!put(session)) return null;
 
-        return inbox.receivesFrom(session.peer().identity());
+        return receivesFrom(session.peer().identity());
     }
 
     @Override
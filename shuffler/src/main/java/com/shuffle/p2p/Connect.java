@@ -82,7 +82,7 @@ public class Connect<Identity, P extends Serializable> implements Connection<Ide
                 Identity identity,
                 Peer<Identity, P> peer) throws InterruptedException, IOException {
 
-            Send<P> processor = collector.inbox.receivesFrom(identity);
+            Send<P> processor = collector.receivesFrom(identity);
             if (processor != null) {
                 Session<Identity, P> session =
                         peer.openSession(processor);
@@ -157,9 +157,15 @@ public class Connect<Identity, P extends Serializable> implements Connection<Ide
     public Connect(Channel<Identity, P> channel, Crypto crypto, int capacity)
             throws InterruptedException, IOException {
 
-        if (channel == null || crypto == null) throw new NullPointerException();
+        this(channel, crypto, new Collector<>(new Inbox<Identity, P>(capacity)));
+    }
+
+    public Connect(Channel<Identity, P> channel, Crypto crypto, Collector<Identity, P> collector)
+            throws InterruptedException, IOException {
+
+        if (channel == null || crypto == null || collector == null) throw new NullPointerException();
 
-        collector = new Collector<>(new Inbox<Identity, P>(capacity));
+        this.collector = collector;
 
         connection = channel.open(collector);
         if (connection == null ) throw new IllegalArgumentException();
@@ -11,7 +11,7 @@ import com.shuffle.chan.packet.Packet;
  */
 public class JavaShuffleMarshaller implements Messages.ShuffleMarshaller {
     @Override
-    public Marshaller<Message.Atom> atomMarshaller() {
+    public Marshaller<Message> messageMarshaller() {
         return new JavaMarshaller<>();
     }
 
@@ -12,18 +12,28 @@ import com.shuffle.protocol.message.Phase;
 import java.io.IOException;
 import java.io.Serializable;
 import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Implementation of coin shuffle messages.
  *
+ * A message is an immutable sequence of atoms. Messages share an append-only buffer, so
+ * attaching to the end of a message is amortized O(1) and rest() is O(1).
+ *
  * Created by Daniel Krawisz on 5/26/16.
  */
-public class Message implements com.shuffle.protocol.message.Message, Serializable {
+public class Message implements com.shuffle.protocol.message.Message, Iterable<Message.Atom> {
 
     public static class SecureHash implements Serializable {
         public final Bytestring hashed;
 
-        public SecureHash(MessageDigest digest, Marshaller<Atom> m, Atom toHash) throws FormatException, IOException {
+        public SecureHash(MessageDigest digest, Marshaller<Message> m, Message toHash)
+                throws FormatException, IOException {
+
             digest.update(m.marshall(toHash).bytes);
 
             hashed = new Bytestring(digest.digest());
@@ -52,117 +62,93 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
             return hashed.equals(mockHashed.hashed);
         }
+
+        public int hashCode() {
+            return hashed.hashCode();
+        }
     }
 
-    public static class Atom implements Serializable {
-        public final Address addr;
-        public final EncryptionKey ek;
-        public final SecureHash secureHash;
-        public final Bytestring sig;
-        public final String string;
-        public final Blame blame;
-
-        public final Atom next;
-
-        public Atom(
-                Address addr,
-                EncryptionKey ek,
-                SecureHash secureHash,
-                Bytestring sig,
-                String string,
-                Blame blame,
-                //com.shuffle.protocol.message.Packet packet,
-                Atom next
-        ) {
-            // Enforce the correct format.
-            format:
-            {
-                if (addr != null) {
-                    if (ek != null || sig != null || secureHash != null
-                            || blame != null || string != null) {
-
-                        throw new IllegalArgumentException();
-                    }
-                    break format;
-                }
-
-                if (ek != null) {
-                    if (sig != null || secureHash != null || string != null || blame != null) {
-                        throw new IllegalArgumentException();
-                    }
-                    break format;
-                }
-
-                if (sig != null) {
-                    if (secureHash != null || string != null || blame != null) {
-                        throw new IllegalArgumentException();
-                    }
-                    break format;
-                }
-
-                if (secureHash != null) {
-                    if (string != null || blame != null) {
-                        throw new IllegalArgumentException();
-                    }
-                    break format;
-                }
-
-                if (string != null) {
-                    if (blame != null) {
-                        throw new IllegalArgumentException();
-                    }
-                    break format;
-                }
-
-                if (blame != null) {
-                    break format;
-                }
-
-                throw new IllegalArgumentException();
+    // The binary ciphertext produced in the shuffle phase. It is kept distinct from
+    // Bytestring, which is used for signatures.
+    public static class Onion implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final Bytestring bytes;
+
+        public Onion(Bytestring bytes) {
+            if (bytes == null) throw new NullPointerException();
+
+            this.bytes = bytes;
+        }
+
+        public String toString() {
+            return "onion[" + bytes + "]";
+        }
+
+        public boolean equals(Object o) {
+            if (o == null) {
+                return false;
             }
 
-            this.addr = addr;
-            this.ek = ek;
-            this.sig = sig;
-            this.secureHash = secureHash;
-            this.string = string;
-            this.blame = blame;
-            this.next = next;
+            if (!(o instanceof Onion)) {
+                return false;
+            }
+
+            return bytes.equals(((Onion) o).bytes);
         }
 
-        public static Atom make(Object o, Atom next) {
+        public int hashCode() {
+            return bytes.hashCode();
+        }
+    }
+
+    // The kinds of value that can go in a message.
+    public enum Type {
+        Address,
+        EncryptionKey,
+        SecureHash,
+        Signature,
+        String,
+        Blame,
+        Onion
+    }
+
+    // A single element of a message, tagged with its type.
+    public static final class Atom implements Serializable {
+        public final Type type;
+        public final Object value;
+
+        private Atom(Type type, Object value) {
+            if (value == null) throw new NullPointerException();
+
+            this.type = type;
+            this.value = value;
+        }
+
+        public static Atom make(Object o) {
             if (o instanceof Address) {
-                return new Atom((Address) o, null, null, null, null, null, next);
+                return new Atom(Type.Address, o);
             }
             if (o instanceof EncryptionKey) {
-                return new Atom(null, (EncryptionKey) o, null, null, null, null, next);
+                return new Atom(Type.EncryptionKey, o);
             }
             if (o instanceof SecureHash) {
-                return new Atom(null, null, (SecureHash) o, null, null, null, next);
+                return new Atom(Type.SecureHash, o);
             }
             if (o instanceof Bytestring) {
-                return new Atom(null, null, null, (Bytestring) o, null, null, next);
+                return new Atom(Type.Signature, o);
             }
             if (o instanceof String) {
-                return new Atom(null, null, null, null, (String)o, null, next);
+                return new Atom(Type.String, o);
             }
             if (o instanceof Blame) {
-                return new Atom(null, null, null, null, null, (Blame) o, next);
+                return new Atom(Type.Blame, o);
             }
-
-            throw new IllegalArgumentException();
-        }
-
-        public static Atom make(Object o) {
-            return make(o, null);
-        }
-
-        private static Atom attach(Atom a, Atom o) {
-            if (a == null) {
-                return o;
+            if (o instanceof Onion) {
+                return new Atom(Type.Onion, o);
             }
 
-            return new Atom(a.addr, a.ek, a.secureHash, a.sig, a.string, a.blame, attach(a.next, o));
+            throw new IllegalArgumentException();
         }
 
         @Override
@@ -177,156 +163,235 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
             Atom a = (Atom) o;
 
-            return this == a || a.sig == sig
-                    && (a.ek == null && ek == null || ek != null && ek.equals(a.ek))
-                    && (a.addr == null && addr == null || addr != null && addr.equals(a.addr))
-                    && (a.blame == null && blame == null || blame != null && blame.equals(a.blame))
-                    && (a.secureHash == null && secureHash == null || secureHash != null && secureHash.equals(a.secureHash))
-                    && (a.next == null && next == null || next != null && next.equals(a.next));
+            return this == a || type == a.type && value.equals(a.value);
         }
 
         @Override
         public int hashCode() {
-            int hash = addr == null ? 0 : addr.hashCode();
-            hash = hash * 15 + (ek == null ? 0 : ek.hashCode());
-            hash = hash * 15 + (sig == null ? 0 : sig.hashCode());
-            hash = hash * 15 + (this.secureHash == null ? 0 : this.secureHash.hashCode());
-            hash = hash * 15 + (blame == null ? 0 : blame.hashCode());
-            hash = hash * 15 + (next == null ? 0 : next.hashCode());
-            return hash;
+            return type.hashCode() * 15 + value.hashCode();
         }
 
         @Override
         public String toString() {
-            String str = "";
-
-            if (addr != null) str += ("\"" + addr.toString() + "\"");
-
-            if (ek != null) str += ("\"" + ek.toString() + "\"");
-
-            if (sig != null) str += sig.toString();
+            switch (type) {
+                case Address:
+                case EncryptionKey:
+                case String:
+                    return "\"" + value.toString() + "\"";
+                default:
+                    return value.toString();
+            }
+        }
+    }
 
-            if (secureHash != null) str += secureHash.toString();
+    // Append-only storage shared between messages. A message is a slice of a buffer.
+    // If the slice ends where the buffer does, a new atom can be written in place.
+    private static final class Buffer {
+        private volatile Atom[] atoms;
+        private int size;
 
-            if (string != null) str += ("\"" + string + "\"");
+        Buffer(Atom[] atoms, int size) {
+            this.atoms = atoms;
+            this.size = size;
+        }
 
-            if (blame != null) str += blame.toString();
+        // Returns false if some other message has already been extended past end.
+        synchronized boolean append(int end, Atom atom) {
+            if (end != size) return false;
 
-            if (next != null) str += "⊕" + next.toString();
+            if (size == atoms.length) {
+                atoms = Arrays.copyOf(atoms, Math.max(8, size * 2));
+            }
 
-            return str;
+            atoms[size++] = atom;
+            return true;
         }
     }
 
-    public final Atom atoms;
+    private final transient Buffer buffer;
+    private final transient int start;
+    private final transient int end;
+
+    // Computed the first time it is needed.
+    private transient int hash = 0;
 
     // If this message can be sent, then this is the network by
     // which it is sent. Otherwise, it's null.
     final transient Messages messages;
 
+    private Message(Buffer buffer, int start, int end, Messages messages) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        this.messages = messages;
+    }
+
     public Message(Messages messages) {
+        this(new Buffer(new Atom[0], 0), 0, 0, messages);
+    }
 
-        atoms = null;
-        this.messages = messages;
+    public Message(List<Atom> atoms, Messages messages) {
+        this(new Buffer(atoms.toArray(new Atom[atoms.size()]), atoms.size()),
+                0, atoms.size(), messages);
+    }
+
+    public int size() {
+        return end - start;
     }
 
-    public Message(Atom atom, Messages messages) {
+    public Atom get(int i) {
+        if (i < 0 || i >= size()) throw new IndexOutOfBoundsException();
 
-        atoms = atom;
-        this.messages = messages;
+        return buffer.atoms[start + i];
+    }
+
+    @Override
+    public Iterator<Atom> iterator() {
+        return new Iterator<Atom>() {
+            private int i = start;
+
+            @Override
+            public boolean hasNext() {
+                return i < end;
+            }
+
+            @Override
+            public Atom next() {
+                if (i >= end) throw new NoSuchElementException();
+
+                return buffer.atoms[i++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private Message attach(Atom atom) {
+        if (buffer.append(end, atom)) {
+            return new Message(buffer, start, end + 1, messages);
+        }
+
+        // Someone else has already attached to this message, so we copy it.
+        int size = size();
+        Atom[] atoms = Arrays.copyOfRange(buffer.atoms, start, start + Math.max(8, size * 2));
+        atoms[size] = atom;
+        return new Message(new Buffer(atoms, size + 1), 0, size + 1, messages);
+    }
+
+    // Read the first atom, which must be of the given type.
+    private Object read(Type type, String name) throws FormatException {
+        if (isEmpty() || get(0).type != type) throw new FormatException(name + " not found.");
+
+        return get(0).value;
     }
 
     @Override
     public boolean isEmpty() {
-        return atoms == null;
+        return start == end;
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(EncryptionKey ek) {
         if (ek == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(ek)), messages);
+        return attach(Atom.make(ek));
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(Address addr) {
         if (addr == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(addr)), messages);
+        return attach(Atom.make(addr));
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(String str) {
         if (str == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(str)), messages);
+        return attach(Atom.make(str));
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(Bytestring sig) {
         if (sig == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(sig)), messages);
+        return attach(Atom.make(sig));
     }
 
     @Override
     public com.shuffle.protocol.message.Message attach(Blame blame) {
         if (blame == null) throw new NullPointerException();
 
-        return new Message(Atom.attach(atoms, Atom.make(blame)), messages);
+        return attach(Atom.make(blame));
+    }
+
+    @Override
+    public com.shuffle.protocol.message.Message attachOnion(Bytestring onion) {
+        if (onion == null) throw new NullPointerException();
+
+        return attach(Atom.make(new Onion(onion)));
     }
 
     public com.shuffle.protocol.message.Message hashed() throws FormatException, IOException {
 
-        return new Message(Atom.make(
-                new SecureHash(messages.sha256, messages.atomMarshaller, this.atoms)), messages);
+        return new Message(messages).attach(Atom.make(
+                new SecureHash(messages.sha256, messages.messageMarshaller, this)));
     }
 
     @Override
     public EncryptionKey readEncryptionKey() throws FormatException {
-        if (atoms == null || atoms.ek == null) throw new FormatException("Encryption key not found.");
-
-        return atoms.ek;
+        return (EncryptionKey) read(Type.EncryptionKey, "Encryption key");
     }
 
     @Override
     public Address readAddress() throws FormatException {
-        if (atoms == null) throw new FormatException("Address not found");
-        if (atoms.addr != null) return atoms.addr;
-        else if (atoms.string == null) throw new FormatException("Address not found.");
-
-        // Attempt to read string as an address.
-        return messages.addressMarshaller.unmarshall(new Bytestring(atoms.string.getBytes()));
+        if (isEmpty()) throw new FormatException("Address not found");
+
+        Atom atom = get(0);
+        switch (atom.type) {
+            case Address:
+                return (Address) atom.value;
+            case Onion:
+                // A fully decrypted onion is the serialized address.
+                return messages.addressMarshaller.unmarshall(((Onion) atom.value).bytes);
+            case String:
+                // Attempt to read string as an address.
+                return messages.addressMarshaller.unmarshall(
+                        new Bytestring(((String) atom.value).getBytes()));
+            default:
+                throw new FormatException("Address not found.");
+        }
     }
 
     @Override
     public String readString() throws FormatException {
-        if (atoms == null || atoms.string == null)
-            throw new FormatException("String not found.");
-
-        return atoms.string;
+        return (String) read(Type.String, "String");
     }
 
     @Override
     public Blame readBlame() throws FormatException {
-        if (atoms == null || atoms.blame == null) throw new FormatException("Blame not found");
+        return (Blame) read(Type.Blame, "Blame");
+    }
 
-        return atoms.blame;
+    @Override
+    public Bytestring readOnion() throws FormatException {
+        return ((Onion) read(Type.Onion, "Onion")).bytes;
     }
 
     @Override
     public Bytestring readSignature() throws FormatException {
-        if (atoms == null || atoms.sig == null) throw new FormatException("Signature not found");
-
-        return atoms.sig;
+        return (Bytestring) read(Type.Signature, "Signature");
     }
 
     @Override
     public com.shuffle.protocol.message.Message rest() throws FormatException {
 
-        if (atoms == null) throw new FormatException("Rest called on last element.");
+        if (isEmpty()) throw new FormatException("Rest called on last element.");
 
-        return new Message(atoms.next, messages);
+        return new Message(buffer, start + 1, end, messages);
     }
 
     @Override
@@ -338,6 +403,15 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
         return messages.send(this, phase, to);
     }
 
+    @Override
+    public com.shuffle.protocol.message.Packet broadcast(
+            Phase phase, Collection<VerificationKey> to) throws InterruptedException, IOException {
+
+        if (messages == null) return null;
+
+        return messages.broadcast(this, phase, to);
+    }
+
     @Override
     public boolean equals(Object o) {
 
@@ -345,25 +419,60 @@ public class Message implements com.shuffle.protocol.message.Message, Serializab
 
         if (!(o instanceof Message)) return false;
 
-        Message mock = (Message) o;
+        Message m = (Message) o;
+
+        if (size() != m.size() || hashCode() != m.hashCode()) return false;
 
-        return ((atoms == null && mock.atoms == null)
-                || (atoms != null && atoms.equals(mock.atoms)));
+        for (int i = 0; i < size(); i++) {
+            if (!get(i).equals(m.get(i))) return false;
+        }
+
+        return true;
     }
 
     @Override
     public int hashCode() {
-        if (atoms == null) return 0;
+        if (hash == 0) {
+            int h = 0;
+            for (Atom atom : this) {
+                h = h * 15 + atom.hashCode();
+            }
+            hash = h;
+        }
 
-        int hash = 0;
-        hash = hash * 15 + atoms.hashCode();
         return hash;
     }
 
     @Override
     public String toString() {
-        if (atoms == null) return "[]";
+        if (isEmpty()) return "[]";
+
+        StringBuilder str = new StringBuilder();
+        for (int i = start; i < end; i++) {
+            if (i != start) str.append("⊕");
+
+            str.append(buffer.atoms[i].toString());
+        }
 
-        return atoms.toString();
+        return str.toString();
+    }
+
+    // Only the atoms in the slice are written out.
+    private Object writeReplace() {
+        return new Serialized(Arrays.copyOfRange(buffer.atoms, start, end));
+    }
+
+    private static final class Serialized implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Atom[] atoms;
+
+        Serialized(Atom[] atoms) {
+            this.atoms = atoms;
+        }
+
+        private Object readResolve() {
+            return new Message(Arrays.asList(atoms), null);
+        }
     }
 }
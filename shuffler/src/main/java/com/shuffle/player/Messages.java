@@ -11,6 +11,7 @@ package com.shuffle.player;
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.SigningKey;
 import com.shuffle.bitcoin.VerificationKey;
+import com.shuffle.chan.BroadcastSend;
 import com.shuffle.chan.HistoryReceive;
 import com.shuffle.chan.HistorySend;
 import com.shuffle.chan.IgnoreSend;
@@ -30,10 +31,13 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * All Message handling for CoinShuffle in one convenient package!
@@ -42,7 +46,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class Messages implements MessageFactory {
     public interface ShuffleMarshaller {
-        Marshaller<Message.Atom> atomMarshaller();
+        Marshaller<Message> messageMarshaller();
         Marshaller<Address> addressMarshaller();
         Marshaller<Packet<VerificationKey, P>> packetMarshaller();
     }
@@ -107,6 +111,7 @@ public class Messages implements MessageFactory {
             return packet.message.from;
         }
 
+        // Null if the packet was broadcast.
         @Override
         public VerificationKey to() {
             return packet.message.to;
@@ -150,8 +155,17 @@ public class Messages implements MessageFactory {
     final Bytestring session;
     final SigningKey me;
 
+    private final Marshaller<Packet<VerificationKey, P>> pm;
+
+    // Every packet we send is numbered from the same sequence, broadcasts included.
+    private final AtomicInteger sequenceNumber = new AtomicInteger(0);
+
+    // Version 1 of the protobuf format requires every packet to have a recipient, so
+    // broadcasts can only be signed once for everybody in other formats.
+    private final boolean signBroadcastsOnce;
+
     public final MessageDigest sha256;
-    public final Marshaller<Message.Atom> atomMarshaller;
+    public final Marshaller<Message> messageMarshaller;
     public final Marshaller<Address> addressMarshaller;
 
     public Messages(Bytestring session,
@@ -170,9 +184,10 @@ public class Messages implements MessageFactory {
         this.receive = new HistoryReceive<>(receive);
 
         sha256 = MessageDigest.getInstance("SHA-256");
-        this.atomMarshaller = m.atomMarshaller();
+        this.messageMarshaller = m.messageMarshaller();
         this.addressMarshaller = m.addressMarshaller();
-        Marshaller<Packet<VerificationKey, P>> pm = m.packetMarshaller();
+        pm = m.packetMarshaller();
+        signBroadcastsOnce = !(m instanceof Protobuf) || ((Protobuf) m).version >= Protobuf.V2;
 
         VerificationKey vk = me.VerificationKey();
 
@@ -183,7 +198,7 @@ public class Messages implements MessageFactory {
 
             HistorySend<Signed<Packet<VerificationKey, P>>> h = new HistorySend<>(z.getValue());
             Send<Packet<VerificationKey, P>> signer = new SigningSend<>(h, pm, me);
-            Send<P> p = new OutgoingPacketSend<>(signer, session, vk, k);
+            Send<P> p = new OutgoingPacketSend<>(signer, session, vk, k, sequenceNumber);
 
             this.net.put(k, new Outgoing(p, h, vk));
         }
@@ -192,7 +207,8 @@ public class Messages implements MessageFactory {
         HistorySend<Signed<Packet<VerificationKey, P>>> h = new HistorySend<>(
                 new IgnoreSend<Signed<Packet<VerificationKey, P>>>());
 
-        Send<P> p = new OutgoingPacketSend<>(new SigningSend<>(h, pm, me), session, vk, vk);
+        Send<P> p = new OutgoingPacketSend<>(
+                new SigningSend<>(h, pm, me), session, vk, vk, sequenceNumber);
         this.net.put(vk, new Outgoing(p, h, vk));
     }
 
@@ -240,4 +256,45 @@ public class Messages implements MessageFactory {
 
         return new SignedPacket(x.last());
     }
+
+    // Sign a message once and send the same signed packet to every player in to.
+    // Returns the packet sent to ourselves if we are among them.
+    public SignedPacket broadcast(Message m, Phase phase, Collection<VerificationKey> to)
+            throws InterruptedException, IOException {
+
+        if (!signBroadcastsOnce) {
+            // Each player gets a packet of their own.
+            SignedPacket mine = null;
+            SignedPacket last = null;
+            for (VerificationKey k : to) {
+                SignedPacket sent = send(m, phase, k);
+                if (sent == null) continue;
+
+                last = sent;
+                if (k.equals(me.VerificationKey())) mine = sent;
+            }
+
+            return mine != null ? mine : last;
+        }
+
+        List<Send<Signed<Packet<VerificationKey, P>>>> chans = new LinkedList<>();
+        for (VerificationKey k : to) {
+            Outgoing x = net.get(k);
+            if (x != null) chans.add(x.h);
+        }
+
+        if (chans.isEmpty()) return null;
+
+        HistorySend<Signed<Packet<VerificationKey, P>>> h
+                = new HistorySend<>(new BroadcastSend<>(chans));
+
+        // Once any player has the packet, it counts as sent.
+        Send<P> p = new OutgoingPacketSend<>(
+                new SigningSend<>(h, pm, me), session, me.VerificationKey(), null, sequenceNumber);
+        if (!p.send(new P(phase, m))) {
+            return null;
+        }
+
+        return new SignedPacket(h.last());
+    }
 }
@@ -17,8 +17,11 @@ import com.shuffle.bitcoin.Transaction;
 import com.shuffle.bitcoin.VerificationKey;
 import com.shuffle.chan.BasicChan;
 import com.shuffle.chan.Chan;
+import com.shuffle.chan.Inbox;
+import com.shuffle.chan.Send;
 import com.shuffle.chan.packet.Packet;
 import com.shuffle.chan.packet.Signed;
+import com.shuffle.chan.packet.Verifier;
 import com.shuffle.monad.Summable;
 import com.shuffle.monad.SummableMap;
 import com.shuffle.p2p.Bytestring;
@@ -47,6 +50,7 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -60,6 +64,9 @@ import javax.annotation.Nonnull;
 class Player {
     private static final Logger log = LogManager.getLogger(Player.class);
 
+    // Runs the parts of the protocol that can be done in parallel for every player.
+    private static final ExecutorService workers = CoinShuffle.workers("shuffle worker");
+
     private final Bytestring session;
 
     private final SigningKey sk;
@@ -119,16 +126,36 @@ class Player {
     public Running start() throws IOException, InterruptedException {
         if (running != null) return running;
 
-        return new Running(new Connect<>(channel, crypto));
+        // Signatures on incoming messages are checked before they reach the inbox,
+        // but not on the threads that read from the network.
+        final Verifier<Packet<VerificationKey, P>> verifier = new Verifier<>(m.packetMarshaller());
+
+        Collector<VerificationKey, Signed<Packet<VerificationKey, P>>> collector
+                = new Collector<VerificationKey, Signed<Packet<VerificationKey, P>>>(
+                        new Inbox<VerificationKey, Signed<Packet<VerificationKey, P>>>(100)) {
+
+            @Override
+            public Send<Signed<Packet<VerificationKey, P>>> receivesFrom(VerificationKey from) {
+                Send<Signed<Packet<VerificationKey, P>>> send = super.receivesFrom(from);
+                if (send == null) return null;
+
+                return verifier.verifies(from, send);
+            }
+        };
+
+        return new Running(new Connect<>(channel, crypto, collector), verifier);
     }
 
     public class Running {
 
         // Wait until the appointed time.
         final Connect<VerificationKey, Signed<Packet<VerificationKey, P>>> connect;
+        final Verifier<Packet<VerificationKey, P>> verifier;
 
-        Running(Connect<VerificationKey, Signed<Packet<VerificationKey, P>>> connect) {
+        Running(Connect<VerificationKey, Signed<Packet<VerificationKey, P>>> connect,
+                Verifier<Packet<VerificationKey, P>> verifier) {
             this.connect = connect;
+            this.verifier = verifier;
         }
 
         private @Nonnull Report playInner(Chan<Phase> ch) throws InterruptedException {
@@ -153,7 +180,7 @@ class Player {
                 // If the protocol returns correctly without throwing a Matrix, then
                 // it has been successful.
                 Messages messages = new Messages(session, sk, collector.connected, collector.inbox, m);
-                CoinShuffle cs = new CoinShuffle(messages, crypto, coin);
+                CoinShuffle cs = new CoinShuffle(messages, crypto, coin, workers);
                 return Report.success(cs.runProtocol(amount, sk, addrs, anon, change, ch));
             } catch (Matrix m) {
                 return Report.failure(m, addrs);
@@ -221,6 +248,7 @@ class Player {
                 return Report.error(e.getMessage());
             } finally {
                 connect.close();
+                log.info("Player " + sk.VerificationKey() + ": " + verifier);
                 stream.println("  Player " + sk.VerificationKey() + " shuts down.");
             }
         }
@@ -20,8 +20,10 @@ import com.shuffle.protocol.message.Phase;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 
 /**
@@ -29,6 +31,33 @@ import java.util.Queue;
  */
 public abstract class Protobuf implements Messages.ShuffleMarshaller {
 
+    // Versions of the packet format. Both can be read, but only one is written.
+    public static final int V1 = 1;
+    public static final int V2 = 2;
+    public static final int CURRENT = V2;
+
+    // The oldest version a peer may speak. Peers from before version 2 encrypt the
+    // shuffle phase as hex strings rather than binary onions and frame packets with
+    // Java serialization, so they can't take part in a round with us at all.
+    public static final int MIN_PEER_VERSION = V2;
+
+    // Choose the highest version that everyone supports. A peer that does not
+    // say what it supports (null) is assumed to be from before version 2.
+    public static int negotiate(Iterable<Integer> versions) {
+        int version = CURRENT;
+        for (Integer v : versions) {
+            if (v == null || v < MIN_PEER_VERSION) {
+                throw new IllegalArgumentException("Peer supports version " + v
+                        + " of the packet format, but at least version "
+                        + MIN_PEER_VERSION + " is required.");
+            }
+
+            version = Math.min(version, v);
+        }
+
+        return version;
+    }
+
     // Unmarshall an address from its string representation.
     public abstract Address unmarshallAdress(String str) throws FormatException;
 
@@ -44,6 +73,35 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
     // Unmarshall a Transaction
     public abstract Transaction unmarshallTransaction(byte[] bytes) throws FormatException;
 
+    // Version 2 sends keys as raw bytes. By default, these are just the bytes of
+    // the string representation. Implementations which have a more compact
+    // representation should override these.
+    public Bytestring encodeVerificationKey(VerificationKey vk) {
+        return new Bytestring(vk.toString().getBytes());
+    }
+
+    public VerificationKey decodeVerificationKey(Bytestring b) throws FormatException {
+        try {
+            return unmarshallVerificationKey(new String(b.bytes));
+        } catch (NumberFormatException e) {
+            throw new FormatException(e.getMessage());
+        }
+    }
+
+    public Bytestring encodeEncryptionKey(EncryptionKey ek) {
+        return new Bytestring(ek.toString().getBytes());
+    }
+
+    public EncryptionKey decodeEncryptionKey(Bytestring b) throws FormatException {
+        try {
+            return unmarshallEncryptionKey(new String(b.bytes));
+        } catch (NumberFormatException
+                | NoSuchAlgorithmException
+                | InvalidKeySpecException e) {
+            throw new FormatException("Could not read " + b + " as encryption key.");
+        }
+    }
+
     public static Proto.Signed.Builder marshallSignedPacket(com.shuffle.protocol.message.Packet p) {
         if (p == null || !(p instanceof Messages.SignedPacket)) {
             throw new IllegalArgumentException("Unknown implementation of Packet.");
@@ -52,37 +110,34 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         return marshallSignedPacket(((Messages.SignedPacket) p).packet);
     }
 
-    public static Proto.Packet.Builder marshallPacket(com.shuffle.chan.packet.Packet<VerificationKey, P> p) {
-        Proto.Phase phase;
-        switch(p.payload.phase) {
+    public static Proto.Phase marshallPhase(Phase phase) {
+        switch (phase) {
             case Announcement: {
-                phase = Proto.Phase.ANNOUNCEMENT;
-                break;
+                return Proto.Phase.ANNOUNCEMENT;
             }
             case Shuffling: {
-                phase = Proto.Phase.SHUFFLE;
-                break;
+                return Proto.Phase.SHUFFLE;
             }
             case BroadcastOutput: {
-                phase = Proto.Phase.BROADCAST;
-                break;
+                return Proto.Phase.BROADCAST;
             }
             case EquivocationCheck: {
-                phase = Proto.Phase.EQUIVOCATION_CHECK;
-                break;
+                return Proto.Phase.EQUIVOCATION_CHECK;
             }
             case VerificationAndSubmission: {
-                phase = Proto.Phase.VERIFICATION_AND_SUBMISSION;
-                break;
+                return Proto.Phase.VERIFICATION_AND_SUBMISSION;
             }
             case Blame: {
-                phase = Proto.Phase.BLAME;
-                break;
+                return Proto.Phase.BLAME;
             }
             default : {
-                throw new IllegalArgumentException("Invalid phase " + p.payload.phase);
+                throw new IllegalArgumentException("Invalid phase " + phase);
             }
         }
+    }
+
+    public static Proto.Packet.Builder marshallPacket(com.shuffle.chan.packet.Packet<VerificationKey, P> p) {
+        Proto.Phase phase = marshallPhase(p.payload.phase);
 
         Proto.Message.Builder mb = Proto.Message.newBuilder();
         Object msg = p.payload.message;
@@ -93,48 +148,108 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
 
         Proto.Packet.Builder pb = Proto.Packet.newBuilder()
                 .setSession(ByteString.copyFrom(p.session.bytes))
-                .setTo(Proto.VerificationKey.newBuilder()
-                        .setKey(p.to.toString()))
                 .setFrom(Proto.VerificationKey.newBuilder()
                         .setKey(p.from.toString()))
                 .setNumber(p.sequenceNumber)
                 .setPhase(phase)
                 .setMessage(mb);
 
-        Message.Atom atom = ((Message)msg).atoms;
-        if (atom != null) {
-            pb.setMessage(marshallAtom(atom));
+        // Broadcasts have no recipient.
+        if (p.to != null) {
+            pb.setTo(Proto.VerificationKey.newBuilder().setKey(p.to.toString()));
+        }
+
+        if (!((Message) msg).isEmpty()) {
+            pb.setMessage(marshallMessage((Message) msg));
         }
 
         return pb;
     }
 
+    // The atoms are nested in the wire format. The nesting is built from the
+    // end of the message so that no recursion is necessary.
+    public static Proto.Message.Builder marshallMessage(Message message) {
+        Proto.Message.Builder next = null;
+        for (int i = message.size() - 1; i >= 0; i--) {
+            Proto.Message.Builder ab = marshallAtom(message.get(i));
+
+            if (next != null) {
+                ab.setNext(next);
+            }
+
+            next = ab;
+        }
+
+        if (next == null) {
+            throw new IllegalArgumentException("Message cannot be empty.");
+        }
+
+        return next;
+    }
+
     public static Proto.Message.Builder marshallAtom(Message.Atom atom) {
         Proto.Message.Builder ab = Proto.Message.newBuilder();
 
-        if (atom.addr != null) {
-            ab.setAddress(Proto.Address.newBuilder().setAddress(atom.addr.toString()));
-        } else if (atom.ek != null) {
-            ab.setKey(Proto.EncryptionKey.newBuilder().setKey(atom.ek.toString()));
-        } else if (atom.secureHash != null) {
-            ab.setHash(Proto.Hash.newBuilder().setHash(
-                    ByteString.copyFrom(atom.secureHash.toString().getBytes())));
-        } else if (atom.sig != null) {
-            ab.setSignature(Proto.Signature.newBuilder().setSignature(
-                    ByteString.copyFrom(atom.sig.bytes)));
-        } else if (atom.string != null) {
-            ab.setStr(atom.string);
-        } else if (atom.blame != null) {
-            ab.setBlame(marshallBlame(atom.blame));
-        } else {
-            throw new IllegalArgumentException("Atom cannot be empty.");
+        switch (atom.type) {
+            case Address: {
+                ab.setAddress(Proto.Address.newBuilder().setAddress(atom.value.toString()));
+                break;
+            }
+            case EncryptionKey: {
+                ab.setKey(Proto.EncryptionKey.newBuilder().setKey(atom.value.toString()));
+                break;
+            }
+            case SecureHash: {
+                ab.setHash(Proto.Hash.newBuilder().setHash(
+                        ByteString.copyFrom(atom.value.toString().getBytes())));
+                break;
+            }
+            case Signature: {
+                ab.setSignature(Proto.Signature.newBuilder().setSignature(
+                        ByteString.copyFrom(((Bytestring) atom.value).bytes)));
+                break;
+            }
+            case String: {
+                ab.setStr((String) atom.value);
+                break;
+            }
+            case Blame: {
+                ab.setBlame(marshallBlame((Blame) atom.value));
+                break;
+            }
+            case Onion: {
+                ab.setOnion(Proto.Onion.newBuilder().setOnion(
+                        ByteString.copyFrom(((Message.Onion) atom.value).bytes.bytes)));
+                break;
+            }
+            default: {
+                throw new IllegalArgumentException("Invalid atom type " + atom.type);
+            }
         }
 
-        if (atom.next != null) {
-            ab.setNext(marshallAtom(atom.next));
+        return ab;
+    }
+
+    public static Proto.Signed.Builder marshallEncodedPacket(
+            com.shuffle.protocol.message.Packet p,
+            Marshaller<Packet<VerificationKey, P>> encoder) {
+
+        if (p == null || !(p instanceof Messages.SignedPacket)) {
+            throw new IllegalArgumentException("Unknown implementation of Packet.");
         }
 
-        return ab;
+        Signed<Packet<VerificationKey, P>> signed = ((Messages.SignedPacket) p).packet;
+
+        Bytestring encoded;
+        try {
+            encoded = signed.encoded(encoder);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+
+        return Proto.Signed.newBuilder().setEncoded(ByteString.copyFrom(encoded.bytes))
+                .setSignature(Proto.Signature.newBuilder().setSignature(
+                        ByteString.copyFrom(signed.signature.bytes)));
     }
 
     public static Proto.Signed.Builder marshallSignedPacket(Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> p) {
@@ -143,6 +258,13 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
     }
 
     public static Proto.Blame.Builder marshallBlame(Blame b) {
+        return marshallBlame(b, null);
+    }
+
+    // If encoder is not null, packets included as evidence are sent in encoded form.
+    static Proto.Blame.Builder marshallBlame(
+            Blame b, Marshaller<Packet<VerificationKey, P>> encoder) {
+
         Proto.Reason reason;
 
         if (b.reason == Reason.InsufficientFunds) {
@@ -188,32 +310,173 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         }
 
         if (b.packets != null) {
+            Proto.Packets.Builder packets = Proto.Packets.newBuilder();
             for (com.shuffle.protocol.message.Packet p : b.packets) {
-                bb.setPackets(Proto.Packets.newBuilder().addPacket(marshallSignedPacket(p)));
+                if (encoder == null) {
+                    packets.addPacket(marshallSignedPacket(p));
+                } else {
+                    packets.addPacket(marshallEncodedPacket(p, encoder));
+                }
             }
+            bb.setPackets(packets);
         }
 
         return bb;
     }
 
+    public final Proto.PacketV2.Builder marshallPacketV2(Packet<VerificationKey, P> p) {
+        Object msg = p.payload.message;
+
+        if (msg == null || !(msg instanceof Message)) {
+            throw new IllegalArgumentException("Null or unknown Message format.");
+        }
+
+        Proto.PacketV2.Builder pb = Proto.PacketV2.newBuilder()
+                .setVersion(V2)
+                .setSession(ByteString.copyFrom(p.session.bytes))
+                .setFrom(ByteString.copyFrom(encodeVerificationKey(p.from).bytes))
+                .setNumber(p.sequenceNumber)
+                .setPhase(marshallPhase(p.payload.phase));
+
+        // Broadcasts have no recipient.
+        if (p.to != null) {
+            pb.setTo(ByteString.copyFrom(encodeVerificationKey(p.to).bytes));
+        }
+
+        for (Message.Atom atom : (Message) msg) {
+            pb.addAtoms(marshallAtomV2(atom));
+        }
+
+        return pb;
+    }
+
+    public final Proto.Atom.Builder marshallAtomV2(Message.Atom atom) {
+        Proto.Atom.Builder ab = Proto.Atom.newBuilder();
+
+        switch (atom.type) {
+            case Address: {
+                ab.setAddress(atom.value.toString());
+                break;
+            }
+            case EncryptionKey: {
+                ab.setKey(ByteString.copyFrom(
+                        encodeEncryptionKey((EncryptionKey) atom.value).bytes));
+                break;
+            }
+            case SecureHash: {
+                ab.setHash(ByteString.copyFrom(((Message.SecureHash) atom.value).hashed.bytes));
+                break;
+            }
+            case Signature: {
+                ab.setSignature(ByteString.copyFrom(((Bytestring) atom.value).bytes));
+                break;
+            }
+            case String: {
+                ab.setStr((String) atom.value);
+                break;
+            }
+            case Blame: {
+                ab.setBlame(marshallBlame((Blame) atom.value, packetMarshaller));
+                break;
+            }
+            case Onion: {
+                ab.setOnion(ByteString.copyFrom(((Message.Onion) atom.value).bytes.bytes));
+                break;
+            }
+            default: {
+                throw new IllegalArgumentException("Invalid atom type " + atom.type);
+            }
+        }
+
+        return ab;
+    }
+
+    public final Packet<VerificationKey, P> unmarshallPacketV2(Proto.PacketV2 p)
+            throws FormatException {
+
+        if (p.getFrom().isEmpty()) {
+            throw new FormatException("Packet has no sender: " + p);
+        }
+
+        List<Message.Atom> atoms = new ArrayList<>(p.getAtomsCount());
+        for (Proto.Atom atom : p.getAtomsList()) {
+            atoms.add(unmarshallAtomV2(atom));
+        }
+
+        return new Packet<>(
+                new Bytestring(p.getSession().toByteArray()),
+                decodeVerificationKey(new Bytestring(p.getFrom().toByteArray())),
+                p.getTo().isEmpty()
+                        ? null : decodeVerificationKey(new Bytestring(p.getTo().toByteArray())),
+                p.getNumber(),
+                new P(unmarshallPhase(p.getPhase()), new Message(atoms, null)));
+    }
+
+    public final Message.Atom unmarshallAtomV2(Proto.Atom atom) throws FormatException {
+        switch (atom.getAtomCase()) {
+            case ADDRESS:
+                return Message.Atom.make(unmarshallAdress(atom.getAddress()));
+            case KEY:
+                return Message.Atom.make(
+                        decodeEncryptionKey(new Bytestring(atom.getKey().toByteArray())));
+            case HASH:
+                return Message.Atom.make(
+                        new Message.SecureHash(new Bytestring(atom.getHash().toByteArray())));
+            case SIGNATURE:
+                return Message.Atom.make(new Bytestring(atom.getSignature().toByteArray()));
+            case STR:
+                return Message.Atom.make(atom.getStr());
+            case BLAME:
+                return Message.Atom.make(unmarshallBlame(atom.getBlame()));
+            case ONION:
+                return Message.Atom.make(
+                        new Message.Onion(new Bytestring(atom.getOnion().toByteArray())));
+            default:
+                throw new FormatException("Atom contains no values.");
+        }
+    }
+
+    public final Message unmarshallMessage(Proto.Message message) throws FormatException {
+        List<Message.Atom> atoms = new ArrayList<>();
+
+        // An empty message is sent as an empty atom.
+        if (message.equals(Proto.Message.getDefaultInstance())) {
+            return new Message(atoms, null);
+        }
+
+        Proto.Message atom = message;
+        while (true) {
+            atoms.add(unmarshallAtom(atom));
+
+            if (!atom.hasNext()) break;
+
+            atom = atom.getNext();
+        }
+
+        return new Message(atoms, null);
+    }
+
+    // Read a single atom. The next field is ignored.
     public final Message.Atom unmarshallAtom(Proto.Message atom) throws FormatException {
 
         Object o;
         // Only one field is allowed to be set in the Atom.
         if (!atom.getStr().equals("")) {
-            if (atom.hasAddress() || atom.hasKey() || atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasAddress() || atom.hasKey() || atom.hasSignature() || atom.hasBlame()
+                    || atom.hasOnion()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
             o = atom.getStr();
         } else if (atom.hasAddress()) {
-            if (atom.hasKey() || atom.hasHash() || atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasKey() || atom.hasHash() || atom.hasSignature() || atom.hasBlame()
+                    || atom.hasOnion()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
             o = unmarshallAdress(atom.getAddress().getAddress());
         } else if (atom.hasKey()) {
-            if (atom.hasHash() || atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasHash() || atom.hasSignature() || atom.hasBlame() || atom.hasOnion()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
@@ -225,26 +488,28 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
                 throw new FormatException("Could not read " + atom.getKey().getKey() + " as number.");
             }
         } else if (atom.hasHash()) {
-            if (atom.hasSignature() || atom.hasBlame()) {
+            if (atom.hasSignature() || atom.hasBlame() || atom.hasOnion()) {
                 throw new FormatException("Atom contains more than one value.");
             }
 
             o = new Message.SecureHash(new Bytestring(atom.getHash().getHash().toByteArray()));
         } else if (atom.hasSignature()) {
-            if (atom.hasBlame()) throw new FormatException("Atom contains more than one value.");
+            if (atom.hasBlame() || atom.hasOnion()) {
+                throw new FormatException("Atom contains more than one value.");
+            }
 
             o = new Bytestring(atom.getSignature().getSignature().toByteArray());
         } else if (atom.hasBlame()) {
+            if (atom.hasOnion()) throw new FormatException("Atom contains more than one value.");
+
             o = unmarshallBlame(atom.getBlame());
+        } else if (atom.hasOnion()) {
+            o = new Message.Onion(new Bytestring(atom.getOnion().getOnion().toByteArray()));
         } else {
             throw new FormatException("Atom contains no values.");
         }
 
-        if (atom.hasNext()) {
-            return Message.Atom.make(o, unmarshallAtom(atom.getNext()));
-        } else {
-            return Message.Atom.make(o);
-        }
+        return Message.Atom.make(o);
     }
 
     public final Blame unmarshallBlame(Proto.Blame blame) throws FormatException {
@@ -338,6 +603,20 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
     }
 
     public final Signed<com.shuffle.chan.packet.Packet<VerificationKey, P>> unmarshallSignedPacket(Proto.Signed sp) throws FormatException {
+        if (sp.hasSignature() && !sp.getEncoded().isEmpty()) {
+            Bytestring encoded = new Bytestring(sp.getEncoded().toByteArray());
+
+            // We need to know who sent it before we can check the signature, so the
+            // packet is read first and then checked against the same bytes.
+            com.shuffle.chan.packet.Packet<VerificationKey, P> packet
+                    = packetMarshaller.unmarshall(encoded);
+            return new Signed<>(
+                    packet,
+                    encoded,
+                    new Bytestring(sp.getSignature().getSignature().toByteArray()),
+                    packet.from);
+        }
+
         if (!(sp.hasSignature() && sp.hasPacket() && sp.getPacket().hasFrom())) {
             throw new FormatException("All entries in Signed must be filled:" + sp);
         }
@@ -349,63 +628,71 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
                 packetMarshaller);
     }
 
-    public final com.shuffle.chan.packet.Packet<VerificationKey, P> unmarshallPacket(Proto.Packet p) throws FormatException {
-        if (!(p.hasFrom() && p.hasTo() && p.hasMessage())) {
-            throw new FormatException("All entries in Packet must be filled: " + p);
-        }
-
-        Phase phase;
-        switch (p.getPhase()) {
+    public static Phase unmarshallPhase(Proto.Phase phase) throws FormatException {
+        switch (phase) {
             case ANNOUNCEMENT: {
-                phase = Phase.Announcement;
-                break;
+                return Phase.Announcement;
             }
             case SHUFFLE: {
-                phase = Phase.Shuffling;
-                break;
+                return Phase.Shuffling;
             }
             case BROADCAST: {
-                phase = Phase.BroadcastOutput;
-                break;
+                return Phase.BroadcastOutput;
             }
             case EQUIVOCATION_CHECK: {
-                phase = Phase.EquivocationCheck;
-                break;
+                return Phase.EquivocationCheck;
             }
             case VERIFICATION_AND_SUBMISSION: {
-                phase = Phase.VerificationAndSubmission;
-                break;
+                return Phase.VerificationAndSubmission;
             }
             case BLAME: {
-                phase = Phase.Blame;
-                break;
+                return Phase.Blame;
             }
             default: {
-                throw new FormatException("Invalid phase " + p.getPhase());
+                throw new FormatException("Invalid phase " + phase);
             }
         }
+    }
+
+    public final com.shuffle.chan.packet.Packet<VerificationKey, P> unmarshallPacket(Proto.Packet p) throws FormatException {
+        if (!(p.hasFrom() && p.hasMessage())) {
+            throw new FormatException("All entries in Packet must be filled: " + p);
+        }
+
+        Phase phase = unmarshallPhase(p.getPhase());
 
         return new com.shuffle.chan.packet.Packet<>(
                 new Bytestring(p.getSession().toByteArray()),
                 unmarshallVerificationKey(p.getFrom().getKey()),
-                unmarshallVerificationKey(p.getTo().getKey()),
+                p.hasTo() ? unmarshallVerificationKey(p.getTo().getKey()) : null,
                 p.getNumber(),
-                new P(phase, new Message(unmarshallAtom(p.getMessage()), null)));
+                new P(phase, unmarshallMessage(p.getMessage())));
 
     }
 
     public final Marshaller<Packet<VerificationKey, P>> packetMarshaller;
-    public final Marshaller<Message.Atom> atomMarshaller;
+    public final Marshaller<Message> messageMarshaller;
+
+    // The version of the packet format that we write.
+    public final int version;
 
     public Protobuf() {
-        packetMarshaller = new PacketMarshaller();
-        atomMarshaller = new AtomMarshaller();
+        this(CURRENT);
+    }
 
+    public Protobuf(int version) {
+        if (version < V1 || version > CURRENT) {
+            throw new IllegalArgumentException("Unsupported version " + version);
+        }
+
+        this.version = version;
+        packetMarshaller = new PacketMarshaller();
+        messageMarshaller = new MessageMarshaller();
     }
 
     @Override
-    public Marshaller<Message.Atom> atomMarshaller() {
-        return atomMarshaller;
+    public Marshaller<Message> messageMarshaller() {
+        return messageMarshaller;
     }
 
     @Override
@@ -413,15 +700,17 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
         return packetMarshaller;
     }
 
-    class AtomMarshaller implements Marshaller<Message.Atom> {
+    class MessageMarshaller implements Marshaller<Message> {
 
         @Override
-        public Bytestring marshall(Message.Atom atom) {
-            return new Bytestring(marshallAtom(atom).build().toByteArray());
+        public Bytestring marshall(Message message) {
+            if (message.isEmpty()) return new Bytestring(new byte[0]);
+
+            return new Bytestring(marshallMessage(message).build().toByteArray());
         }
 
         @Override
-        public Message.Atom unmarshall(Bytestring string) throws FormatException {
+        public Message unmarshall(Bytestring string) throws FormatException {
 
             Proto.Message atom;
             try {
@@ -430,7 +719,7 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
                 throw new FormatException("Could not read " + Arrays.toString(string.bytes));
             }
 
-            return unmarshallAtom(atom);
+            return unmarshallMessage(atom);
         }
     }
 
@@ -438,11 +727,26 @@ public abstract class Protobuf implements Messages.ShuffleMarshaller {
 
         @Override
         public Bytestring marshall(com.shuffle.chan.packet.Packet<VerificationKey, P> p) throws IOException {
+            if (version == V2) {
+                return new Bytestring(marshallPacketV2(p).build().toByteArray());
+            }
+
             return new Bytestring(marshallPacket(p).build().toByteArray());
         }
 
         @Override
         public com.shuffle.chan.packet.Packet<VerificationKey, P> unmarshall(Bytestring string) throws FormatException {
+            // Either version can be read. A version 1 packet may not parse as
+            // version 2, and if it does, the version field is not set.
+            try {
+                Proto.PacketV2 p = Proto.PacketV2.parseFrom(string.bytes);
+                if (p.getVersion() == V2) {
+                    return unmarshallPacketV2(p);
+                }
+            } catch (InvalidProtocolBufferException e) {
+                // Try version 1.
+            }
+
             try {
                 return unmarshallPacket(Proto.Packet.parseFrom(string.bytes));
             } catch (InvalidProtocolBufferException e) {
@@ -15,9 +15,9 @@ import com.shuffle.bitcoin.impl.AddressImpl;
 import com.shuffle.bitcoin.impl.CryptoProtobuf;
 import com.shuffle.bitcoin.impl.SigningKeyImpl;
 import com.shuffle.bitcoin.impl.VerificationKeyImpl;
-import com.shuffle.chan.packet.JavaMarshaller;
 import com.shuffle.chan.packet.Packet;
 import com.shuffle.chan.packet.Signed;
+import com.shuffle.chan.packet.SignedMarshaller;
 import com.shuffle.mock.InsecureRandom;
 import com.shuffle.mock.MockAddress;
 import com.shuffle.mock.MockCoin;
@@ -89,6 +89,9 @@ public class Shuffle {
     // Entropy checker must think there is at least this much entropy.
     private static int MIN_APPARENT_ENTROPY = 128;
 
+    // The number of decryption keys to keep ready for new rounds.
+    private static int KEY_POOL_SIZE = 2;
+
     public static OptionParser getShuffleOptionsParser() {
         OptionParser parser = new OptionParser();
         parser.accepts("help", "print help message.");
@@ -258,7 +261,7 @@ public class Shuffle {
         // Detect the nature of the cryptocoin network we will use.
         final String query = (String)options.valueOf("query");
         final NetworkParameters netParams;
-        final Messages.ShuffleMarshaller m;
+        Messages.ShuffleMarshaller m;
 
         switch ((String)options.valueOf("blockchain")) {
 
@@ -376,7 +379,7 @@ public class Shuffle {
                     break;
                 case "real":
 
-                    crypto = new BitcoinCrypto(netParams);
+                    crypto = bitcoinCrypto(netParams);
                     break;
                 default:
                     throw new IllegalArgumentException("Unrecognized crypto option value " + cryptography);
@@ -392,13 +395,14 @@ public class Shuffle {
                     } else {
                         m = new CryptoProtobuf();
                     }
+                    // The version of the format is chosen once we have read the peers.
                     break;
                 default:
                     throw new IllegalArgumentException();
             }
 
         } else {
-            crypto = new BitcoinCrypto(netParams);
+            crypto = bitcoinCrypto(netParams);
             m = new CryptoProtobuf();
         }
 
@@ -414,6 +418,8 @@ public class Shuffle {
         }
 
         SortedSet<String> checkDuplicateAddress = new TreeSet<>();
+        // The versions of the packet format supported by each peer.
+        List<Integer> versions = new LinkedList<>();
         for (int i = 1; i <= jsonPeers.size(); i ++) {
             JSONObject o;
             try {
@@ -425,6 +431,12 @@ public class Shuffle {
 
             String key = (String)o.get("key");
             String addr = (String)o.get("address");
+            // Peers which don't say are assumed to be too old to take part.
+            Object version = o.get("version");
+            if (version != null && !(version instanceof Long)) {
+                throw new IllegalArgumentException("Could not read " + version + " as version.");
+            }
+            versions.add(version == null ? null : ((Long) version).intValue());
             if (key == null) {
                 throw new IllegalArgumentException("Peer missing field \"key\".");
             }
@@ -466,6 +478,17 @@ public class Shuffle {
             keys.add(vk);
         }
 
+        // Use the highest version of the packet format that every peer supports.
+        // Peers which can't speak at least MIN_PEER_VERSION are rejected.
+        if (m instanceof Protobuf) {
+            int version = Protobuf.negotiate(versions);
+            if (m instanceof MockProtobuf) {
+                m = new MockProtobuf(version);
+            } else {
+                m = new CryptoProtobuf(version);
+            }
+        }
+
         executor = Executors.newFixedThreadPool(10);
 
         // Get information for this player. (In test mode, one node
@@ -629,7 +652,7 @@ public class Shuffle {
                     new MarshallChannel<>(
                         new TcpChannel(
                             new InetSocketAddress(InetAddress.getLocalHost(), (int)port)),
-                            new JavaMarshaller<Signed<Packet<VerificationKey, P>>>()),
+                            new SignedMarshaller<>(m.packetMarshaller())),
                         mock.node(id)),
                     peers);
 
@@ -639,6 +662,14 @@ public class Shuffle {
                 amount, coin, crypto, channel, m, System.out);
     }
 
+    private static BitcoinCrypto bitcoinCrypto(NetworkParameters netParams)
+            throws NoSuchAlgorithmException, BitcoinCrypto.Exception {
+
+        BitcoinCrypto crypto = new BitcoinCrypto(netParams);
+        crypto.setKeyPool(KEY_POOL_SIZE);
+        return crypto;
+    }
+
     private static JSONArray readJSONArray(String ar) {
 
         try {
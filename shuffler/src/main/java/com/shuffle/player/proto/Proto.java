@@ -3,6 +3,8 @@
 
 package com.shuffle.player.proto;
 
+// protoc writes a redundant double cast for bytes fields in a oneof.
+@SuppressWarnings("cast")
 public final class Proto {
   private Proto() {}
   public static void registerAllExtensions(
@@ -350,8 +352,18 @@ public final class Proto {
      * <code>optional .Signature signature = 2;</code>
      */
     com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder();
+
+    /**
+     * <code>optional bytes encoded = 3;</code>
+     */
+    com.google.protobuf.ByteString getEncoded();
   }
   /**
+   * <pre>
+   * A signed packet. In version 2, the packet is carried in encoded form
+   * because the signature covers those exact bytes.
+   * </pre>
+   *
    * Protobuf type {@code Signed}
    */
   public  static final class Signed extends
@@ -363,6 +375,7 @@ public final class Proto {
       super(builder);
     }
     private Signed() {
+      encoded_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -416,6 +429,11 @@ public final class Proto {
 
               break;
             }
+            case 26: {
+
+              encoded_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -481,6 +499,15 @@ public final class Proto {
       return getSignature();
     }
 
+    public static final int ENCODED_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString encoded_;
+    /**
+     * <code>optional bytes encoded = 3;</code>
+     */
+    public com.google.protobuf.ByteString getEncoded() {
+      return encoded_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -499,6 +526,9 @@ public final class Proto {
       if (signature_ != null) {
         output.writeMessage(2, getSignature());
       }
+      if (!encoded_.isEmpty()) {
+        output.writeBytes(3, encoded_);
+      }
     }
 
     public int getSerializedSize() {
@@ -514,6 +544,10 @@ public final class Proto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, getSignature());
       }
+      if (!encoded_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, encoded_);
+      }
       memoizedSize = size;
       return size;
     }
@@ -597,6 +631,11 @@ public final class Proto {
       return builder;
     }
     /**
+     * <pre>
+     * A signed packet. In version 2, the packet is carried in encoded form
+     * because the signature covers those exact bytes.
+     * </pre>
+     *
      * Protobuf type {@code Signed}
      */
     public static final class Builder extends
@@ -643,6 +682,8 @@ public final class Proto {
           signature_ = null;
           signatureBuilder_ = null;
         }
+        encoded_ = com.google.protobuf.ByteString.EMPTY;
+
         return this;
       }
 
@@ -675,6 +716,7 @@ public final class Proto {
         } else {
           result.signature_ = signatureBuilder_.build();
         }
+        result.encoded_ = encoded_;
         onBuilt();
         return result;
       }
@@ -696,6 +738,9 @@ public final class Proto {
         if (other.hasSignature()) {
           mergeSignature(other.getSignature());
         }
+        if (other.getEncoded() != com.google.protobuf.ByteString.EMPTY) {
+          setEncoded(other.getEncoded());
+        }
         onChanged();
         return this;
       }
@@ -955,6 +1000,35 @@ public final class Proto {
         }
         return signatureBuilder_;
       }
+
+      private com.google.protobuf.ByteString encoded_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes encoded = 3;</code>
+       */
+      public com.google.protobuf.ByteString getEncoded() {
+        return encoded_;
+      }
+      /**
+       * <code>optional bytes encoded = 3;</code>
+       */
+      public Builder setEncoded(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        encoded_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes encoded = 3;</code>
+       */
+      public Builder clearEncoded() {
+        
+        encoded_ = getDefaultInstance().getEncoded();
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -2082,111 +2156,93 @@ public final class Proto {
 
   }
 
-  public interface MessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Message)
+  public interface PacketV2OrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PacketV2)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional .Address address = 1;</code>
-     */
-    boolean hasAddress();
-    /**
-     * <code>optional .Address address = 1;</code>
-     */
-    com.shuffle.player.proto.Proto.Address getAddress();
-    /**
-     * <code>optional .Address address = 1;</code>
+     * <code>optional bytes session = 1;</code>
      */
-    com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder();
+    com.google.protobuf.ByteString getSession();
 
     /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    boolean hasKey();
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
-     */
-    com.shuffle.player.proto.Proto.EncryptionKey getKey();
-    /**
-     * <code>optional .EncryptionKey key = 2;</code>
+     * <code>optional uint32 number = 2;</code>
      */
-    com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder();
+    int getNumber();
 
     /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    boolean hasHash();
-    /**
-     * <code>optional .Hash hash = 3;</code>
-     */
-    com.shuffle.player.proto.Proto.Hash getHash();
-    /**
-     * <code>optional .Hash hash = 3;</code>
+     * <code>optional bytes from = 3;</code>
      */
-    com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder();
+    com.google.protobuf.ByteString getFrom();
 
     /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    boolean hasSignature();
-    /**
-     * <code>optional .Signature signature = 4;</code>
-     */
-    com.shuffle.player.proto.Proto.Signature getSignature();
-    /**
-     * <code>optional .Signature signature = 4;</code>
+     * <code>optional bytes to = 4;</code>
      */
-    com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder();
+    com.google.protobuf.ByteString getTo();
 
     /**
-     * <code>optional string str = 5;</code>
+     * <code>optional .Phase phase = 5;</code>
      */
-    java.lang.String getStr();
+    int getPhaseValue();
     /**
-     * <code>optional string str = 5;</code>
+     * <code>optional .Phase phase = 5;</code>
      */
-    com.google.protobuf.ByteString
-        getStrBytes();
+    com.shuffle.player.proto.Proto.Phase getPhase();
 
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    boolean hasBlame();
+    java.util.List<com.shuffle.player.proto.Proto.Atom> 
+        getAtomsList();
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    com.shuffle.player.proto.Proto.Blame getBlame();
+    com.shuffle.player.proto.Proto.Atom getAtoms(int index);
     /**
-     * <code>optional .Blame blame = 6;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder();
-
+    int getAtomsCount();
     /**
-     * <code>optional .Message next = 7;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    boolean hasNext();
+    java.util.List<? extends com.shuffle.player.proto.Proto.AtomOrBuilder> 
+        getAtomsOrBuilderList();
     /**
-     * <code>optional .Message next = 7;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    com.shuffle.player.proto.Proto.Message getNext();
+    com.shuffle.player.proto.Proto.AtomOrBuilder getAtomsOrBuilder(
+        int index);
+
     /**
-     * <code>optional .Message next = 7;</code>
+     * <code>optional uint32 version = 15;</code>
      */
-    com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder();
+    int getVersion();
   }
   /**
-   * Protobuf type {@code Message}
+   * <pre>
+   * Version 2 of the packet format. Atoms are listed rather than nested, and
+   * keys and hashes are raw bytes. The version field is never set in version 1
+   * packets, which is how the two are told apart.
+   * </pre>
+   *
+   * Protobuf type {@code PacketV2}
    */
-  public  static final class Message extends
+  public  static final class PacketV2 extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Message)
-      MessageOrBuilder {
-    // Use Message.newBuilder() to construct.
-    private Message(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:PacketV2)
+      PacketV2OrBuilder {
+    // Use PacketV2.newBuilder() to construct.
+    private PacketV2(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Message() {
-      str_ = "";
+    private PacketV2() {
+      session_ = com.google.protobuf.ByteString.EMPTY;
+      number_ = 0;
+      from_ = com.google.protobuf.ByteString.EMPTY;
+      to_ = com.google.protobuf.ByteString.EMPTY;
+      phase_ = 0;
+      atoms_ = java.util.Collections.emptyList();
+      version_ = 0;
     }
 
     @java.lang.Override
@@ -2194,7 +2250,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Message(
+    private PacketV2(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2215,87 +2271,42 @@ public final class Proto {
               break;
             }
             case 10: {
-              com.shuffle.player.proto.Proto.Address.Builder subBuilder = null;
-              if (address_ != null) {
-                subBuilder = address_.toBuilder();
-              }
-              address_ = input.readMessage(com.shuffle.player.proto.Proto.Address.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(address_);
-                address_ = subBuilder.buildPartial();
-              }
 
+              session_ = input.readBytes();
               break;
             }
-            case 18: {
-              com.shuffle.player.proto.Proto.EncryptionKey.Builder subBuilder = null;
-              if (key_ != null) {
-                subBuilder = key_.toBuilder();
-              }
-              key_ = input.readMessage(com.shuffle.player.proto.Proto.EncryptionKey.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(key_);
-                key_ = subBuilder.buildPartial();
-              }
+            case 16: {
 
+              number_ = input.readUInt32();
               break;
             }
             case 26: {
-              com.shuffle.player.proto.Proto.Hash.Builder subBuilder = null;
-              if (hash_ != null) {
-                subBuilder = hash_.toBuilder();
-              }
-              hash_ = input.readMessage(com.shuffle.player.proto.Proto.Hash.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(hash_);
-                hash_ = subBuilder.buildPartial();
-              }
 
+              from_ = input.readBytes();
               break;
             }
             case 34: {
-              com.shuffle.player.proto.Proto.Signature.Builder subBuilder = null;
-              if (signature_ != null) {
-                subBuilder = signature_.toBuilder();
-              }
-              signature_ = input.readMessage(com.shuffle.player.proto.Proto.Signature.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(signature_);
-                signature_ = subBuilder.buildPartial();
-              }
 
+              to_ = input.readBytes();
               break;
             }
-            case 42: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 40: {
+              int rawValue = input.readEnum();
 
-              str_ = s;
+              phase_ = rawValue;
               break;
             }
             case 50: {
-              com.shuffle.player.proto.Proto.Blame.Builder subBuilder = null;
-              if (blame_ != null) {
-                subBuilder = blame_.toBuilder();
-              }
-              blame_ = input.readMessage(com.shuffle.player.proto.Proto.Blame.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(blame_);
-                blame_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                atoms_ = new java.util.ArrayList<com.shuffle.player.proto.Proto.Atom>();
+                mutable_bitField0_ |= 0x00000020;
               }
-
+              atoms_.add(input.readMessage(com.shuffle.player.proto.Proto.Atom.parser(), extensionRegistry));
               break;
             }
-            case 58: {
-              com.shuffle.player.proto.Proto.Message.Builder subBuilder = null;
-              if (next_ != null) {
-                subBuilder = next_.toBuilder();
-              }
-              next_ = input.readMessage(com.shuffle.player.proto.Proto.Message.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(next_);
-                next_ = subBuilder.buildPartial();
-              }
+            case 120: {
 
+              version_ = input.readUInt32();
               break;
             }
           }
@@ -2306,179 +2317,119 @@ public final class Proto {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          atoms_ = java.util.Collections.unmodifiableList(atoms_);
+        }
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_PacketV2_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_PacketV2_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
+              com.shuffle.player.proto.Proto.PacketV2.class, com.shuffle.player.proto.Proto.PacketV2.Builder.class);
     }
 
-    public static final int ADDRESS_FIELD_NUMBER = 1;
-    private com.shuffle.player.proto.Proto.Address address_;
+    private int bitField0_;
+    public static final int SESSION_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString session_;
     /**
-     * <code>optional .Address address = 1;</code>
+     * <code>optional bytes session = 1;</code>
      */
-    public boolean hasAddress() {
-      return address_ != null;
+    public com.google.protobuf.ByteString getSession() {
+      return session_;
     }
+
+    public static final int NUMBER_FIELD_NUMBER = 2;
+    private int number_;
     /**
-     * <code>optional .Address address = 1;</code>
+     * <code>optional uint32 number = 2;</code>
      */
-    public com.shuffle.player.proto.Proto.Address getAddress() {
-      return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+    public int getNumber() {
+      return number_;
     }
+
+    public static final int FROM_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString from_;
     /**
-     * <code>optional .Address address = 1;</code>
+     * <code>optional bytes from = 3;</code>
      */
-    public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
-      return getAddress();
+    public com.google.protobuf.ByteString getFrom() {
+      return from_;
     }
 
-    public static final int KEY_FIELD_NUMBER = 2;
-    private com.shuffle.player.proto.Proto.EncryptionKey key_;
+    public static final int TO_FIELD_NUMBER = 4;
+    private com.google.protobuf.ByteString to_;
     /**
-     * <code>optional .EncryptionKey key = 2;</code>
+     * <code>optional bytes to = 4;</code>
      */
-    public boolean hasKey() {
-      return key_ != null;
+    public com.google.protobuf.ByteString getTo() {
+      return to_;
     }
+
+    public static final int PHASE_FIELD_NUMBER = 5;
+    private int phase_;
     /**
-     * <code>optional .EncryptionKey key = 2;</code>
+     * <code>optional .Phase phase = 5;</code>
      */
-    public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
-      return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+    public int getPhaseValue() {
+      return phase_;
     }
     /**
-     * <code>optional .EncryptionKey key = 2;</code>
+     * <code>optional .Phase phase = 5;</code>
      */
-    public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
-      return getKey();
+    public com.shuffle.player.proto.Proto.Phase getPhase() {
+      com.shuffle.player.proto.Proto.Phase result = com.shuffle.player.proto.Proto.Phase.forNumber(phase_);
+      return result == null ? com.shuffle.player.proto.Proto.Phase.UNRECOGNIZED : result;
     }
 
-    public static final int HASH_FIELD_NUMBER = 3;
-    private com.shuffle.player.proto.Proto.Hash hash_;
+    public static final int ATOMS_FIELD_NUMBER = 6;
+    private java.util.List<com.shuffle.player.proto.Proto.Atom> atoms_;
     /**
-     * <code>optional .Hash hash = 3;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    public boolean hasHash() {
-      return hash_ != null;
+    public java.util.List<com.shuffle.player.proto.Proto.Atom> getAtomsList() {
+      return atoms_;
     }
     /**
-     * <code>optional .Hash hash = 3;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    public com.shuffle.player.proto.Proto.Hash getHash() {
-      return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
+    public java.util.List<? extends com.shuffle.player.proto.Proto.AtomOrBuilder> 
+        getAtomsOrBuilderList() {
+      return atoms_;
     }
     /**
-     * <code>optional .Hash hash = 3;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
-      return getHash();
+    public int getAtomsCount() {
+      return atoms_.size();
     }
-
-    public static final int SIGNATURE_FIELD_NUMBER = 4;
-    private com.shuffle.player.proto.Proto.Signature signature_;
     /**
-     * <code>optional .Signature signature = 4;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    public boolean hasSignature() {
-      return signature_ != null;
+    public com.shuffle.player.proto.Proto.Atom getAtoms(int index) {
+      return atoms_.get(index);
     }
     /**
-     * <code>optional .Signature signature = 4;</code>
+     * <code>repeated .Atom atoms = 6;</code>
      */
-    public com.shuffle.player.proto.Proto.Signature getSignature() {
-      return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+    public com.shuffle.player.proto.Proto.AtomOrBuilder getAtomsOrBuilder(
+        int index) {
+      return atoms_.get(index);
     }
+
+    public static final int VERSION_FIELD_NUMBER = 15;
+    private int version_;
     /**
-     * <code>optional .Signature signature = 4;</code>
+     * <code>optional uint32 version = 15;</code>
      */
-    public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
-      return getSignature();
-    }
-
-    public static final int STR_FIELD_NUMBER = 5;
-    private volatile java.lang.Object str_;
-    /**
-     * <code>optional string str = 5;</code>
-     */
-    public java.lang.String getStr() {
-      java.lang.Object ref = str_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        str_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string str = 5;</code>
-     */
-    public com.google.protobuf.ByteString
-        getStrBytes() {
-      java.lang.Object ref = str_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        str_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int BLAME_FIELD_NUMBER = 6;
-    private com.shuffle.player.proto.Proto.Blame blame_;
-    /**
-     * <code>optional .Blame blame = 6;</code>
-     */
-    public boolean hasBlame() {
-      return blame_ != null;
-    }
-    /**
-     * <code>optional .Blame blame = 6;</code>
-     */
-    public com.shuffle.player.proto.Proto.Blame getBlame() {
-      return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
-    }
-    /**
-     * <code>optional .Blame blame = 6;</code>
-     */
-    public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
-      return getBlame();
-    }
-
-    public static final int NEXT_FIELD_NUMBER = 7;
-    private com.shuffle.player.proto.Proto.Message next_;
-    /**
-     * <code>optional .Message next = 7;</code>
-     */
-    public boolean hasNext() {
-      return next_ != null;
-    }
-    /**
-     * <code>optional .Message next = 7;</code>
-     */
-    public com.shuffle.player.proto.Proto.Message getNext() {
-      return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
-    }
-    /**
-     * <code>optional .Message next = 7;</code>
-     */
-    public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
-      return getNext();
+    public int getVersion() {
+      return version_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2493,26 +2444,26 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (address_ != null) {
-        output.writeMessage(1, getAddress());
+      if (!session_.isEmpty()) {
+        output.writeBytes(1, session_);
       }
-      if (key_ != null) {
-        output.writeMessage(2, getKey());
+      if (number_ != 0) {
+        output.writeUInt32(2, number_);
       }
-      if (hash_ != null) {
-        output.writeMessage(3, getHash());
+      if (!from_.isEmpty()) {
+        output.writeBytes(3, from_);
       }
-      if (signature_ != null) {
-        output.writeMessage(4, getSignature());
+      if (!to_.isEmpty()) {
+        output.writeBytes(4, to_);
       }
-      if (!getStrBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 5, str_);
+      if (phase_ != com.shuffle.player.proto.Proto.Phase.NONE.getNumber()) {
+        output.writeEnum(5, phase_);
       }
-      if (blame_ != null) {
-        output.writeMessage(6, getBlame());
+      for (int i = 0; i < atoms_.size(); i++) {
+        output.writeMessage(6, atoms_.get(i));
       }
-      if (next_ != null) {
-        output.writeMessage(7, getNext());
+      if (version_ != 0) {
+        output.writeUInt32(15, version_);
       }
     }
 
@@ -2521,90 +2472,91 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (address_ != null) {
+      if (!session_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getAddress());
+          .computeBytesSize(1, session_);
       }
-      if (key_ != null) {
+      if (number_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, getKey());
+          .computeUInt32Size(2, number_);
       }
-      if (hash_ != null) {
+      if (!from_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getHash());
+          .computeBytesSize(3, from_);
       }
-      if (signature_ != null) {
+      if (!to_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, getSignature());
+          .computeBytesSize(4, to_);
       }
-      if (!getStrBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, str_);
+      if (phase_ != com.shuffle.player.proto.Proto.Phase.NONE.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(5, phase_);
       }
-      if (blame_ != null) {
+      for (int i = 0; i < atoms_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(6, getBlame());
+          .computeMessageSize(6, atoms_.get(i));
       }
-      if (next_ != null) {
+      if (version_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(7, getNext());
+          .computeUInt32Size(15, version_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.PacketV2 parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.PacketV2 parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Message parseFrom(
+    public static com.shuffle.player.proto.Proto.PacketV2 parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2616,7 +2568,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Message prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.PacketV2 prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -2631,25 +2583,31 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Message}
+     * <pre>
+     * Version 2 of the packet format. Atoms are listed rather than nested, and
+     * keys and hashes are raw bytes. The version field is never set in version 1
+     * packets, which is how the two are told apart.
+     * </pre>
+     *
+     * Protobuf type {@code PacketV2}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Message)
-        com.shuffle.player.proto.Proto.MessageOrBuilder {
+        // @@protoc_insertion_point(builder_implements:PacketV2)
+        com.shuffle.player.proto.Proto.PacketV2OrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_PacketV2_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_PacketV2_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
+                com.shuffle.player.proto.Proto.PacketV2.class, com.shuffle.player.proto.Proto.PacketV2.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Message.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.PacketV2.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2661,137 +2619,127 @@ public final class Proto {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getAtomsFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        if (addressBuilder_ == null) {
-          address_ = null;
-        } else {
-          address_ = null;
-          addressBuilder_ = null;
-        }
-        if (keyBuilder_ == null) {
-          key_ = null;
-        } else {
-          key_ = null;
-          keyBuilder_ = null;
-        }
-        if (hashBuilder_ == null) {
-          hash_ = null;
-        } else {
-          hash_ = null;
-          hashBuilder_ = null;
-        }
-        if (signatureBuilder_ == null) {
-          signature_ = null;
-        } else {
-          signature_ = null;
-          signatureBuilder_ = null;
-        }
-        str_ = "";
+        session_ = com.google.protobuf.ByteString.EMPTY;
 
-        if (blameBuilder_ == null) {
-          blame_ = null;
-        } else {
-          blame_ = null;
-          blameBuilder_ = null;
-        }
-        if (nextBuilder_ == null) {
-          next_ = null;
+        number_ = 0;
+
+        from_ = com.google.protobuf.ByteString.EMPTY;
+
+        to_ = com.google.protobuf.ByteString.EMPTY;
+
+        phase_ = 0;
+
+        if (atomsBuilder_ == null) {
+          atoms_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
         } else {
-          next_ = null;
-          nextBuilder_ = null;
+          atomsBuilder_.clear();
         }
+        version_ = 0;
+
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_PacketV2_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Message.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.PacketV2 getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.PacketV2.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Message build() {
-        com.shuffle.player.proto.Proto.Message result = buildPartial();
+      public com.shuffle.player.proto.Proto.PacketV2 build() {
+        com.shuffle.player.proto.Proto.PacketV2 result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Message buildPartial() {
-        com.shuffle.player.proto.Proto.Message result = new com.shuffle.player.proto.Proto.Message(this);
-        if (addressBuilder_ == null) {
-          result.address_ = address_;
-        } else {
-          result.address_ = addressBuilder_.build();
-        }
-        if (keyBuilder_ == null) {
-          result.key_ = key_;
-        } else {
-          result.key_ = keyBuilder_.build();
-        }
-        if (hashBuilder_ == null) {
-          result.hash_ = hash_;
-        } else {
-          result.hash_ = hashBuilder_.build();
-        }
-        if (signatureBuilder_ == null) {
-          result.signature_ = signature_;
-        } else {
-          result.signature_ = signatureBuilder_.build();
-        }
-        result.str_ = str_;
-        if (blameBuilder_ == null) {
-          result.blame_ = blame_;
-        } else {
-          result.blame_ = blameBuilder_.build();
-        }
-        if (nextBuilder_ == null) {
-          result.next_ = next_;
+      public com.shuffle.player.proto.Proto.PacketV2 buildPartial() {
+        com.shuffle.player.proto.Proto.PacketV2 result = new com.shuffle.player.proto.Proto.PacketV2(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.session_ = session_;
+        result.number_ = number_;
+        result.from_ = from_;
+        result.to_ = to_;
+        result.phase_ = phase_;
+        if (atomsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            atoms_ = java.util.Collections.unmodifiableList(atoms_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.atoms_ = atoms_;
         } else {
-          result.next_ = nextBuilder_.build();
+          result.atoms_ = atomsBuilder_.build();
         }
+        result.version_ = version_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Message) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Message)other);
+        if (other instanceof com.shuffle.player.proto.Proto.PacketV2) {
+          return mergeFrom((com.shuffle.player.proto.Proto.PacketV2)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Message other) {
-        if (other == com.shuffle.player.proto.Proto.Message.getDefaultInstance()) return this;
-        if (other.hasAddress()) {
-          mergeAddress(other.getAddress());
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.PacketV2 other) {
+        if (other == com.shuffle.player.proto.Proto.PacketV2.getDefaultInstance()) return this;
+        if (other.getSession() != com.google.protobuf.ByteString.EMPTY) {
+          setSession(other.getSession());
         }
-        if (other.hasKey()) {
-          mergeKey(other.getKey());
+        if (other.getNumber() != 0) {
+          setNumber(other.getNumber());
         }
-        if (other.hasHash()) {
-          mergeHash(other.getHash());
+        if (other.getFrom() != com.google.protobuf.ByteString.EMPTY) {
+          setFrom(other.getFrom());
         }
-        if (other.hasSignature()) {
-          mergeSignature(other.getSignature());
+        if (other.getTo() != com.google.protobuf.ByteString.EMPTY) {
+          setTo(other.getTo());
         }
-        if (!other.getStr().isEmpty()) {
-          str_ = other.str_;
-          onChanged();
+        if (other.phase_ != 0) {
+          setPhaseValue(other.getPhaseValue());
         }
-        if (other.hasBlame()) {
-          mergeBlame(other.getBlame());
+        if (atomsBuilder_ == null) {
+          if (!other.atoms_.isEmpty()) {
+            if (atoms_.isEmpty()) {
+              atoms_ = other.atoms_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureAtomsIsMutable();
+              atoms_.addAll(other.atoms_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.atoms_.isEmpty()) {
+            if (atomsBuilder_.isEmpty()) {
+              atomsBuilder_.dispose();
+              atomsBuilder_ = null;
+              atoms_ = other.atoms_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              atomsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAtomsFieldBuilder() : null;
+            } else {
+              atomsBuilder_.addAllMessages(other.atoms_);
+            }
+          }
         }
-        if (other.hasNext()) {
-          mergeNext(other.getNext());
+        if (other.getVersion() != 0) {
+          setVersion(other.getVersion());
         }
         onChanged();
         return this;
@@ -2805,11 +2753,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Message parsedMessage = null;
+        com.shuffle.player.proto.Proto.PacketV2 parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Message) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.PacketV2) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -2818,776 +2766,3781 @@ public final class Proto {
         }
         return this;
       }
+      private int bitField0_;
 
-      private com.shuffle.player.proto.Proto.Address address_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> addressBuilder_;
+      private com.google.protobuf.ByteString session_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional bytes session = 1;</code>
        */
-      public boolean hasAddress() {
-        return addressBuilder_ != null || address_ != null;
+      public com.google.protobuf.ByteString getSession() {
+        return session_;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional bytes session = 1;</code>
        */
-      public com.shuffle.player.proto.Proto.Address getAddress() {
-        if (addressBuilder_ == null) {
-          return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
-        } else {
-          return addressBuilder_.getMessage();
-        }
+      public Builder setSession(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        session_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional bytes session = 1;</code>
        */
-      public Builder setAddress(com.shuffle.player.proto.Proto.Address value) {
-        if (addressBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          address_ = value;
-          onChanged();
-        } else {
-          addressBuilder_.setMessage(value);
-        }
+      public Builder clearSession() {
+        
+        session_ = getDefaultInstance().getSession();
+        onChanged();
+        return this;
+      }
 
+      private int number_ ;
+      /**
+       * <code>optional uint32 number = 2;</code>
+       */
+      public int getNumber() {
+        return number_;
+      }
+      /**
+       * <code>optional uint32 number = 2;</code>
+       */
+      public Builder setNumber(int value) {
+        
+        number_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional uint32 number = 2;</code>
        */
-      public Builder setAddress(
-          com.shuffle.player.proto.Proto.Address.Builder builderForValue) {
-        if (addressBuilder_ == null) {
-          address_ = builderForValue.build();
-          onChanged();
-        } else {
-          addressBuilder_.setMessage(builderForValue.build());
-        }
+      public Builder clearNumber() {
+        
+        number_ = 0;
+        onChanged();
+        return this;
+      }
 
+      private com.google.protobuf.ByteString from_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes from = 3;</code>
+       */
+      public com.google.protobuf.ByteString getFrom() {
+        return from_;
+      }
+      /**
+       * <code>optional bytes from = 3;</code>
+       */
+      public Builder setFrom(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        from_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional bytes from = 3;</code>
        */
-      public Builder mergeAddress(com.shuffle.player.proto.Proto.Address value) {
-        if (addressBuilder_ == null) {
-          if (address_ != null) {
-            address_ =
-              com.shuffle.player.proto.Proto.Address.newBuilder(address_).mergeFrom(value).buildPartial();
-          } else {
-            address_ = value;
-          }
-          onChanged();
-        } else {
-          addressBuilder_.mergeFrom(value);
-        }
+      public Builder clearFrom() {
+        
+        from_ = getDefaultInstance().getFrom();
+        onChanged();
+        return this;
+      }
 
+      private com.google.protobuf.ByteString to_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes to = 4;</code>
+       */
+      public com.google.protobuf.ByteString getTo() {
+        return to_;
+      }
+      /**
+       * <code>optional bytes to = 4;</code>
+       */
+      public Builder setTo(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        to_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional bytes to = 4;</code>
        */
-      public Builder clearAddress() {
-        if (addressBuilder_ == null) {
-          address_ = null;
-          onChanged();
-        } else {
-          address_ = null;
-          addressBuilder_ = null;
-        }
+      public Builder clearTo() {
+        
+        to_ = getDefaultInstance().getTo();
+        onChanged();
+        return this;
+      }
 
+      private int phase_ = 0;
+      /**
+       * <code>optional .Phase phase = 5;</code>
+       */
+      public int getPhaseValue() {
+        return phase_;
+      }
+      /**
+       * <code>optional .Phase phase = 5;</code>
+       */
+      public Builder setPhaseValue(int value) {
+        phase_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .Phase phase = 5;</code>
        */
-      public com.shuffle.player.proto.Proto.Address.Builder getAddressBuilder() {
+      public com.shuffle.player.proto.Proto.Phase getPhase() {
+        com.shuffle.player.proto.Proto.Phase result = com.shuffle.player.proto.Proto.Phase.forNumber(phase_);
+        return result == null ? com.shuffle.player.proto.Proto.Phase.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>optional .Phase phase = 5;</code>
+       */
+      public Builder setPhase(com.shuffle.player.proto.Proto.Phase value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
         
+        phase_ = value.getNumber();
         onChanged();
-        return getAddressFieldBuilder().getBuilder();
+        return this;
       }
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>optional .Phase phase = 5;</code>
        */
-      public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
-        if (addressBuilder_ != null) {
-          return addressBuilder_.getMessageOrBuilder();
-        } else {
-          return address_ == null ?
-              com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
-        }
+      public Builder clearPhase() {
+        
+        phase_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.shuffle.player.proto.Proto.Atom> atoms_ =
+        java.util.Collections.emptyList();
+      private void ensureAtomsIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          atoms_ = new java.util.ArrayList<com.shuffle.player.proto.Proto.Atom>(atoms_);
+          bitField0_ |= 0x00000020;
+         }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.shuffle.player.proto.Proto.Atom, com.shuffle.player.proto.Proto.Atom.Builder, com.shuffle.player.proto.Proto.AtomOrBuilder> atomsBuilder_;
+
       /**
-       * <code>optional .Address address = 1;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> 
-          getAddressFieldBuilder() {
-        if (addressBuilder_ == null) {
-          addressBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder>(
-                  getAddress(),
-                  getParentForChildren(),
-                  isClean());
-          address_ = null;
+      public java.util.List<com.shuffle.player.proto.Proto.Atom> getAtomsList() {
+        if (atomsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(atoms_);
+        } else {
+          return atomsBuilder_.getMessageList();
         }
-        return addressBuilder_;
       }
-
-      private com.shuffle.player.proto.Proto.EncryptionKey key_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> keyBuilder_;
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public boolean hasKey() {
-        return keyBuilder_ != null || key_ != null;
+      public int getAtomsCount() {
+        if (atomsBuilder_ == null) {
+          return atoms_.size();
+        } else {
+          return atomsBuilder_.getCount();
+        }
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
-        if (keyBuilder_ == null) {
-          return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+      public com.shuffle.player.proto.Proto.Atom getAtoms(int index) {
+        if (atomsBuilder_ == null) {
+          return atoms_.get(index);
         } else {
-          return keyBuilder_.getMessage();
+          return atomsBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder setKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
-        if (keyBuilder_ == null) {
+      public Builder setAtoms(
+          int index, com.shuffle.player.proto.Proto.Atom value) {
+        if (atomsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          key_ = value;
+          ensureAtomsIsMutable();
+          atoms_.set(index, value);
           onChanged();
         } else {
-          keyBuilder_.setMessage(value);
+          atomsBuilder_.setMessage(index, value);
         }
-
         return this;
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder setKey(
-          com.shuffle.player.proto.Proto.EncryptionKey.Builder builderForValue) {
-        if (keyBuilder_ == null) {
-          key_ = builderForValue.build();
+      public Builder setAtoms(
+          int index, com.shuffle.player.proto.Proto.Atom.Builder builderForValue) {
+        if (atomsBuilder_ == null) {
+          ensureAtomsIsMutable();
+          atoms_.set(index, builderForValue.build());
           onChanged();
         } else {
-          keyBuilder_.setMessage(builderForValue.build());
+          atomsBuilder_.setMessage(index, builderForValue.build());
         }
-
         return this;
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder mergeKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
-        if (keyBuilder_ == null) {
-          if (key_ != null) {
-            key_ =
-              com.shuffle.player.proto.Proto.EncryptionKey.newBuilder(key_).mergeFrom(value).buildPartial();
-          } else {
-            key_ = value;
+      public Builder addAtoms(com.shuffle.player.proto.Proto.Atom value) {
+        if (atomsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureAtomsIsMutable();
+          atoms_.add(value);
           onChanged();
         } else {
-          keyBuilder_.mergeFrom(value);
+          atomsBuilder_.addMessage(value);
         }
-
         return this;
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder clearKey() {
-        if (keyBuilder_ == null) {
-          key_ = null;
+      public Builder addAtoms(
+          int index, com.shuffle.player.proto.Proto.Atom value) {
+        if (atomsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAtomsIsMutable();
+          atoms_.add(index, value);
           onChanged();
         } else {
-          key_ = null;
-          keyBuilder_ = null;
+          atomsBuilder_.addMessage(index, value);
         }
-
         return this;
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public com.shuffle.player.proto.Proto.EncryptionKey.Builder getKeyBuilder() {
-        
-        onChanged();
-        return getKeyFieldBuilder().getBuilder();
+      public Builder addAtoms(
+          com.shuffle.player.proto.Proto.Atom.Builder builderForValue) {
+        if (atomsBuilder_ == null) {
+          ensureAtomsIsMutable();
+          atoms_.add(builderForValue.build());
+          onChanged();
+        } else {
+          atomsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>optional .EncryptionKey key = 2;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
-        if (keyBuilder_ != null) {
-          return keyBuilder_.getMessageOrBuilder();
+      public Builder addAtoms(
+          int index, com.shuffle.player.proto.Proto.Atom.Builder builderForValue) {
+        if (atomsBuilder_ == null) {
+          ensureAtomsIsMutable();
+          atoms_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return key_ == null ?
-              com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+          atomsBuilder_.addMessage(index, builderForValue.build());
         }
-      }
-      /**
-       * <code>optional .EncryptionKey key = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> 
-          getKeyFieldBuilder() {
-        if (keyBuilder_ == null) {
-          keyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder>(
-                  getKey(),
-                  getParentForChildren(),
-                  isClean());
-          key_ = null;
-        }
-        return keyBuilder_;
-      }
-
-      private com.shuffle.player.proto.Proto.Hash hash_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> hashBuilder_;
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public boolean hasHash() {
-        return hashBuilder_ != null || hash_ != null;
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public com.shuffle.player.proto.Proto.Hash getHash() {
-        if (hashBuilder_ == null) {
-          return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
-        } else {
-          return hashBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public Builder setHash(com.shuffle.player.proto.Proto.Hash value) {
-        if (hashBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          hash_ = value;
-          onChanged();
-        } else {
-          hashBuilder_.setMessage(value);
-        }
-
         return this;
       }
       /**
-       * <code>optional .Hash hash = 3;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder setHash(
-          com.shuffle.player.proto.Proto.Hash.Builder builderForValue) {
-        if (hashBuilder_ == null) {
-          hash_ = builderForValue.build();
+      public Builder addAllAtoms(
+          java.lang.Iterable<? extends com.shuffle.player.proto.Proto.Atom> values) {
+        if (atomsBuilder_ == null) {
+          ensureAtomsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, atoms_);
           onChanged();
         } else {
-          hashBuilder_.setMessage(builderForValue.build());
+          atomsBuilder_.addAllMessages(values);
         }
-
         return this;
       }
       /**
-       * <code>optional .Hash hash = 3;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder mergeHash(com.shuffle.player.proto.Proto.Hash value) {
-        if (hashBuilder_ == null) {
-          if (hash_ != null) {
-            hash_ =
-              com.shuffle.player.proto.Proto.Hash.newBuilder(hash_).mergeFrom(value).buildPartial();
-          } else {
-            hash_ = value;
-          }
+      public Builder clearAtoms() {
+        if (atomsBuilder_ == null) {
+          atoms_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
           onChanged();
         } else {
-          hashBuilder_.mergeFrom(value);
+          atomsBuilder_.clear();
         }
-
         return this;
       }
       /**
-       * <code>optional .Hash hash = 3;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder clearHash() {
-        if (hashBuilder_ == null) {
-          hash_ = null;
+      public Builder removeAtoms(int index) {
+        if (atomsBuilder_ == null) {
+          ensureAtomsIsMutable();
+          atoms_.remove(index);
           onChanged();
         } else {
-          hash_ = null;
-          hashBuilder_ = null;
+          atomsBuilder_.remove(index);
         }
-
         return this;
       }
       /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public com.shuffle.player.proto.Proto.Hash.Builder getHashBuilder() {
-        
-        onChanged();
-        return getHashFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
-        if (hashBuilder_ != null) {
-          return hashBuilder_.getMessageOrBuilder();
-        } else {
-          return hash_ == null ?
-              com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
-        }
-      }
-      /**
-       * <code>optional .Hash hash = 3;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> 
-          getHashFieldBuilder() {
-        if (hashBuilder_ == null) {
-          hashBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder>(
-                  getHash(),
-                  getParentForChildren(),
-                  isClean());
-          hash_ = null;
-        }
-        return hashBuilder_;
-      }
-
-      private com.shuffle.player.proto.Proto.Signature signature_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> signatureBuilder_;
-      /**
-       * <code>optional .Signature signature = 4;</code>
-       */
-      public boolean hasSignature() {
-        return signatureBuilder_ != null || signature_ != null;
-      }
-      /**
-       * <code>optional .Signature signature = 4;</code>
-       */
-      public com.shuffle.player.proto.Proto.Signature getSignature() {
-        if (signatureBuilder_ == null) {
-          return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
-        } else {
-          return signatureBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder setSignature(com.shuffle.player.proto.Proto.Signature value) {
-        if (signatureBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          signature_ = value;
-          onChanged();
-        } else {
-          signatureBuilder_.setMessage(value);
-        }
-
-        return this;
+      public com.shuffle.player.proto.Proto.Atom.Builder getAtomsBuilder(
+          int index) {
+        return getAtomsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder setSignature(
-          com.shuffle.player.proto.Proto.Signature.Builder builderForValue) {
-        if (signatureBuilder_ == null) {
-          signature_ = builderForValue.build();
-          onChanged();
-        } else {
-          signatureBuilder_.setMessage(builderForValue.build());
+      public com.shuffle.player.proto.Proto.AtomOrBuilder getAtomsOrBuilder(
+          int index) {
+        if (atomsBuilder_ == null) {
+          return atoms_.get(index);  } else {
+          return atomsBuilder_.getMessageOrBuilder(index);
         }
-
-        return this;
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder mergeSignature(com.shuffle.player.proto.Proto.Signature value) {
-        if (signatureBuilder_ == null) {
-          if (signature_ != null) {
-            signature_ =
-              com.shuffle.player.proto.Proto.Signature.newBuilder(signature_).mergeFrom(value).buildPartial();
-          } else {
-            signature_ = value;
-          }
-          onChanged();
+      public java.util.List<? extends com.shuffle.player.proto.Proto.AtomOrBuilder> 
+           getAtomsOrBuilderList() {
+        if (atomsBuilder_ != null) {
+          return atomsBuilder_.getMessageOrBuilderList();
         } else {
-          signatureBuilder_.mergeFrom(value);
+          return java.util.Collections.unmodifiableList(atoms_);
         }
-
-        return this;
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public Builder clearSignature() {
-        if (signatureBuilder_ == null) {
-          signature_ = null;
-          onChanged();
-        } else {
-          signature_ = null;
-          signatureBuilder_ = null;
-        }
-
-        return this;
+      public com.shuffle.player.proto.Proto.Atom.Builder addAtomsBuilder() {
+        return getAtomsFieldBuilder().addBuilder(
+            com.shuffle.player.proto.Proto.Atom.getDefaultInstance());
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public com.shuffle.player.proto.Proto.Signature.Builder getSignatureBuilder() {
-        
-        onChanged();
-        return getSignatureFieldBuilder().getBuilder();
+      public com.shuffle.player.proto.Proto.Atom.Builder addAtomsBuilder(
+          int index) {
+        return getAtomsFieldBuilder().addBuilder(
+            index, com.shuffle.player.proto.Proto.Atom.getDefaultInstance());
       }
       /**
-       * <code>optional .Signature signature = 4;</code>
+       * <code>repeated .Atom atoms = 6;</code>
        */
-      public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
-        if (signatureBuilder_ != null) {
-          return signatureBuilder_.getMessageOrBuilder();
-        } else {
-          return signature_ == null ?
-              com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
-        }
+      public java.util.List<com.shuffle.player.proto.Proto.Atom.Builder> 
+           getAtomsBuilderList() {
+        return getAtomsFieldBuilder().getBuilderList();
       }
-      /**
-       * <code>optional .Signature signature = 4;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> 
-          getSignatureFieldBuilder() {
-        if (signatureBuilder_ == null) {
-          signatureBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder>(
-                  getSignature(),
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.shuffle.player.proto.Proto.Atom, com.shuffle.player.proto.Proto.Atom.Builder, com.shuffle.player.proto.Proto.AtomOrBuilder> 
+          getAtomsFieldBuilder() {
+        if (atomsBuilder_ == null) {
+          atomsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.shuffle.player.proto.Proto.Atom, com.shuffle.player.proto.Proto.Atom.Builder, com.shuffle.player.proto.Proto.AtomOrBuilder>(
+                  atoms_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
                   getParentForChildren(),
                   isClean());
-          signature_ = null;
+          atoms_ = null;
         }
-        return signatureBuilder_;
+        return atomsBuilder_;
       }
 
-      private java.lang.Object str_ = "";
-      /**
-       * <code>optional string str = 5;</code>
-       */
-      public java.lang.String getStr() {
-        java.lang.Object ref = str_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          str_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private int version_ ;
       /**
-       * <code>optional string str = 5;</code>
+       * <code>optional uint32 version = 15;</code>
        */
-      public com.google.protobuf.ByteString
-          getStrBytes() {
-        java.lang.Object ref = str_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          str_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public int getVersion() {
+        return version_;
       }
       /**
-       * <code>optional string str = 5;</code>
+       * <code>optional uint32 version = 15;</code>
        */
-      public Builder setStr(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        str_ = value;
+      public Builder setVersion(int value) {
+        
+        version_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string str = 5;</code>
+       * <code>optional uint32 version = 15;</code>
        */
-      public Builder clearStr() {
+      public Builder clearVersion() {
         
-        str_ = getDefaultInstance().getStr();
+        version_ = 0;
         onChanged();
         return this;
       }
-      /**
-       * <code>optional string str = 5;</code>
-       */
-      public Builder setStrBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PacketV2)
+    }
+
+    // @@protoc_insertion_point(class_scope:PacketV2)
+    private static final com.shuffle.player.proto.Proto.PacketV2 DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.PacketV2();
+    }
+
+    public static com.shuffle.player.proto.Proto.PacketV2 getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PacketV2>
+        PARSER = new com.google.protobuf.AbstractParser<PacketV2>() {
+      public PacketV2 parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new PacketV2(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<PacketV2> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PacketV2> getParserForType() {
+      return PARSER;
+    }
+
+    public com.shuffle.player.proto.Proto.PacketV2 getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AtomOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Atom)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    java.lang.String getAddress();
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getAddressBytes();
+
+    /**
+     * <code>optional bytes key = 2;</code>
+     */
+    com.google.protobuf.ByteString getKey();
+
+    /**
+     * <code>optional bytes hash = 3;</code>
+     */
+    com.google.protobuf.ByteString getHash();
+
+    /**
+     * <code>optional bytes signature = 4;</code>
+     */
+    com.google.protobuf.ByteString getSignature();
+
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    java.lang.String getStr();
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getStrBytes();
+
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    com.shuffle.player.proto.Proto.Blame getBlame();
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder();
+
+    /**
+     * <code>optional bytes onion = 7;</code>
+     */
+    com.google.protobuf.ByteString getOnion();
+
+    public com.shuffle.player.proto.Proto.Atom.AtomCase getAtomCase();
+  }
+  /**
+   * Protobuf type {@code Atom}
+   */
+  public  static final class Atom extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Atom)
+      AtomOrBuilder {
+    // Use Atom.newBuilder() to construct.
+    private Atom(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Atom() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Atom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              atomCase_ = 1;
+              atom_ = s;
+              break;
+            }
+            case 18: {
+              atomCase_ = 2;
+              atom_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              atomCase_ = 3;
+              atom_ = input.readBytes();
+              break;
+            }
+            case 34: {
+              atomCase_ = 4;
+              atom_ = input.readBytes();
+              break;
+            }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+              atomCase_ = 5;
+              atom_ = s;
+              break;
+            }
+            case 50: {
+              com.shuffle.player.proto.Proto.Blame.Builder subBuilder = null;
+              if (atomCase_ == 6) {
+                subBuilder = ((com.shuffle.player.proto.Proto.Blame) atom_).toBuilder();
+              }
+              atom_ =
+                  input.readMessage(com.shuffle.player.proto.Proto.Blame.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((com.shuffle.player.proto.Proto.Blame) atom_);
+                atom_ = subBuilder.buildPartial();
+              }
+              atomCase_ = 6;
+              break;
+            }
+            case 58: {
+              atomCase_ = 7;
+              atom_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shuffle.player.proto.Proto.internal_static_Atom_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shuffle.player.proto.Proto.internal_static_Atom_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shuffle.player.proto.Proto.Atom.class, com.shuffle.player.proto.Proto.Atom.Builder.class);
+    }
+
+    private int atomCase_ = 0;
+    private java.lang.Object atom_;
+    public enum AtomCase
+        implements com.google.protobuf.Internal.EnumLite {
+      ADDRESS(1),
+      KEY(2),
+      HASH(3),
+      SIGNATURE(4),
+      STR(5),
+      BLAME(6),
+      ONION(7),
+      ATOM_NOT_SET(0);
+      private final int value;
+      private AtomCase(int value) {
+        this.value = value;
+      }
+      /**
+       * @deprecated Use {@link #forNumber(int)} instead.
+       */
+      @java.lang.Deprecated
+      public static AtomCase valueOf(int value) {
+        return forNumber(value);
+      }
+
+      public static AtomCase forNumber(int value) {
+        switch (value) {
+          case 1: return ADDRESS;
+          case 2: return KEY;
+          case 3: return HASH;
+          case 4: return SIGNATURE;
+          case 5: return STR;
+          case 6: return BLAME;
+          case 7: return ONION;
+          case 0: return ATOM_NOT_SET;
+          default: return null;
+        }
+      }
+      public int getNumber() {
+        return this.value;
+      }
+    };
+
+    public AtomCase
+    getAtomCase() {
+      return AtomCase.forNumber(
+          atomCase_);
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 1;
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    public java.lang.String getAddress() {
+      java.lang.Object ref = "";
+      if (atomCase_ == 1) {
+        ref = atom_;
+      }
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (atomCase_ == 1) {
+          atom_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = "";
+      if (atomCase_ == 1) {
+        ref = atom_;
+      }
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (atomCase_ == 1) {
+          atom_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int KEY_FIELD_NUMBER = 2;
+    /**
+     * <code>optional bytes key = 2;</code>
+     */
+    public com.google.protobuf.ByteString getKey() {
+      if (atomCase_ == 2) {
+        return (com.google.protobuf.ByteString) atom_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final int HASH_FIELD_NUMBER = 3;
+    /**
+     * <code>optional bytes hash = 3;</code>
+     */
+    public com.google.protobuf.ByteString getHash() {
+      if (atomCase_ == 3) {
+        return (com.google.protobuf.ByteString) atom_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final int SIGNATURE_FIELD_NUMBER = 4;
+    /**
+     * <code>optional bytes signature = 4;</code>
+     */
+    public com.google.protobuf.ByteString getSignature() {
+      if (atomCase_ == 4) {
+        return (com.google.protobuf.ByteString) atom_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final int STR_FIELD_NUMBER = 5;
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    public java.lang.String getStr() {
+      java.lang.Object ref = "";
+      if (atomCase_ == 5) {
+        ref = atom_;
+      }
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (atomCase_ == 5) {
+          atom_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStrBytes() {
+      java.lang.Object ref = "";
+      if (atomCase_ == 5) {
+        ref = atom_;
+      }
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (atomCase_ == 5) {
+          atom_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BLAME_FIELD_NUMBER = 6;
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public com.shuffle.player.proto.Proto.Blame getBlame() {
+      if (atomCase_ == 6) {
+         return (com.shuffle.player.proto.Proto.Blame) atom_;
+      }
+      return com.shuffle.player.proto.Proto.Blame.getDefaultInstance();
+    }
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
+      if (atomCase_ == 6) {
+         return (com.shuffle.player.proto.Proto.Blame) atom_;
+      }
+      return com.shuffle.player.proto.Proto.Blame.getDefaultInstance();
+    }
+
+    public static final int ONION_FIELD_NUMBER = 7;
+    /**
+     * <code>optional bytes onion = 7;</code>
+     */
+    public com.google.protobuf.ByteString getOnion() {
+      if (atomCase_ == 7) {
+        return (com.google.protobuf.ByteString) atom_;
+      }
+      return com.google.protobuf.ByteString.EMPTY;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (atomCase_ == 1) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, atom_);
+      }
+      if (atomCase_ == 2) {
+        output.writeBytes(
+            2, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+      if (atomCase_ == 3) {
+        output.writeBytes(
+            3, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+      if (atomCase_ == 4) {
+        output.writeBytes(
+            4, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+      if (atomCase_ == 5) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, atom_);
+      }
+      if (atomCase_ == 6) {
+        output.writeMessage(6, (com.shuffle.player.proto.Proto.Blame) atom_);
+      }
+      if (atomCase_ == 7) {
+        output.writeBytes(
+            7, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (atomCase_ == 1) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, atom_);
+      }
+      if (atomCase_ == 2) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(
+              2, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+      if (atomCase_ == 3) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(
+              3, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+      if (atomCase_ == 4) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(
+              4, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+      if (atomCase_ == 5) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, atom_);
+      }
+      if (atomCase_ == 6) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, (com.shuffle.player.proto.Proto.Blame) atom_);
+      }
+      if (atomCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(
+              7, (com.google.protobuf.ByteString)((com.google.protobuf.ByteString) atom_));
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Atom parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Atom prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Atom}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Atom)
+        com.shuffle.player.proto.Proto.AtomOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shuffle.player.proto.Proto.internal_static_Atom_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shuffle.player.proto.Proto.internal_static_Atom_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shuffle.player.proto.Proto.Atom.class, com.shuffle.player.proto.Proto.Atom.Builder.class);
+      }
+
+      // Construct using com.shuffle.player.proto.Proto.Atom.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        atomCase_ = 0;
+        atom_ = null;
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shuffle.player.proto.Proto.internal_static_Atom_descriptor;
+      }
+
+      public com.shuffle.player.proto.Proto.Atom getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Atom.getDefaultInstance();
+      }
+
+      public com.shuffle.player.proto.Proto.Atom build() {
+        com.shuffle.player.proto.Proto.Atom result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.shuffle.player.proto.Proto.Atom buildPartial() {
+        com.shuffle.player.proto.Proto.Atom result = new com.shuffle.player.proto.Proto.Atom(this);
+        if (atomCase_ == 1) {
+          result.atom_ = atom_;
+        }
+        if (atomCase_ == 2) {
+          result.atom_ = atom_;
+        }
+        if (atomCase_ == 3) {
+          result.atom_ = atom_;
+        }
+        if (atomCase_ == 4) {
+          result.atom_ = atom_;
+        }
+        if (atomCase_ == 5) {
+          result.atom_ = atom_;
+        }
+        if (atomCase_ == 6) {
+          if (blameBuilder_ == null) {
+            result.atom_ = atom_;
+          } else {
+            result.atom_ = blameBuilder_.build();
+          }
+        }
+        if (atomCase_ == 7) {
+          result.atom_ = atom_;
+        }
+        result.atomCase_ = atomCase_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shuffle.player.proto.Proto.Atom) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Atom)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Atom other) {
+        if (other == com.shuffle.player.proto.Proto.Atom.getDefaultInstance()) return this;
+        switch (other.getAtomCase()) {
+          case ADDRESS: {
+            atomCase_ = 1;
+            atom_ = other.atom_;
+            onChanged();
+            break;
+          }
+          case KEY: {
+            setKey(other.getKey());
+            break;
+          }
+          case HASH: {
+            setHash(other.getHash());
+            break;
+          }
+          case SIGNATURE: {
+            setSignature(other.getSignature());
+            break;
+          }
+          case STR: {
+            atomCase_ = 5;
+            atom_ = other.atom_;
+            onChanged();
+            break;
+          }
+          case BLAME: {
+            mergeBlame(other.getBlame());
+            break;
+          }
+          case ONION: {
+            setOnion(other.getOnion());
+            break;
+          }
+          case ATOM_NOT_SET: {
+            break;
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.shuffle.player.proto.Proto.Atom parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.shuffle.player.proto.Proto.Atom) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int atomCase_ = 0;
+      private java.lang.Object atom_;
+      public AtomCase
+          getAtomCase() {
+        return AtomCase.forNumber(
+            atomCase_);
+      }
+
+      public Builder clearAtom() {
+        atomCase_ = 0;
+        atom_ = null;
+        onChanged();
+        return this;
+      }
+
+
+      /**
+       * <code>optional string address = 1;</code>
+       */
+      public java.lang.String getAddress() {
+        java.lang.Object ref = "";
+        if (atomCase_ == 1) {
+          ref = atom_;
+        }
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (atomCase_ == 1) {
+            atom_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string address = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = "";
+        if (atomCase_ == 1) {
+          ref = atom_;
+        }
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          if (atomCase_ == 1) {
+            atom_ = b;
+          }
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string address = 1;</code>
+       */
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  atomCase_ = 1;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string address = 1;</code>
+       */
+      public Builder clearAddress() {
+        if (atomCase_ == 1) {
+          atomCase_ = 0;
+          atom_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional string address = 1;</code>
+       */
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        atomCase_ = 1;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+
+      /**
+       * <code>optional bytes key = 2;</code>
+       */
+      public com.google.protobuf.ByteString getKey() {
+        if (atomCase_ == 2) {
+          return (com.google.protobuf.ByteString) atom_;
+        }
+        return com.google.protobuf.ByteString.EMPTY;
+      }
+      /**
+       * <code>optional bytes key = 2;</code>
+       */
+      public Builder setKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  atomCase_ = 2;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes key = 2;</code>
+       */
+      public Builder clearKey() {
+        if (atomCase_ == 2) {
+          atomCase_ = 0;
+          atom_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>optional bytes hash = 3;</code>
+       */
+      public com.google.protobuf.ByteString getHash() {
+        if (atomCase_ == 3) {
+          return (com.google.protobuf.ByteString) atom_;
+        }
+        return com.google.protobuf.ByteString.EMPTY;
+      }
+      /**
+       * <code>optional bytes hash = 3;</code>
+       */
+      public Builder setHash(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  atomCase_ = 3;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes hash = 3;</code>
+       */
+      public Builder clearHash() {
+        if (atomCase_ == 3) {
+          atomCase_ = 0;
+          atom_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>optional bytes signature = 4;</code>
+       */
+      public com.google.protobuf.ByteString getSignature() {
+        if (atomCase_ == 4) {
+          return (com.google.protobuf.ByteString) atom_;
+        }
+        return com.google.protobuf.ByteString.EMPTY;
+      }
+      /**
+       * <code>optional bytes signature = 4;</code>
+       */
+      public Builder setSignature(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  atomCase_ = 4;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes signature = 4;</code>
+       */
+      public Builder clearSignature() {
+        if (atomCase_ == 4) {
+          atomCase_ = 0;
+          atom_ = null;
+          onChanged();
+        }
+        return this;
+      }
+
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public java.lang.String getStr() {
+        java.lang.Object ref = "";
+        if (atomCase_ == 5) {
+          ref = atom_;
+        }
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (atomCase_ == 5) {
+            atom_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStrBytes() {
+        java.lang.Object ref = "";
+        if (atomCase_ == 5) {
+          ref = atom_;
+        }
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          if (atomCase_ == 5) {
+            atom_ = b;
+          }
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder setStr(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  atomCase_ = 5;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder clearStr() {
+        if (atomCase_ == 5) {
+          atomCase_ = 0;
+          atom_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder setStrBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        atomCase_ = 5;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> blameBuilder_;
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.Blame getBlame() {
+        if (blameBuilder_ == null) {
+          if (atomCase_ == 6) {
+            return (com.shuffle.player.proto.Proto.Blame) atom_;
+          }
+          return com.shuffle.player.proto.Proto.Blame.getDefaultInstance();
+        } else {
+          if (atomCase_ == 6) {
+            return blameBuilder_.getMessage();
+          }
+          return com.shuffle.player.proto.Proto.Blame.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder setBlame(com.shuffle.player.proto.Proto.Blame value) {
+        if (blameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          atom_ = value;
+          onChanged();
+        } else {
+          blameBuilder_.setMessage(value);
+        }
+        atomCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder setBlame(
+          com.shuffle.player.proto.Proto.Blame.Builder builderForValue) {
+        if (blameBuilder_ == null) {
+          atom_ = builderForValue.build();
+          onChanged();
+        } else {
+          blameBuilder_.setMessage(builderForValue.build());
+        }
+        atomCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder mergeBlame(com.shuffle.player.proto.Proto.Blame value) {
+        if (blameBuilder_ == null) {
+          if (atomCase_ == 6 &&
+              atom_ != com.shuffle.player.proto.Proto.Blame.getDefaultInstance()) {
+            atom_ = com.shuffle.player.proto.Proto.Blame.newBuilder((com.shuffle.player.proto.Proto.Blame) atom_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            atom_ = value;
+          }
+          onChanged();
+        } else {
+          if (atomCase_ == 6) {
+            blameBuilder_.mergeFrom(value);
+          }
+          blameBuilder_.setMessage(value);
+        }
+        atomCase_ = 6;
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder clearBlame() {
+        if (blameBuilder_ == null) {
+          if (atomCase_ == 6) {
+            atomCase_ = 0;
+            atom_ = null;
+            onChanged();
+          }
+        } else {
+          if (atomCase_ == 6) {
+            atomCase_ = 0;
+            atom_ = null;
+          }
+          blameBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.Blame.Builder getBlameBuilder() {
+        return getBlameFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
+        if ((atomCase_ == 6) && (blameBuilder_ != null)) {
+          return blameBuilder_.getMessageOrBuilder();
+        } else {
+          if (atomCase_ == 6) {
+            return (com.shuffle.player.proto.Proto.Blame) atom_;
+          }
+          return com.shuffle.player.proto.Proto.Blame.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> 
+          getBlameFieldBuilder() {
+        if (blameBuilder_ == null) {
+          if (!(atomCase_ == 6)) {
+            atom_ = com.shuffle.player.proto.Proto.Blame.getDefaultInstance();
+          }
+          blameBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder>(
+                  (com.shuffle.player.proto.Proto.Blame) atom_,
+                  getParentForChildren(),
+                  isClean());
+          atom_ = null;
+        }
+        atomCase_ = 6;
+        onChanged();;
+        return blameBuilder_;
+      }
+
+      /**
+       * <code>optional bytes onion = 7;</code>
+       */
+      public com.google.protobuf.ByteString getOnion() {
+        if (atomCase_ == 7) {
+          return (com.google.protobuf.ByteString) atom_;
+        }
+        return com.google.protobuf.ByteString.EMPTY;
+      }
+      /**
+       * <code>optional bytes onion = 7;</code>
+       */
+      public Builder setOnion(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  atomCase_ = 7;
+        atom_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes onion = 7;</code>
+       */
+      public Builder clearOnion() {
+        if (atomCase_ == 7) {
+          atomCase_ = 0;
+          atom_ = null;
+          onChanged();
+        }
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Atom)
+    }
+
+    // @@protoc_insertion_point(class_scope:Atom)
+    private static final com.shuffle.player.proto.Proto.Atom DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Atom();
+    }
+
+    public static com.shuffle.player.proto.Proto.Atom getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Atom>
+        PARSER = new com.google.protobuf.AbstractParser<Atom>() {
+      public Atom parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Atom(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Atom> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Atom> getParserForType() {
+      return PARSER;
+    }
+
+    public com.shuffle.player.proto.Proto.Atom getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Message)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    boolean hasAddress();
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    com.shuffle.player.proto.Proto.Address getAddress();
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder();
+
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    boolean hasKey();
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    com.shuffle.player.proto.Proto.EncryptionKey getKey();
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder();
+
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    boolean hasHash();
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    com.shuffle.player.proto.Proto.Hash getHash();
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder();
+
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    boolean hasSignature();
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    com.shuffle.player.proto.Proto.Signature getSignature();
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder();
+
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    java.lang.String getStr();
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getStrBytes();
+
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    boolean hasBlame();
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    com.shuffle.player.proto.Proto.Blame getBlame();
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder();
+
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    boolean hasNext();
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    com.shuffle.player.proto.Proto.Message getNext();
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder();
+
+    /**
+     * <code>optional .Onion onion = 8;</code>
+     */
+    boolean hasOnion();
+    /**
+     * <code>optional .Onion onion = 8;</code>
+     */
+    com.shuffle.player.proto.Proto.Onion getOnion();
+    /**
+     * <code>optional .Onion onion = 8;</code>
+     */
+    com.shuffle.player.proto.Proto.OnionOrBuilder getOnionOrBuilder();
+  }
+  /**
+   * Protobuf type {@code Message}
+   */
+  public  static final class Message extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Message)
+      MessageOrBuilder {
+    // Use Message.newBuilder() to construct.
+    private Message(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Message() {
+      str_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Message(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.shuffle.player.proto.Proto.Address.Builder subBuilder = null;
+              if (address_ != null) {
+                subBuilder = address_.toBuilder();
+              }
+              address_ = input.readMessage(com.shuffle.player.proto.Proto.Address.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(address_);
+                address_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              com.shuffle.player.proto.Proto.EncryptionKey.Builder subBuilder = null;
+              if (key_ != null) {
+                subBuilder = key_.toBuilder();
+              }
+              key_ = input.readMessage(com.shuffle.player.proto.Proto.EncryptionKey.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(key_);
+                key_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 26: {
+              com.shuffle.player.proto.Proto.Hash.Builder subBuilder = null;
+              if (hash_ != null) {
+                subBuilder = hash_.toBuilder();
+              }
+              hash_ = input.readMessage(com.shuffle.player.proto.Proto.Hash.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(hash_);
+                hash_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 34: {
+              com.shuffle.player.proto.Proto.Signature.Builder subBuilder = null;
+              if (signature_ != null) {
+                subBuilder = signature_.toBuilder();
+              }
+              signature_ = input.readMessage(com.shuffle.player.proto.Proto.Signature.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(signature_);
+                signature_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              str_ = s;
+              break;
+            }
+            case 50: {
+              com.shuffle.player.proto.Proto.Blame.Builder subBuilder = null;
+              if (blame_ != null) {
+                subBuilder = blame_.toBuilder();
+              }
+              blame_ = input.readMessage(com.shuffle.player.proto.Proto.Blame.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(blame_);
+                blame_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 58: {
+              com.shuffle.player.proto.Proto.Message.Builder subBuilder = null;
+              if (next_ != null) {
+                subBuilder = next_.toBuilder();
+              }
+              next_ = input.readMessage(com.shuffle.player.proto.Proto.Message.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(next_);
+                next_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 66: {
+              com.shuffle.player.proto.Proto.Onion.Builder subBuilder = null;
+              if (onion_ != null) {
+                subBuilder = onion_.toBuilder();
+              }
+              onion_ = input.readMessage(com.shuffle.player.proto.Proto.Onion.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(onion_);
+                onion_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 1;
+    private com.shuffle.player.proto.Proto.Address address_;
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    public boolean hasAddress() {
+      return address_ != null;
+    }
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    public com.shuffle.player.proto.Proto.Address getAddress() {
+      return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+    }
+    /**
+     * <code>optional .Address address = 1;</code>
+     */
+    public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
+      return getAddress();
+    }
+
+    public static final int KEY_FIELD_NUMBER = 2;
+    private com.shuffle.player.proto.Proto.EncryptionKey key_;
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    public boolean hasKey() {
+      return key_ != null;
+    }
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
+      return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+    }
+    /**
+     * <code>optional .EncryptionKey key = 2;</code>
+     */
+    public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
+      return getKey();
+    }
+
+    public static final int HASH_FIELD_NUMBER = 3;
+    private com.shuffle.player.proto.Proto.Hash hash_;
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    public boolean hasHash() {
+      return hash_ != null;
+    }
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    public com.shuffle.player.proto.Proto.Hash getHash() {
+      return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
+    }
+    /**
+     * <code>optional .Hash hash = 3;</code>
+     */
+    public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
+      return getHash();
+    }
+
+    public static final int SIGNATURE_FIELD_NUMBER = 4;
+    private com.shuffle.player.proto.Proto.Signature signature_;
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    public boolean hasSignature() {
+      return signature_ != null;
+    }
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    public com.shuffle.player.proto.Proto.Signature getSignature() {
+      return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+    }
+    /**
+     * <code>optional .Signature signature = 4;</code>
+     */
+    public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
+      return getSignature();
+    }
+
+    public static final int STR_FIELD_NUMBER = 5;
+    private volatile java.lang.Object str_;
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    public java.lang.String getStr() {
+      java.lang.Object ref = str_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        str_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string str = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStrBytes() {
+      java.lang.Object ref = str_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        str_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int BLAME_FIELD_NUMBER = 6;
+    private com.shuffle.player.proto.Proto.Blame blame_;
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public boolean hasBlame() {
+      return blame_ != null;
+    }
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public com.shuffle.player.proto.Proto.Blame getBlame() {
+      return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
+    }
+    /**
+     * <code>optional .Blame blame = 6;</code>
+     */
+    public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
+      return getBlame();
+    }
+
+    public static final int NEXT_FIELD_NUMBER = 7;
+    private com.shuffle.player.proto.Proto.Message next_;
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    public boolean hasNext() {
+      return next_ != null;
+    }
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    public com.shuffle.player.proto.Proto.Message getNext() {
+      return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
+    }
+    /**
+     * <code>optional .Message next = 7;</code>
+     */
+    public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
+      return getNext();
+    }
+
+    public static final int ONION_FIELD_NUMBER = 8;
+    private com.shuffle.player.proto.Proto.Onion onion_;
+    /**
+     * <code>optional .Onion onion = 8;</code>
+     */
+    public boolean hasOnion() {
+      return onion_ != null;
+    }
+    /**
+     * <code>optional .Onion onion = 8;</code>
+     */
+    public com.shuffle.player.proto.Proto.Onion getOnion() {
+      return onion_ == null ? com.shuffle.player.proto.Proto.Onion.getDefaultInstance() : onion_;
+    }
+    /**
+     * <code>optional .Onion onion = 8;</code>
+     */
+    public com.shuffle.player.proto.Proto.OnionOrBuilder getOnionOrBuilder() {
+      return getOnion();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (address_ != null) {
+        output.writeMessage(1, getAddress());
+      }
+      if (key_ != null) {
+        output.writeMessage(2, getKey());
+      }
+      if (hash_ != null) {
+        output.writeMessage(3, getHash());
+      }
+      if (signature_ != null) {
+        output.writeMessage(4, getSignature());
+      }
+      if (!getStrBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, str_);
+      }
+      if (blame_ != null) {
+        output.writeMessage(6, getBlame());
+      }
+      if (next_ != null) {
+        output.writeMessage(7, getNext());
+      }
+      if (onion_ != null) {
+        output.writeMessage(8, getOnion());
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (address_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getAddress());
+      }
+      if (key_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getKey());
+      }
+      if (hash_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getHash());
+      }
+      if (signature_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getSignature());
+      }
+      if (!getStrBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, str_);
+      }
+      if (blame_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getBlame());
+      }
+      if (next_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getNext());
+      }
+      if (onion_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getOnion());
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Message parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Message prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Message}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Message)
+        com.shuffle.player.proto.Proto.MessageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shuffle.player.proto.Proto.internal_static_Message_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shuffle.player.proto.Proto.Message.class, com.shuffle.player.proto.Proto.Message.Builder.class);
+      }
+
+      // Construct using com.shuffle.player.proto.Proto.Message.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (addressBuilder_ == null) {
+          address_ = null;
+        } else {
+          address_ = null;
+          addressBuilder_ = null;
+        }
+        if (keyBuilder_ == null) {
+          key_ = null;
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+        if (hashBuilder_ == null) {
+          hash_ = null;
+        } else {
+          hash_ = null;
+          hashBuilder_ = null;
+        }
+        if (signatureBuilder_ == null) {
+          signature_ = null;
+        } else {
+          signature_ = null;
+          signatureBuilder_ = null;
+        }
+        str_ = "";
+
+        if (blameBuilder_ == null) {
+          blame_ = null;
+        } else {
+          blame_ = null;
+          blameBuilder_ = null;
+        }
+        if (nextBuilder_ == null) {
+          next_ = null;
+        } else {
+          next_ = null;
+          nextBuilder_ = null;
+        }
+        if (onionBuilder_ == null) {
+          onion_ = null;
+        } else {
+          onion_ = null;
+          onionBuilder_ = null;
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shuffle.player.proto.Proto.internal_static_Message_descriptor;
+      }
+
+      public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Message.getDefaultInstance();
+      }
+
+      public com.shuffle.player.proto.Proto.Message build() {
+        com.shuffle.player.proto.Proto.Message result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.shuffle.player.proto.Proto.Message buildPartial() {
+        com.shuffle.player.proto.Proto.Message result = new com.shuffle.player.proto.Proto.Message(this);
+        if (addressBuilder_ == null) {
+          result.address_ = address_;
+        } else {
+          result.address_ = addressBuilder_.build();
+        }
+        if (keyBuilder_ == null) {
+          result.key_ = key_;
+        } else {
+          result.key_ = keyBuilder_.build();
+        }
+        if (hashBuilder_ == null) {
+          result.hash_ = hash_;
+        } else {
+          result.hash_ = hashBuilder_.build();
+        }
+        if (signatureBuilder_ == null) {
+          result.signature_ = signature_;
+        } else {
+          result.signature_ = signatureBuilder_.build();
+        }
+        result.str_ = str_;
+        if (blameBuilder_ == null) {
+          result.blame_ = blame_;
+        } else {
+          result.blame_ = blameBuilder_.build();
+        }
+        if (nextBuilder_ == null) {
+          result.next_ = next_;
+        } else {
+          result.next_ = nextBuilder_.build();
+        }
+        if (onionBuilder_ == null) {
+          result.onion_ = onion_;
+        } else {
+          result.onion_ = onionBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shuffle.player.proto.Proto.Message) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Message)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Message other) {
+        if (other == com.shuffle.player.proto.Proto.Message.getDefaultInstance()) return this;
+        if (other.hasAddress()) {
+          mergeAddress(other.getAddress());
+        }
+        if (other.hasKey()) {
+          mergeKey(other.getKey());
+        }
+        if (other.hasHash()) {
+          mergeHash(other.getHash());
+        }
+        if (other.hasSignature()) {
+          mergeSignature(other.getSignature());
+        }
+        if (!other.getStr().isEmpty()) {
+          str_ = other.str_;
+          onChanged();
+        }
+        if (other.hasBlame()) {
+          mergeBlame(other.getBlame());
+        }
+        if (other.hasNext()) {
+          mergeNext(other.getNext());
+        }
+        if (other.hasOnion()) {
+          mergeOnion(other.getOnion());
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.shuffle.player.proto.Proto.Message parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.shuffle.player.proto.Proto.Message) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private com.shuffle.player.proto.Proto.Address address_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> addressBuilder_;
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public boolean hasAddress() {
+        return addressBuilder_ != null || address_ != null;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public com.shuffle.player.proto.Proto.Address getAddress() {
+        if (addressBuilder_ == null) {
+          return address_ == null ? com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+        } else {
+          return addressBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder setAddress(com.shuffle.player.proto.Proto.Address value) {
+        if (addressBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          address_ = value;
+          onChanged();
+        } else {
+          addressBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder setAddress(
+          com.shuffle.player.proto.Proto.Address.Builder builderForValue) {
+        if (addressBuilder_ == null) {
+          address_ = builderForValue.build();
+          onChanged();
+        } else {
+          addressBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder mergeAddress(com.shuffle.player.proto.Proto.Address value) {
+        if (addressBuilder_ == null) {
+          if (address_ != null) {
+            address_ =
+              com.shuffle.player.proto.Proto.Address.newBuilder(address_).mergeFrom(value).buildPartial();
+          } else {
+            address_ = value;
+          }
+          onChanged();
+        } else {
+          addressBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public Builder clearAddress() {
+        if (addressBuilder_ == null) {
+          address_ = null;
+          onChanged();
+        } else {
+          address_ = null;
+          addressBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public com.shuffle.player.proto.Proto.Address.Builder getAddressBuilder() {
+        
+        onChanged();
+        return getAddressFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      public com.shuffle.player.proto.Proto.AddressOrBuilder getAddressOrBuilder() {
+        if (addressBuilder_ != null) {
+          return addressBuilder_.getMessageOrBuilder();
+        } else {
+          return address_ == null ?
+              com.shuffle.player.proto.Proto.Address.getDefaultInstance() : address_;
+        }
+      }
+      /**
+       * <code>optional .Address address = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder> 
+          getAddressFieldBuilder() {
+        if (addressBuilder_ == null) {
+          addressBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Address, com.shuffle.player.proto.Proto.Address.Builder, com.shuffle.player.proto.Proto.AddressOrBuilder>(
+                  getAddress(),
+                  getParentForChildren(),
+                  isClean());
+          address_ = null;
+        }
+        return addressBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.EncryptionKey key_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> keyBuilder_;
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public boolean hasKey() {
+        return keyBuilder_ != null || key_ != null;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public com.shuffle.player.proto.Proto.EncryptionKey getKey() {
+        if (keyBuilder_ == null) {
+          return key_ == null ? com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+        } else {
+          return keyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder setKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          key_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder setKey(
+          com.shuffle.player.proto.Proto.EncryptionKey.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          key_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder mergeKey(com.shuffle.player.proto.Proto.EncryptionKey value) {
+        if (keyBuilder_ == null) {
+          if (key_ != null) {
+            key_ =
+              com.shuffle.player.proto.Proto.EncryptionKey.newBuilder(key_).mergeFrom(value).buildPartial();
+          } else {
+            key_ = value;
+          }
+          onChanged();
+        } else {
+          keyBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          key_ = null;
+          onChanged();
+        } else {
+          key_ = null;
+          keyBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public com.shuffle.player.proto.Proto.EncryptionKey.Builder getKeyBuilder() {
+        
+        onChanged();
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      public com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder getKeyOrBuilder() {
+        if (keyBuilder_ != null) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          return key_ == null ?
+              com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance() : key_;
+        }
+      }
+      /**
+       * <code>optional .EncryptionKey key = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          keyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.EncryptionKey, com.shuffle.player.proto.Proto.EncryptionKey.Builder, com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder>(
+                  getKey(),
+                  getParentForChildren(),
+                  isClean());
+          key_ = null;
+        }
+        return keyBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Hash hash_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> hashBuilder_;
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public boolean hasHash() {
+        return hashBuilder_ != null || hash_ != null;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.Hash getHash() {
+        if (hashBuilder_ == null) {
+          return hash_ == null ? com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
+        } else {
+          return hashBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder setHash(com.shuffle.player.proto.Proto.Hash value) {
+        if (hashBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          hash_ = value;
+          onChanged();
+        } else {
+          hashBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder setHash(
+          com.shuffle.player.proto.Proto.Hash.Builder builderForValue) {
+        if (hashBuilder_ == null) {
+          hash_ = builderForValue.build();
+          onChanged();
+        } else {
+          hashBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder mergeHash(com.shuffle.player.proto.Proto.Hash value) {
+        if (hashBuilder_ == null) {
+          if (hash_ != null) {
+            hash_ =
+              com.shuffle.player.proto.Proto.Hash.newBuilder(hash_).mergeFrom(value).buildPartial();
+          } else {
+            hash_ = value;
+          }
+          onChanged();
+        } else {
+          hashBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public Builder clearHash() {
+        if (hashBuilder_ == null) {
+          hash_ = null;
+          onChanged();
+        } else {
+          hash_ = null;
+          hashBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.Hash.Builder getHashBuilder() {
+        
+        onChanged();
+        return getHashFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      public com.shuffle.player.proto.Proto.HashOrBuilder getHashOrBuilder() {
+        if (hashBuilder_ != null) {
+          return hashBuilder_.getMessageOrBuilder();
+        } else {
+          return hash_ == null ?
+              com.shuffle.player.proto.Proto.Hash.getDefaultInstance() : hash_;
+        }
+      }
+      /**
+       * <code>optional .Hash hash = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder> 
+          getHashFieldBuilder() {
+        if (hashBuilder_ == null) {
+          hashBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Hash, com.shuffle.player.proto.Proto.Hash.Builder, com.shuffle.player.proto.Proto.HashOrBuilder>(
+                  getHash(),
+                  getParentForChildren(),
+                  isClean());
+          hash_ = null;
+        }
+        return hashBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Signature signature_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> signatureBuilder_;
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public boolean hasSignature() {
+        return signatureBuilder_ != null || signature_ != null;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public com.shuffle.player.proto.Proto.Signature getSignature() {
+        if (signatureBuilder_ == null) {
+          return signature_ == null ? com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+        } else {
+          return signatureBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder setSignature(com.shuffle.player.proto.Proto.Signature value) {
+        if (signatureBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          signature_ = value;
+          onChanged();
+        } else {
+          signatureBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder setSignature(
+          com.shuffle.player.proto.Proto.Signature.Builder builderForValue) {
+        if (signatureBuilder_ == null) {
+          signature_ = builderForValue.build();
+          onChanged();
+        } else {
+          signatureBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder mergeSignature(com.shuffle.player.proto.Proto.Signature value) {
+        if (signatureBuilder_ == null) {
+          if (signature_ != null) {
+            signature_ =
+              com.shuffle.player.proto.Proto.Signature.newBuilder(signature_).mergeFrom(value).buildPartial();
+          } else {
+            signature_ = value;
+          }
+          onChanged();
+        } else {
+          signatureBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public Builder clearSignature() {
+        if (signatureBuilder_ == null) {
+          signature_ = null;
+          onChanged();
+        } else {
+          signature_ = null;
+          signatureBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public com.shuffle.player.proto.Proto.Signature.Builder getSignatureBuilder() {
+        
+        onChanged();
+        return getSignatureFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      public com.shuffle.player.proto.Proto.SignatureOrBuilder getSignatureOrBuilder() {
+        if (signatureBuilder_ != null) {
+          return signatureBuilder_.getMessageOrBuilder();
+        } else {
+          return signature_ == null ?
+              com.shuffle.player.proto.Proto.Signature.getDefaultInstance() : signature_;
+        }
+      }
+      /**
+       * <code>optional .Signature signature = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder> 
+          getSignatureFieldBuilder() {
+        if (signatureBuilder_ == null) {
+          signatureBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Signature, com.shuffle.player.proto.Proto.Signature.Builder, com.shuffle.player.proto.Proto.SignatureOrBuilder>(
+                  getSignature(),
+                  getParentForChildren(),
+                  isClean());
+          signature_ = null;
+        }
+        return signatureBuilder_;
+      }
+
+      private java.lang.Object str_ = "";
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public java.lang.String getStr() {
+        java.lang.Object ref = str_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          str_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStrBytes() {
+        java.lang.Object ref = str_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          str_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder setStr(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        str_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder clearStr() {
+        
+        str_ = getDefaultInstance().getStr();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string str = 5;</code>
+       */
+      public Builder setStrBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        str_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.shuffle.player.proto.Proto.Blame blame_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> blameBuilder_;
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public boolean hasBlame() {
+        return blameBuilder_ != null || blame_ != null;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.Blame getBlame() {
+        if (blameBuilder_ == null) {
+          return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
+        } else {
+          return blameBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder setBlame(com.shuffle.player.proto.Proto.Blame value) {
+        if (blameBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          blame_ = value;
+          onChanged();
+        } else {
+          blameBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder setBlame(
+          com.shuffle.player.proto.Proto.Blame.Builder builderForValue) {
+        if (blameBuilder_ == null) {
+          blame_ = builderForValue.build();
+          onChanged();
+        } else {
+          blameBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder mergeBlame(com.shuffle.player.proto.Proto.Blame value) {
+        if (blameBuilder_ == null) {
+          if (blame_ != null) {
+            blame_ =
+              com.shuffle.player.proto.Proto.Blame.newBuilder(blame_).mergeFrom(value).buildPartial();
+          } else {
+            blame_ = value;
+          }
+          onChanged();
+        } else {
+          blameBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public Builder clearBlame() {
+        if (blameBuilder_ == null) {
+          blame_ = null;
+          onChanged();
+        } else {
+          blame_ = null;
+          blameBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.Blame.Builder getBlameBuilder() {
+        
+        onChanged();
+        return getBlameFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
+        if (blameBuilder_ != null) {
+          return blameBuilder_.getMessageOrBuilder();
+        } else {
+          return blame_ == null ?
+              com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
+        }
+      }
+      /**
+       * <code>optional .Blame blame = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> 
+          getBlameFieldBuilder() {
+        if (blameBuilder_ == null) {
+          blameBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder>(
+                  getBlame(),
+                  getParentForChildren(),
+                  isClean());
+          blame_ = null;
+        }
+        return blameBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Message next_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> nextBuilder_;
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public boolean hasNext() {
+        return nextBuilder_ != null || next_ != null;
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public com.shuffle.player.proto.Proto.Message getNext() {
+        if (nextBuilder_ == null) {
+          return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
+        } else {
+          return nextBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public Builder setNext(com.shuffle.player.proto.Proto.Message value) {
+        if (nextBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          next_ = value;
+          onChanged();
+        } else {
+          nextBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public Builder setNext(
+          com.shuffle.player.proto.Proto.Message.Builder builderForValue) {
+        if (nextBuilder_ == null) {
+          next_ = builderForValue.build();
+          onChanged();
+        } else {
+          nextBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public Builder mergeNext(com.shuffle.player.proto.Proto.Message value) {
+        if (nextBuilder_ == null) {
+          if (next_ != null) {
+            next_ =
+              com.shuffle.player.proto.Proto.Message.newBuilder(next_).mergeFrom(value).buildPartial();
+          } else {
+            next_ = value;
+          }
+          onChanged();
+        } else {
+          nextBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public Builder clearNext() {
+        if (nextBuilder_ == null) {
+          next_ = null;
+          onChanged();
+        } else {
+          next_ = null;
+          nextBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public com.shuffle.player.proto.Proto.Message.Builder getNextBuilder() {
+        
+        onChanged();
+        return getNextFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
+        if (nextBuilder_ != null) {
+          return nextBuilder_.getMessageOrBuilder();
+        } else {
+          return next_ == null ?
+              com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
+        }
+      }
+      /**
+       * <code>optional .Message next = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> 
+          getNextFieldBuilder() {
+        if (nextBuilder_ == null) {
+          nextBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder>(
+                  getNext(),
+                  getParentForChildren(),
+                  isClean());
+          next_ = null;
+        }
+        return nextBuilder_;
+      }
+
+      private com.shuffle.player.proto.Proto.Onion onion_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Onion, com.shuffle.player.proto.Proto.Onion.Builder, com.shuffle.player.proto.Proto.OnionOrBuilder> onionBuilder_;
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public boolean hasOnion() {
+        return onionBuilder_ != null || onion_ != null;
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public com.shuffle.player.proto.Proto.Onion getOnion() {
+        if (onionBuilder_ == null) {
+          return onion_ == null ? com.shuffle.player.proto.Proto.Onion.getDefaultInstance() : onion_;
+        } else {
+          return onionBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public Builder setOnion(com.shuffle.player.proto.Proto.Onion value) {
+        if (onionBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          onion_ = value;
+          onChanged();
+        } else {
+          onionBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public Builder setOnion(
+          com.shuffle.player.proto.Proto.Onion.Builder builderForValue) {
+        if (onionBuilder_ == null) {
+          onion_ = builderForValue.build();
+          onChanged();
+        } else {
+          onionBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public Builder mergeOnion(com.shuffle.player.proto.Proto.Onion value) {
+        if (onionBuilder_ == null) {
+          if (onion_ != null) {
+            onion_ =
+              com.shuffle.player.proto.Proto.Onion.newBuilder(onion_).mergeFrom(value).buildPartial();
+          } else {
+            onion_ = value;
+          }
+          onChanged();
+        } else {
+          onionBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public Builder clearOnion() {
+        if (onionBuilder_ == null) {
+          onion_ = null;
+          onChanged();
+        } else {
+          onion_ = null;
+          onionBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public com.shuffle.player.proto.Proto.Onion.Builder getOnionBuilder() {
+        
+        onChanged();
+        return getOnionFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      public com.shuffle.player.proto.Proto.OnionOrBuilder getOnionOrBuilder() {
+        if (onionBuilder_ != null) {
+          return onionBuilder_.getMessageOrBuilder();
+        } else {
+          return onion_ == null ?
+              com.shuffle.player.proto.Proto.Onion.getDefaultInstance() : onion_;
+        }
+      }
+      /**
+       * <code>optional .Onion onion = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.shuffle.player.proto.Proto.Onion, com.shuffle.player.proto.Proto.Onion.Builder, com.shuffle.player.proto.Proto.OnionOrBuilder> 
+          getOnionFieldBuilder() {
+        if (onionBuilder_ == null) {
+          onionBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.shuffle.player.proto.Proto.Onion, com.shuffle.player.proto.Proto.Onion.Builder, com.shuffle.player.proto.Proto.OnionOrBuilder>(
+                  getOnion(),
+                  getParentForChildren(),
+                  isClean());
+          onion_ = null;
+        }
+        return onionBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Message)
+    }
+
+    // @@protoc_insertion_point(class_scope:Message)
+    private static final com.shuffle.player.proto.Proto.Message DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Message();
+    }
+
+    public static com.shuffle.player.proto.Proto.Message getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Message>
+        PARSER = new com.google.protobuf.AbstractParser<Message>() {
+      public Message parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Message(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<Message> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Message> getParserForType() {
+      return PARSER;
+    }
+
+    public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
   }
-  checkByteStringIsUtf8(value);
-        
-        str_ = value;
-        onChanged();
-        return this;
+
+  public interface AddressOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Address)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    java.lang.String getAddress();
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getAddressBytes();
+  }
+  /**
+   * Protobuf type {@code Address}
+   */
+  public  static final class Address extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Address)
+      AddressOrBuilder {
+    // Use Address.newBuilder() to construct.
+    private Address(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Address() {
+      address_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Address(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              address_ = s;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
+    }
+
+    public static final int ADDRESS_FIELD_NUMBER = 1;
+    private volatile java.lang.Object address_;
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    public java.lang.String getAddress() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        address_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string address = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAddressBytes() {
+      java.lang.Object ref = address_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        address_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getAddressBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, address_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getAddressBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, address_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.shuffle.player.proto.Proto.Address parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Address prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Address}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Address)
+        com.shuffle.player.proto.Proto.AddressOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
       }
 
-      private com.shuffle.player.proto.Proto.Blame blame_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> blameBuilder_;
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public boolean hasBlame() {
-        return blameBuilder_ != null || blame_ != null;
-      }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public com.shuffle.player.proto.Proto.Blame getBlame() {
-        if (blameBuilder_ == null) {
-          return blame_ == null ? com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
-        } else {
-          return blameBuilder_.getMessage();
-        }
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder setBlame(com.shuffle.player.proto.Proto.Blame value) {
-        if (blameBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          blame_ = value;
-          onChanged();
-        } else {
-          blameBuilder_.setMessage(value);
-        }
 
-        return this;
+      // Construct using com.shuffle.player.proto.Proto.Address.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder setBlame(
-          com.shuffle.player.proto.Proto.Blame.Builder builderForValue) {
-        if (blameBuilder_ == null) {
-          blame_ = builderForValue.build();
-          onChanged();
-        } else {
-          blameBuilder_.setMessage(builderForValue.build());
-        }
 
-        return this;
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder mergeBlame(com.shuffle.player.proto.Proto.Blame value) {
-        if (blameBuilder_ == null) {
-          if (blame_ != null) {
-            blame_ =
-              com.shuffle.player.proto.Proto.Blame.newBuilder(blame_).mergeFrom(value).buildPartial();
-          } else {
-            blame_ = value;
-          }
-          onChanged();
-        } else {
-          blameBuilder_.mergeFrom(value);
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
-
-        return this;
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public Builder clearBlame() {
-        if (blameBuilder_ == null) {
-          blame_ = null;
-          onChanged();
-        } else {
-          blame_ = null;
-          blameBuilder_ = null;
-        }
+      public Builder clear() {
+        super.clear();
+        address_ = "";
 
         return this;
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public com.shuffle.player.proto.Proto.Blame.Builder getBlameBuilder() {
-        
-        onChanged();
-        return getBlameFieldBuilder().getBuilder();
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      public com.shuffle.player.proto.Proto.BlameOrBuilder getBlameOrBuilder() {
-        if (blameBuilder_ != null) {
-          return blameBuilder_.getMessageOrBuilder();
-        } else {
-          return blame_ == null ?
-              com.shuffle.player.proto.Proto.Blame.getDefaultInstance() : blame_;
-        }
+
+      public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Address.getDefaultInstance();
       }
-      /**
-       * <code>optional .Blame blame = 6;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder> 
-          getBlameFieldBuilder() {
-        if (blameBuilder_ == null) {
-          blameBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Blame, com.shuffle.player.proto.Proto.Blame.Builder, com.shuffle.player.proto.Proto.BlameOrBuilder>(
-                  getBlame(),
-                  getParentForChildren(),
-                  isClean());
-          blame_ = null;
+
+      public com.shuffle.player.proto.Proto.Address build() {
+        com.shuffle.player.proto.Proto.Address result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return blameBuilder_;
+        return result;
       }
 
-      private com.shuffle.player.proto.Proto.Message next_ = null;
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> nextBuilder_;
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public boolean hasNext() {
-        return nextBuilder_ != null || next_ != null;
+      public com.shuffle.player.proto.Proto.Address buildPartial() {
+        com.shuffle.player.proto.Proto.Address result = new com.shuffle.player.proto.Proto.Address(this);
+        result.address_ = address_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public com.shuffle.player.proto.Proto.Message getNext() {
-        if (nextBuilder_ == null) {
-          return next_ == null ? com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.shuffle.player.proto.Proto.Address) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Address)other);
         } else {
-          return nextBuilder_.getMessage();
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public Builder setNext(com.shuffle.player.proto.Proto.Message value) {
-        if (nextBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          next_ = value;
+
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Address other) {
+        if (other == com.shuffle.player.proto.Proto.Address.getDefaultInstance()) return this;
+        if (!other.getAddress().isEmpty()) {
+          address_ = other.address_;
           onChanged();
-        } else {
-          nextBuilder_.setMessage(value);
         }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
 
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.shuffle.player.proto.Proto.Address parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.shuffle.player.proto.Proto.Address) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+
+      private java.lang.Object address_ = "";
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public Builder setNext(
-          com.shuffle.player.proto.Proto.Message.Builder builderForValue) {
-        if (nextBuilder_ == null) {
-          next_ = builderForValue.build();
-          onChanged();
+      public java.lang.String getAddress() {
+        java.lang.Object ref = address_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          address_ = s;
+          return s;
         } else {
-          nextBuilder_.setMessage(builderForValue.build());
+          return (java.lang.String) ref;
         }
-
-        return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public Builder mergeNext(com.shuffle.player.proto.Proto.Message value) {
-        if (nextBuilder_ == null) {
-          if (next_ != null) {
-            next_ =
-              com.shuffle.player.proto.Proto.Message.newBuilder(next_).mergeFrom(value).buildPartial();
-          } else {
-            next_ = value;
-          }
-          onChanged();
+      public com.google.protobuf.ByteString
+          getAddressBytes() {
+        java.lang.Object ref = address_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          address_ = b;
+          return b;
         } else {
-          nextBuilder_.mergeFrom(value);
+          return (com.google.protobuf.ByteString) ref;
         }
-
-        return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public Builder clearNext() {
-        if (nextBuilder_ == null) {
-          next_ = null;
-          onChanged();
-        } else {
-          next_ = null;
-          nextBuilder_ = null;
-        }
-
+      public Builder setAddress(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        address_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      public com.shuffle.player.proto.Proto.Message.Builder getNextBuilder() {
+      public Builder clearAddress() {
         
+        address_ = getDefaultInstance().getAddress();
         onChanged();
-        return getNextFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .Message next = 7;</code>
-       */
-      public com.shuffle.player.proto.Proto.MessageOrBuilder getNextOrBuilder() {
-        if (nextBuilder_ != null) {
-          return nextBuilder_.getMessageOrBuilder();
-        } else {
-          return next_ == null ?
-              com.shuffle.player.proto.Proto.Message.getDefaultInstance() : next_;
-        }
+        return this;
       }
       /**
-       * <code>optional .Message next = 7;</code>
+       * <code>optional string address = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder> 
-          getNextFieldBuilder() {
-        if (nextBuilder_ == null) {
-          nextBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.shuffle.player.proto.Proto.Message, com.shuffle.player.proto.Proto.Message.Builder, com.shuffle.player.proto.Proto.MessageOrBuilder>(
-                  getNext(),
-                  getParentForChildren(),
-                  isClean());
-          next_ = null;
-        }
-        return nextBuilder_;
+      public Builder setAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        address_ = value;
+        onChanged();
+        return this;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3600,71 +6553,71 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Message)
+      // @@protoc_insertion_point(builder_scope:Address)
     }
 
-    // @@protoc_insertion_point(class_scope:Message)
-    private static final com.shuffle.player.proto.Proto.Message DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Address)
+    private static final com.shuffle.player.proto.Proto.Address DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Message();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Address();
     }
 
-    public static com.shuffle.player.proto.Proto.Message getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Address getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Message>
-        PARSER = new com.google.protobuf.AbstractParser<Message>() {
-      public Message parsePartialFrom(
+    private static final com.google.protobuf.Parser<Address>
+        PARSER = new com.google.protobuf.AbstractParser<Address>() {
+      public Address parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Message(input, extensionRegistry);
+          return new Address(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Message> parser() {
+    public static com.google.protobuf.Parser<Address> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Message> getParserForType() {
+    public com.google.protobuf.Parser<Address> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Message getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface AddressOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Address)
+  public interface VerificationKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:VerificationKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
-    java.lang.String getAddress();
+    java.lang.String getKey();
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
     com.google.protobuf.ByteString
-        getAddressBytes();
+        getKeyBytes();
   }
   /**
-   * Protobuf type {@code Address}
+   * Protobuf type {@code VerificationKey}
    */
-  public  static final class Address extends
+  public  static final class VerificationKey extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Address)
-      AddressOrBuilder {
-    // Use Address.newBuilder() to construct.
-    private Address(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:VerificationKey)
+      VerificationKeyOrBuilder {
+    // Use VerificationKey.newBuilder() to construct.
+    private VerificationKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Address() {
-      address_ = "";
+    private VerificationKey() {
+      key_ = "";
     }
 
     @java.lang.Override
@@ -3672,7 +6625,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Address(
+    private VerificationKey(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3695,7 +6648,7 @@ public final class Proto {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              address_ = s;
+              key_ = s;
               break;
             }
           }
@@ -3711,44 +6664,44 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
+              com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
     }
 
-    public static final int ADDRESS_FIELD_NUMBER = 1;
-    private volatile java.lang.Object address_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object key_;
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
-    public java.lang.String getAddress() {
-      java.lang.Object ref = address_;
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        address_ = s;
+        key_ = s;
         return s;
       }
     }
     /**
-     * <code>optional string address = 1;</code>
+     * <code>optional string key = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getAddressBytes() {
-      java.lang.Object ref = address_;
+        getKeyBytes() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        address_ = b;
+        key_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -3767,8 +6720,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getAddressBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, address_);
+      if (!getKeyBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, key_);
       }
     }
 
@@ -3777,66 +6730,66 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!getAddressBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, address_);
+      if (!getKeyBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, key_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Address parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Address parseFrom(
+    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3848,7 +6801,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Address prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.VerificationKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3863,25 +6816,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Address}
+     * Protobuf type {@code VerificationKey}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Address)
-        com.shuffle.player.proto.Proto.AddressOrBuilder {
+        // @@protoc_insertion_point(builder_implements:VerificationKey)
+        com.shuffle.player.proto.Proto.VerificationKeyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Address_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Address.class, com.shuffle.player.proto.Proto.Address.Builder.class);
+                com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Address.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.VerificationKey.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3897,48 +6850,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        address_ = "";
+        key_ = "";
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Address_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Address.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Address build() {
-        com.shuffle.player.proto.Proto.Address result = buildPartial();
+      public com.shuffle.player.proto.Proto.VerificationKey build() {
+        com.shuffle.player.proto.Proto.VerificationKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Address buildPartial() {
-        com.shuffle.player.proto.Proto.Address result = new com.shuffle.player.proto.Proto.Address(this);
-        result.address_ = address_;
+      public com.shuffle.player.proto.Proto.VerificationKey buildPartial() {
+        com.shuffle.player.proto.Proto.VerificationKey result = new com.shuffle.player.proto.Proto.VerificationKey(this);
+        result.key_ = key_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Address) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Address)other);
+        if (other instanceof com.shuffle.player.proto.Proto.VerificationKey) {
+          return mergeFrom((com.shuffle.player.proto.Proto.VerificationKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Address other) {
-        if (other == com.shuffle.player.proto.Proto.Address.getDefaultInstance()) return this;
-        if (!other.getAddress().isEmpty()) {
-          address_ = other.address_;
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.VerificationKey other) {
+        if (other == com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance()) return this;
+        if (!other.getKey().isEmpty()) {
+          key_ = other.key_;
           onChanged();
         }
         onChanged();
@@ -3953,11 +6906,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Address parsedMessage = null;
+        com.shuffle.player.proto.Proto.VerificationKey parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Address) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.VerificationKey) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -3967,71 +6920,71 @@ public final class Proto {
         return this;
       }
 
-      private java.lang.Object address_ = "";
+      private java.lang.Object key_ = "";
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public java.lang.String getAddress() {
-        java.lang.Object ref = address_;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          address_ = s;
+          key_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getAddressBytes() {
-        java.lang.Object ref = address_;
+          getKeyBytes() {
+        java.lang.Object ref = key_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          address_ = b;
+          key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder setAddress(
+      public Builder setKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        address_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder clearAddress() {
+      public Builder clearKey() {
         
-        address_ = getDefaultInstance().getAddress();
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string address = 1;</code>
+       * <code>optional string key = 1;</code>
        */
-      public Builder setAddressBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        address_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
@@ -4046,46 +6999,46 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Address)
+      // @@protoc_insertion_point(builder_scope:VerificationKey)
     }
 
-    // @@protoc_insertion_point(class_scope:Address)
-    private static final com.shuffle.player.proto.Proto.Address DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:VerificationKey)
+    private static final com.shuffle.player.proto.Proto.VerificationKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Address();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.VerificationKey();
     }
 
-    public static com.shuffle.player.proto.Proto.Address getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.VerificationKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Address>
-        PARSER = new com.google.protobuf.AbstractParser<Address>() {
-      public Address parsePartialFrom(
+    private static final com.google.protobuf.Parser<VerificationKey>
+        PARSER = new com.google.protobuf.AbstractParser<VerificationKey>() {
+      public VerificationKey parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Address(input, extensionRegistry);
+          return new VerificationKey(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Address> parser() {
+    public static com.google.protobuf.Parser<VerificationKey> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Address> getParserForType() {
+    public com.google.protobuf.Parser<VerificationKey> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Address getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface VerificationKeyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:VerificationKey)
+  public interface EncryptionKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EncryptionKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4099,17 +7052,17 @@ public final class Proto {
         getKeyBytes();
   }
   /**
-   * Protobuf type {@code VerificationKey}
+   * Protobuf type {@code EncryptionKey}
    */
-  public  static final class VerificationKey extends
+  public  static final class EncryptionKey extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:VerificationKey)
-      VerificationKeyOrBuilder {
-    // Use VerificationKey.newBuilder() to construct.
-    private VerificationKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:EncryptionKey)
+      EncryptionKeyOrBuilder {
+    // Use EncryptionKey.newBuilder() to construct.
+    private EncryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private VerificationKey() {
+    private EncryptionKey() {
       key_ = "";
     }
 
@@ -4118,7 +7071,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private VerificationKey(
+    private EncryptionKey(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4157,14 +7110,14 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
+              com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
     }
 
     public static final int KEY_FIELD_NUMBER = 1;
@@ -4231,58 +7184,58 @@ public final class Proto {
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.VerificationKey parseFrom(
+    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4294,7 +7247,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.VerificationKey prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.EncryptionKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4309,25 +7262,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code VerificationKey}
+     * Protobuf type {@code EncryptionKey}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:VerificationKey)
-        com.shuffle.player.proto.Proto.VerificationKeyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:EncryptionKey)
+        com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.VerificationKey.class, com.shuffle.player.proto.Proto.VerificationKey.Builder.class);
+                com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.VerificationKey.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.EncryptionKey.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4350,39 +7303,39 @@ public final class Proto {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_VerificationKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.VerificationKey build() {
-        com.shuffle.player.proto.Proto.VerificationKey result = buildPartial();
+      public com.shuffle.player.proto.Proto.EncryptionKey build() {
+        com.shuffle.player.proto.Proto.EncryptionKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.VerificationKey buildPartial() {
-        com.shuffle.player.proto.Proto.VerificationKey result = new com.shuffle.player.proto.Proto.VerificationKey(this);
+      public com.shuffle.player.proto.Proto.EncryptionKey buildPartial() {
+        com.shuffle.player.proto.Proto.EncryptionKey result = new com.shuffle.player.proto.Proto.EncryptionKey(this);
         result.key_ = key_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.VerificationKey) {
-          return mergeFrom((com.shuffle.player.proto.Proto.VerificationKey)other);
+        if (other instanceof com.shuffle.player.proto.Proto.EncryptionKey) {
+          return mergeFrom((com.shuffle.player.proto.Proto.EncryptionKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.VerificationKey other) {
-        if (other == com.shuffle.player.proto.Proto.VerificationKey.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.EncryptionKey other) {
+        if (other == com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance()) return this;
         if (!other.getKey().isEmpty()) {
           key_ = other.key_;
           onChanged();
@@ -4399,11 +7352,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.VerificationKey parsedMessage = null;
+        com.shuffle.player.proto.Proto.EncryptionKey parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.VerificationKey) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.EncryptionKey) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4492,46 +7445,46 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:VerificationKey)
+      // @@protoc_insertion_point(builder_scope:EncryptionKey)
     }
 
-    // @@protoc_insertion_point(class_scope:VerificationKey)
-    private static final com.shuffle.player.proto.Proto.VerificationKey DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:EncryptionKey)
+    private static final com.shuffle.player.proto.Proto.EncryptionKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.VerificationKey();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.EncryptionKey();
     }
 
-    public static com.shuffle.player.proto.Proto.VerificationKey getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<VerificationKey>
-        PARSER = new com.google.protobuf.AbstractParser<VerificationKey>() {
-      public VerificationKey parsePartialFrom(
+    private static final com.google.protobuf.Parser<EncryptionKey>
+        PARSER = new com.google.protobuf.AbstractParser<EncryptionKey>() {
+      public EncryptionKey parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new VerificationKey(input, extensionRegistry);
+          return new EncryptionKey(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<VerificationKey> parser() {
+    public static com.google.protobuf.Parser<EncryptionKey> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<VerificationKey> getParserForType() {
+    public com.google.protobuf.Parser<EncryptionKey> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.VerificationKey getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface EncryptionKeyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:EncryptionKey)
+  public interface DecryptionKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DecryptionKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -4543,20 +7496,31 @@ public final class Proto {
      */
     com.google.protobuf.ByteString
         getKeyBytes();
+
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    java.lang.String getPublic();
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getPublicBytes();
   }
   /**
-   * Protobuf type {@code EncryptionKey}
+   * Protobuf type {@code DecryptionKey}
    */
-  public  static final class EncryptionKey extends
+  public  static final class DecryptionKey extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:EncryptionKey)
-      EncryptionKeyOrBuilder {
-    // Use EncryptionKey.newBuilder() to construct.
-    private EncryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:DecryptionKey)
+      DecryptionKeyOrBuilder {
+    // Use DecryptionKey.newBuilder() to construct.
+    private DecryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private EncryptionKey() {
+    private DecryptionKey() {
       key_ = "";
+      public_ = "";
     }
 
     @java.lang.Override
@@ -4564,7 +7528,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private EncryptionKey(
+    private DecryptionKey(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4590,6 +7554,12 @@ public final class Proto {
               key_ = s;
               break;
             }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              public_ = s;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -4603,14 +7573,14 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
+              com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
     }
 
     public static final int KEY_FIELD_NUMBER = 1;
@@ -4647,6 +7617,40 @@ public final class Proto {
       }
     }
 
+    public static final int PUBLIC_FIELD_NUMBER = 2;
+    private volatile java.lang.Object public_;
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    public java.lang.String getPublic() {
+      java.lang.Object ref = public_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        public_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string public = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPublicBytes() {
+      java.lang.Object ref = public_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        public_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -4662,6 +7666,9 @@ public final class Proto {
       if (!getKeyBytes().isEmpty()) {
         com.google.protobuf.GeneratedMessage.writeString(output, 1, key_);
       }
+      if (!getPublicBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, public_);
+      }
     }
 
     public int getSerializedSize() {
@@ -4672,63 +7679,66 @@ public final class Proto {
       if (!getKeyBytes().isEmpty()) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(1, key_);
       }
+      if (!getPublicBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, public_);
+      }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.EncryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4740,7 +7750,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.EncryptionKey prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.DecryptionKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4755,25 +7765,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code EncryptionKey}
+     * Protobuf type {@code DecryptionKey}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:EncryptionKey)
-        com.shuffle.player.proto.Proto.EncryptionKeyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:DecryptionKey)
+        com.shuffle.player.proto.Proto.DecryptionKeyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.EncryptionKey.class, com.shuffle.player.proto.Proto.EncryptionKey.Builder.class);
+                com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.EncryptionKey.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.DecryptionKey.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4791,48 +7801,55 @@ public final class Proto {
         super.clear();
         key_ = "";
 
+        public_ = "";
+
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_EncryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.EncryptionKey build() {
-        com.shuffle.player.proto.Proto.EncryptionKey result = buildPartial();
+      public com.shuffle.player.proto.Proto.DecryptionKey build() {
+        com.shuffle.player.proto.Proto.DecryptionKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
-
-      public com.shuffle.player.proto.Proto.EncryptionKey buildPartial() {
-        com.shuffle.player.proto.Proto.EncryptionKey result = new com.shuffle.player.proto.Proto.EncryptionKey(this);
+
+      public com.shuffle.player.proto.Proto.DecryptionKey buildPartial() {
+        com.shuffle.player.proto.Proto.DecryptionKey result = new com.shuffle.player.proto.Proto.DecryptionKey(this);
         result.key_ = key_;
+        result.public_ = public_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.EncryptionKey) {
-          return mergeFrom((com.shuffle.player.proto.Proto.EncryptionKey)other);
+        if (other instanceof com.shuffle.player.proto.Proto.DecryptionKey) {
+          return mergeFrom((com.shuffle.player.proto.Proto.DecryptionKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.EncryptionKey other) {
-        if (other == com.shuffle.player.proto.Proto.EncryptionKey.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.DecryptionKey other) {
+        if (other == com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance()) return this;
         if (!other.getKey().isEmpty()) {
           key_ = other.key_;
           onChanged();
         }
+        if (!other.getPublic().isEmpty()) {
+          public_ = other.public_;
+          onChanged();
+        }
         onChanged();
         return this;
       }
@@ -4845,11 +7862,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.EncryptionKey parsedMessage = null;
+        com.shuffle.player.proto.Proto.DecryptionKey parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.EncryptionKey) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.DecryptionKey) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4927,6 +7944,75 @@ public final class Proto {
         onChanged();
         return this;
       }
+
+      private java.lang.Object public_ = "";
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public java.lang.String getPublic() {
+        java.lang.Object ref = public_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          public_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPublicBytes() {
+        java.lang.Object ref = public_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          public_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public Builder setPublic(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        public_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public Builder clearPublic() {
+        
+        public_ = getDefaultInstance().getPublic();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string public = 2;</code>
+       */
+      public Builder setPublicBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        public_ = value;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return this;
@@ -4938,82 +8024,66 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:EncryptionKey)
+      // @@protoc_insertion_point(builder_scope:DecryptionKey)
     }
 
-    // @@protoc_insertion_point(class_scope:EncryptionKey)
-    private static final com.shuffle.player.proto.Proto.EncryptionKey DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:DecryptionKey)
+    private static final com.shuffle.player.proto.Proto.DecryptionKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.EncryptionKey();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.DecryptionKey();
     }
 
-    public static com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<EncryptionKey>
-        PARSER = new com.google.protobuf.AbstractParser<EncryptionKey>() {
-      public EncryptionKey parsePartialFrom(
+    private static final com.google.protobuf.Parser<DecryptionKey>
+        PARSER = new com.google.protobuf.AbstractParser<DecryptionKey>() {
+      public DecryptionKey parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new EncryptionKey(input, extensionRegistry);
+          return new DecryptionKey(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<EncryptionKey> parser() {
+    public static com.google.protobuf.Parser<DecryptionKey> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<EncryptionKey> getParserForType() {
+    public com.google.protobuf.Parser<DecryptionKey> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.EncryptionKey getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DecryptionKeyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DecryptionKey)
+  public interface HashOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Hash)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string key = 1;</code>
-     */
-    java.lang.String getKey();
-    /**
-     * <code>optional string key = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getKeyBytes();
-
-    /**
-     * <code>optional string public = 2;</code>
-     */
-    java.lang.String getPublic();
-    /**
-     * <code>optional string public = 2;</code>
+     * <code>optional bytes hash = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getPublicBytes();
+    com.google.protobuf.ByteString getHash();
   }
   /**
-   * Protobuf type {@code DecryptionKey}
+   * Protobuf type {@code Hash}
    */
-  public  static final class DecryptionKey extends
+  public  static final class Hash extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:DecryptionKey)
-      DecryptionKeyOrBuilder {
-    // Use DecryptionKey.newBuilder() to construct.
-    private DecryptionKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Hash)
+      HashOrBuilder {
+    // Use Hash.newBuilder() to construct.
+    private Hash(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private DecryptionKey() {
-      key_ = "";
-      public_ = "";
+    private Hash() {
+      hash_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -5021,7 +8091,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private DecryptionKey(
+    private Hash(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5042,15 +8112,8 @@ public final class Proto {
               break;
             }
             case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              key_ = s;
-              break;
-            }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
 
-              public_ = s;
+              hash_ = input.readBytes();
               break;
             }
           }
@@ -5066,82 +8129,23 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
-    }
-
-    public static final int KEY_FIELD_NUMBER = 1;
-    private volatile java.lang.Object key_;
-    /**
-     * <code>optional string key = 1;</code>
-     */
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        key_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string key = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+              com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
     }
 
-    public static final int PUBLIC_FIELD_NUMBER = 2;
-    private volatile java.lang.Object public_;
-    /**
-     * <code>optional string public = 2;</code>
-     */
-    public java.lang.String getPublic() {
-      java.lang.Object ref = public_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        public_ = s;
-        return s;
-      }
-    }
+    public static final int HASH_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString hash_;
     /**
-     * <code>optional string public = 2;</code>
+     * <code>optional bytes hash = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getPublicBytes() {
-      java.lang.Object ref = public_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        public_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.google.protobuf.ByteString getHash() {
+      return hash_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5156,11 +8160,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getKeyBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, key_);
-      }
-      if (!getPublicBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, public_);
+      if (!hash_.isEmpty()) {
+        output.writeBytes(1, hash_);
       }
     }
 
@@ -5169,69 +8170,67 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!getKeyBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, key_);
-      }
-      if (!getPublicBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, public_);
+      if (!hash_.isEmpty()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, hash_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.DecryptionKey parseFrom(
+    public static com.shuffle.player.proto.Proto.Hash parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5243,7 +8242,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.DecryptionKey prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Hash prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5258,25 +8257,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code DecryptionKey}
+     * Protobuf type {@code Hash}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DecryptionKey)
-        com.shuffle.player.proto.Proto.DecryptionKeyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Hash)
+        com.shuffle.player.proto.Proto.HashOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.DecryptionKey.class, com.shuffle.player.proto.Proto.DecryptionKey.Builder.class);
+                com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.DecryptionKey.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.Hash.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5292,56 +8291,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        key_ = "";
-
-        public_ = "";
+        hash_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_DecryptionKey_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Hash.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.DecryptionKey build() {
-        com.shuffle.player.proto.Proto.DecryptionKey result = buildPartial();
+      public com.shuffle.player.proto.Proto.Hash build() {
+        com.shuffle.player.proto.Proto.Hash result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.DecryptionKey buildPartial() {
-        com.shuffle.player.proto.Proto.DecryptionKey result = new com.shuffle.player.proto.Proto.DecryptionKey(this);
-        result.key_ = key_;
-        result.public_ = public_;
+      public com.shuffle.player.proto.Proto.Hash buildPartial() {
+        com.shuffle.player.proto.Proto.Hash result = new com.shuffle.player.proto.Proto.Hash(this);
+        result.hash_ = hash_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.DecryptionKey) {
-          return mergeFrom((com.shuffle.player.proto.Proto.DecryptionKey)other);
+        if (other instanceof com.shuffle.player.proto.Proto.Hash) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Hash)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.DecryptionKey other) {
-        if (other == com.shuffle.player.proto.Proto.DecryptionKey.getDefaultInstance()) return this;
-        if (!other.getKey().isEmpty()) {
-          key_ = other.key_;
-          onChanged();
-        }
-        if (!other.getPublic().isEmpty()) {
-          public_ = other.public_;
-          onChanged();
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Hash other) {
+        if (other == com.shuffle.player.proto.Proto.Hash.getDefaultInstance()) return this;
+        if (other.getHash() != com.google.protobuf.ByteString.EMPTY) {
+          setHash(other.getHash());
         }
         onChanged();
         return this;
@@ -5355,11 +8346,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.DecryptionKey parsedMessage = null;
+        com.shuffle.player.proto.Proto.Hash parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.DecryptionKey) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.Hash) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5369,140 +8360,31 @@ public final class Proto {
         return this;
       }
 
-      private java.lang.Object key_ = "";
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          key_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public Builder setKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        key_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public Builder clearKey() {
-        
-        key_ = getDefaultInstance().getKey();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string key = 1;</code>
-       */
-      public Builder setKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        key_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object public_ = "";
-      /**
-       * <code>optional string public = 2;</code>
-       */
-      public java.lang.String getPublic() {
-        java.lang.Object ref = public_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          public_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
+      private com.google.protobuf.ByteString hash_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional string public = 2;</code>
+       * <code>optional bytes hash = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getPublicBytes() {
-        java.lang.Object ref = public_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          public_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getHash() {
+        return hash_;
       }
       /**
-       * <code>optional string public = 2;</code>
+       * <code>optional bytes hash = 1;</code>
        */
-      public Builder setPublic(
-          java.lang.String value) {
+      public Builder setHash(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        public_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string public = 2;</code>
-       */
-      public Builder clearPublic() {
-        
-        public_ = getDefaultInstance().getPublic();
+        hash_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string public = 2;</code>
+       * <code>optional bytes hash = 1;</code>
        */
-      public Builder setPublicBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
+      public Builder clearHash() {
         
-        public_ = value;
+        hash_ = getDefaultInstance().getHash();
         onChanged();
         return this;
       }
@@ -5517,66 +8399,66 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DecryptionKey)
+      // @@protoc_insertion_point(builder_scope:Hash)
     }
 
-    // @@protoc_insertion_point(class_scope:DecryptionKey)
-    private static final com.shuffle.player.proto.Proto.DecryptionKey DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Hash)
+    private static final com.shuffle.player.proto.Proto.Hash DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.DecryptionKey();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Hash();
     }
 
-    public static com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Hash getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DecryptionKey>
-        PARSER = new com.google.protobuf.AbstractParser<DecryptionKey>() {
-      public DecryptionKey parsePartialFrom(
+    private static final com.google.protobuf.Parser<Hash>
+        PARSER = new com.google.protobuf.AbstractParser<Hash>() {
+      public Hash parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new DecryptionKey(input, extensionRegistry);
+          return new Hash(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DecryptionKey> parser() {
+    public static com.google.protobuf.Parser<Hash> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DecryptionKey> getParserForType() {
+    public com.google.protobuf.Parser<Hash> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.DecryptionKey getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface HashOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Hash)
+  public interface SignatureOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Signature)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional bytes hash = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    com.google.protobuf.ByteString getHash();
+    com.google.protobuf.ByteString getSignature();
   }
   /**
-   * Protobuf type {@code Hash}
+   * Protobuf type {@code Signature}
    */
-  public  static final class Hash extends
+  public  static final class Signature extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Hash)
-      HashOrBuilder {
-    // Use Hash.newBuilder() to construct.
-    private Hash(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Signature)
+      SignatureOrBuilder {
+    // Use Signature.newBuilder() to construct.
+    private Signature(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Hash() {
-      hash_ = com.google.protobuf.ByteString.EMPTY;
+    private Signature() {
+      signature_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -5584,7 +8466,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Hash(
+    private Signature(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5606,7 +8488,7 @@ public final class Proto {
             }
             case 10: {
 
-              hash_ = input.readBytes();
+              signature_ = input.readBytes();
               break;
             }
           }
@@ -5622,23 +8504,23 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
+              com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
     }
 
-    public static final int HASH_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString hash_;
+    public static final int SIGNATURE_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString signature_;
     /**
-     * <code>optional bytes hash = 1;</code>
+     * <code>optional bytes signature = 1;</code>
      */
-    public com.google.protobuf.ByteString getHash() {
-      return hash_;
+    public com.google.protobuf.ByteString getSignature() {
+      return signature_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5653,8 +8535,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!hash_.isEmpty()) {
-        output.writeBytes(1, hash_);
+      if (!signature_.isEmpty()) {
+        output.writeBytes(1, signature_);
       }
     }
 
@@ -5663,67 +8545,67 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!hash_.isEmpty()) {
+      if (!signature_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, hash_);
+          .computeBytesSize(1, signature_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Hash parseFrom(
+    public static com.shuffle.player.proto.Proto.Signature parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5735,7 +8617,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Hash prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Signature prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5750,25 +8632,25 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Hash}
+     * Protobuf type {@code Signature}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Hash)
-        com.shuffle.player.proto.Proto.HashOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Signature)
+        com.shuffle.player.proto.Proto.SignatureOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Hash_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Hash.class, com.shuffle.player.proto.Proto.Hash.Builder.class);
+                com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Hash.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.Signature.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5784,48 +8666,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        hash_ = com.google.protobuf.ByteString.EMPTY;
+        signature_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Hash_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Hash.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Signature.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Hash build() {
-        com.shuffle.player.proto.Proto.Hash result = buildPartial();
+      public com.shuffle.player.proto.Proto.Signature build() {
+        com.shuffle.player.proto.Proto.Signature result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Hash buildPartial() {
-        com.shuffle.player.proto.Proto.Hash result = new com.shuffle.player.proto.Proto.Hash(this);
-        result.hash_ = hash_;
+      public com.shuffle.player.proto.Proto.Signature buildPartial() {
+        com.shuffle.player.proto.Proto.Signature result = new com.shuffle.player.proto.Proto.Signature(this);
+        result.signature_ = signature_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Hash) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Hash)other);
+        if (other instanceof com.shuffle.player.proto.Proto.Signature) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Signature)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Hash other) {
-        if (other == com.shuffle.player.proto.Proto.Hash.getDefaultInstance()) return this;
-        if (other.getHash() != com.google.protobuf.ByteString.EMPTY) {
-          setHash(other.getHash());
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Signature other) {
+        if (other == com.shuffle.player.proto.Proto.Signature.getDefaultInstance()) return this;
+        if (other.getSignature() != com.google.protobuf.ByteString.EMPTY) {
+          setSignature(other.getSignature());
         }
         onChanged();
         return this;
@@ -5839,11 +8721,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Hash parsedMessage = null;
+        com.shuffle.player.proto.Proto.Signature parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Hash) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.Signature) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5853,31 +8735,31 @@ public final class Proto {
         return this;
       }
 
-      private com.google.protobuf.ByteString hash_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes hash = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public com.google.protobuf.ByteString getHash() {
-        return hash_;
+      public com.google.protobuf.ByteString getSignature() {
+        return signature_;
       }
       /**
-       * <code>optional bytes hash = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public Builder setHash(com.google.protobuf.ByteString value) {
+      public Builder setSignature(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        hash_ = value;
+        signature_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes hash = 1;</code>
+       * <code>optional bytes signature = 1;</code>
        */
-      public Builder clearHash() {
+      public Builder clearSignature() {
         
-        hash_ = getDefaultInstance().getHash();
+        signature_ = getDefaultInstance().getSignature();
         onChanged();
         return this;
       }
@@ -5892,66 +8774,70 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Hash)
+      // @@protoc_insertion_point(builder_scope:Signature)
     }
 
-    // @@protoc_insertion_point(class_scope:Hash)
-    private static final com.shuffle.player.proto.Proto.Hash DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Signature)
+    private static final com.shuffle.player.proto.Proto.Signature DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Hash();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Signature();
     }
 
-    public static com.shuffle.player.proto.Proto.Hash getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Signature getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Hash>
-        PARSER = new com.google.protobuf.AbstractParser<Hash>() {
-      public Hash parsePartialFrom(
+    private static final com.google.protobuf.Parser<Signature>
+        PARSER = new com.google.protobuf.AbstractParser<Signature>() {
+      public Signature parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Hash(input, extensionRegistry);
+          return new Signature(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Hash> parser() {
+    public static com.google.protobuf.Parser<Signature> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Hash> getParserForType() {
+    public com.google.protobuf.Parser<Signature> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Hash getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface SignatureOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Signature)
+  public interface OnionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Onion)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>optional bytes onion = 1;</code>
      */
-    com.google.protobuf.ByteString getSignature();
+    com.google.protobuf.ByteString getOnion();
   }
   /**
-   * Protobuf type {@code Signature}
+   * <pre>
+   * Raw layered ciphertext from the shuffle phase.
+   * </pre>
+   *
+   * Protobuf type {@code Onion}
    */
-  public  static final class Signature extends
+  public  static final class Onion extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Signature)
-      SignatureOrBuilder {
-    // Use Signature.newBuilder() to construct.
-    private Signature(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Onion)
+      OnionOrBuilder {
+    // Use Onion.newBuilder() to construct.
+    private Onion(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Signature() {
-      signature_ = com.google.protobuf.ByteString.EMPTY;
+    private Onion() {
+      onion_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -5959,7 +8845,7 @@ public final class Proto {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Signature(
+    private Onion(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5981,7 +8867,7 @@ public final class Proto {
             }
             case 10: {
 
-              signature_ = input.readBytes();
+              onion_ = input.readBytes();
               break;
             }
           }
@@ -5997,23 +8883,23 @@ public final class Proto {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
+      return com.shuffle.player.proto.Proto.internal_static_Onion_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
+      return com.shuffle.player.proto.Proto.internal_static_Onion_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
+              com.shuffle.player.proto.Proto.Onion.class, com.shuffle.player.proto.Proto.Onion.Builder.class);
     }
 
-    public static final int SIGNATURE_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString signature_;
+    public static final int ONION_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString onion_;
     /**
-     * <code>optional bytes signature = 1;</code>
+     * <code>optional bytes onion = 1;</code>
      */
-    public com.google.protobuf.ByteString getSignature() {
-      return signature_;
+    public com.google.protobuf.ByteString getOnion() {
+      return onion_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6028,8 +8914,8 @@ public final class Proto {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!signature_.isEmpty()) {
-        output.writeBytes(1, signature_);
+      if (!onion_.isEmpty()) {
+        output.writeBytes(1, onion_);
       }
     }
 
@@ -6038,67 +8924,67 @@ public final class Proto {
       if (size != -1) return size;
 
       size = 0;
-      if (!signature_.isEmpty()) {
+      if (!onion_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, signature_);
+          .computeBytesSize(1, onion_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(byte[] data)
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(java.io.InputStream input)
+    public static com.shuffle.player.proto.Proto.Onion parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseDelimitedFrom(
+    public static com.shuffle.player.proto.Proto.Onion parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.shuffle.player.proto.Proto.Signature parseFrom(
+    public static com.shuffle.player.proto.Proto.Onion parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6110,7 +8996,7 @@ public final class Proto {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.shuffle.player.proto.Proto.Signature prototype) {
+    public static Builder newBuilder(com.shuffle.player.proto.Proto.Onion prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -6125,25 +9011,29 @@ public final class Proto {
       return builder;
     }
     /**
-     * Protobuf type {@code Signature}
+     * <pre>
+     * Raw layered ciphertext from the shuffle phase.
+     * </pre>
+     *
+     * Protobuf type {@code Onion}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Signature)
-        com.shuffle.player.proto.Proto.SignatureOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Onion)
+        com.shuffle.player.proto.Proto.OnionOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Onion_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.shuffle.player.proto.Proto.internal_static_Signature_fieldAccessorTable
+        return com.shuffle.player.proto.Proto.internal_static_Onion_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.shuffle.player.proto.Proto.Signature.class, com.shuffle.player.proto.Proto.Signature.Builder.class);
+                com.shuffle.player.proto.Proto.Onion.class, com.shuffle.player.proto.Proto.Onion.Builder.class);
       }
 
-      // Construct using com.shuffle.player.proto.Proto.Signature.newBuilder()
+      // Construct using com.shuffle.player.proto.Proto.Onion.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6159,48 +9049,48 @@ public final class Proto {
       }
       public Builder clear() {
         super.clear();
-        signature_ = com.google.protobuf.ByteString.EMPTY;
+        onion_ = com.google.protobuf.ByteString.EMPTY;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.shuffle.player.proto.Proto.internal_static_Signature_descriptor;
+        return com.shuffle.player.proto.Proto.internal_static_Onion_descriptor;
       }
 
-      public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
-        return com.shuffle.player.proto.Proto.Signature.getDefaultInstance();
+      public com.shuffle.player.proto.Proto.Onion getDefaultInstanceForType() {
+        return com.shuffle.player.proto.Proto.Onion.getDefaultInstance();
       }
 
-      public com.shuffle.player.proto.Proto.Signature build() {
-        com.shuffle.player.proto.Proto.Signature result = buildPartial();
+      public com.shuffle.player.proto.Proto.Onion build() {
+        com.shuffle.player.proto.Proto.Onion result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.shuffle.player.proto.Proto.Signature buildPartial() {
-        com.shuffle.player.proto.Proto.Signature result = new com.shuffle.player.proto.Proto.Signature(this);
-        result.signature_ = signature_;
+      public com.shuffle.player.proto.Proto.Onion buildPartial() {
+        com.shuffle.player.proto.Proto.Onion result = new com.shuffle.player.proto.Proto.Onion(this);
+        result.onion_ = onion_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.shuffle.player.proto.Proto.Signature) {
-          return mergeFrom((com.shuffle.player.proto.Proto.Signature)other);
+        if (other instanceof com.shuffle.player.proto.Proto.Onion) {
+          return mergeFrom((com.shuffle.player.proto.Proto.Onion)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.shuffle.player.proto.Proto.Signature other) {
-        if (other == com.shuffle.player.proto.Proto.Signature.getDefaultInstance()) return this;
-        if (other.getSignature() != com.google.protobuf.ByteString.EMPTY) {
-          setSignature(other.getSignature());
+      public Builder mergeFrom(com.shuffle.player.proto.Proto.Onion other) {
+        if (other == com.shuffle.player.proto.Proto.Onion.getDefaultInstance()) return this;
+        if (other.getOnion() != com.google.protobuf.ByteString.EMPTY) {
+          setOnion(other.getOnion());
         }
         onChanged();
         return this;
@@ -6214,11 +9104,11 @@ public final class Proto {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.shuffle.player.proto.Proto.Signature parsedMessage = null;
+        com.shuffle.player.proto.Proto.Onion parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.shuffle.player.proto.Proto.Signature) e.getUnfinishedMessage();
+          parsedMessage = (com.shuffle.player.proto.Proto.Onion) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6228,31 +9118,31 @@ public final class Proto {
         return this;
       }
 
-      private com.google.protobuf.ByteString signature_ = com.google.protobuf.ByteString.EMPTY;
+      private com.google.protobuf.ByteString onion_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>optional bytes onion = 1;</code>
        */
-      public com.google.protobuf.ByteString getSignature() {
-        return signature_;
+      public com.google.protobuf.ByteString getOnion() {
+        return onion_;
       }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>optional bytes onion = 1;</code>
        */
-      public Builder setSignature(com.google.protobuf.ByteString value) {
+      public Builder setOnion(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        signature_ = value;
+        onion_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes signature = 1;</code>
+       * <code>optional bytes onion = 1;</code>
        */
-      public Builder clearSignature() {
+      public Builder clearOnion() {
         
-        signature_ = getDefaultInstance().getSignature();
+        onion_ = getDefaultInstance().getOnion();
         onChanged();
         return this;
       }
@@ -6267,39 +9157,39 @@ public final class Proto {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Signature)
+      // @@protoc_insertion_point(builder_scope:Onion)
     }
 
-    // @@protoc_insertion_point(class_scope:Signature)
-    private static final com.shuffle.player.proto.Proto.Signature DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Onion)
+    private static final com.shuffle.player.proto.Proto.Onion DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Signature();
+      DEFAULT_INSTANCE = new com.shuffle.player.proto.Proto.Onion();
     }
 
-    public static com.shuffle.player.proto.Proto.Signature getDefaultInstance() {
+    public static com.shuffle.player.proto.Proto.Onion getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Signature>
-        PARSER = new com.google.protobuf.AbstractParser<Signature>() {
-      public Signature parsePartialFrom(
+    private static final com.google.protobuf.Parser<Onion>
+        PARSER = new com.google.protobuf.AbstractParser<Onion>() {
+      public Onion parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new Signature(input, extensionRegistry);
+          return new Onion(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<Signature> parser() {
+    public static com.google.protobuf.Parser<Onion> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Signature> getParserForType() {
+    public com.google.protobuf.Parser<Onion> getParserForType() {
       return PARSER;
     }
 
-    public com.shuffle.player.proto.Proto.Signature getDefaultInstanceForType() {
+    public com.shuffle.player.proto.Proto.Onion getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -9067,6 +11957,16 @@ public final class Proto {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Packet_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PacketV2_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PacketV2_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Atom_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Atom_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Message_descriptor;
   private static final 
@@ -9102,6 +12002,11 @@ public final class Proto {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Signature_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Onion_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Onion_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Transaction_descriptor;
   private static final 
@@ -9132,39 +12037,47 @@ public final class Proto {
   static {
     java.lang.String[] descriptorData = {
       "\n4src/main/java/com/shuffle/player/proto" +
-      "/message.proto\"@\n\006Signed\022\027\n\006packet\030\001 \001(\013" +
+      "/message.proto\"Q\n\006Signed\022\027\n\006packet\030\001 \001(\013" +
       "2\007.Packet\022\035\n\tsignature\030\002 \001(\0132\n.Signature" +
-      "\"\231\001\n\006Packet\022\017\n\007session\030\001 \001(\014\022\016\n\006number\030\002" +
-      " \001(\r\022\036\n\004from\030\003 \001(\0132\020.VerificationKey\022\034\n\002" +
-      "to\030\004 \001(\0132\020.VerificationKey\022\025\n\005phase\030\005 \001(" +
-      "\0162\006.Phase\022\031\n\007message\030\006 \001(\0132\010.Message\"\261\001\n" +
-      "\007Message\022\031\n\007address\030\001 \001(\0132\010.Address\022\033\n\003k" +
-      "ey\030\002 \001(\0132\016.EncryptionKey\022\023\n\004hash\030\003 \001(\0132\005" +
-      ".Hash\022\035\n\tsignature\030\004 \001(\0132\n.Signature\022\013\n\003",
-      "str\030\005 \001(\t\022\025\n\005blame\030\006 \001(\0132\006.Blame\022\026\n\004next" +
-      "\030\007 \001(\0132\010.Message\"\032\n\007Address\022\017\n\007address\030\001" +
-      " \001(\t\"\036\n\017VerificationKey\022\013\n\003key\030\001 \001(\t\"\034\n\r" +
-      "EncryptionKey\022\013\n\003key\030\001 \001(\t\",\n\rDecryption" +
-      "Key\022\013\n\003key\030\001 \001(\t\022\016\n\006public\030\002 \001(\t\"\024\n\004Hash" +
-      "\022\014\n\004hash\030\001 \001(\014\"\036\n\tSignature\022\021\n\tsignature" +
-      "\030\001 \001(\014\"\"\n\013Transaction\022\023\n\013transaction\030\001 \001" +
-      "(\014\"\271\001\n\005Blame\022\027\n\006reason\030\001 \001(\0162\007.Reason\022!\n" +
-      "\007accused\030\002 \001(\0132\020.VerificationKey\022\033\n\003key\030" +
-      "\003 \001(\0132\016.DecryptionKey\022!\n\013transaction\030\004 \001",
-      "(\0132\014.Transaction\022\031\n\007invalid\030\005 \001(\0132\010.Inva" +
-      "lid\022\031\n\007packets\030\006 \001(\0132\010.Packets\"\032\n\007Invali" +
-      "d\022\017\n\007invalid\030\001 \001(\014\"\"\n\007Packets\022\027\n\006packet\030" +
-      "\001 \003(\0132\007.Signed*\220\001\n\005Phase\022\010\n\004NONE\020\000\022\020\n\014AN" +
-      "NOUNCEMENT\020\001\022\013\n\007SHUFFLE\020\002\022\r\n\tBROADCAST\020\003" +
-      "\022\026\n\022EQUIVOCATION_CHECK\020\004\022\013\n\007SIGNING\020\005\022\037\n" +
-      "\033VERIFICATION_AND_SUBMISSION\020\006\022\t\n\005BLAME\020" +
-      "\007*\306\001\n\006Reason\022\025\n\021INSUFFICIENTFUNDS\020\000\022\017\n\013D" +
-      "OUBLESPEND\020\001\022\027\n\023EQUIVOCATIONFAILURE\020\002\022\022\n" +
-      "\016SHUFFLEFAILURE\020\003\022!\n\035SHUFFLEANDEQUIVOCAT",
-      "IONFAILURE\020\004\022\024\n\020INVALIDSIGNATURE\020\005\022\021\n\rMI" +
-      "SSINGOUTPUT\020\006\022\010\n\004LIAR\020\007\022\021\n\rINVALIDFORMAT" +
-      "\020\010B!\n\030com.shuffle.player.protoB\005Protob\006p" +
-      "roto3"
+      "\022\017\n\007encoded\030\003 \001(\014\"\231\001\n\006Packet\022\017\n\007session\030" +
+      "\001 \001(\014\022\016\n\006number\030\002 \001(\r\022\036\n\004from\030\003 \001(\0132\020.Ve" +
+      "rificationKey\022\034\n\002to\030\004 \001(\0132\020.Verification" +
+      "Key\022\025\n\005phase\030\005 \001(\0162\006.Phase\022\031\n\007message\030\006 " +
+      "\001(\0132\010.Message\"\203\001\n\010PacketV2\022\017\n\007session\030\001 " +
+      "\001(\014\022\016\n\006number\030\002 \001(\r\022\014\n\004from\030\003 \001(\014\022\n\n\002to\030" +
+      "\004 \001(\014\022\025\n\005phase\030\005 \001(\0162\006.Phase\022\024\n\005atoms\030\006 ",
+      "\003(\0132\005.Atom\022\017\n\007version\030\017 \001(\r\"\216\001\n\004Atom\022\021\n\007" +
+      "address\030\001 \001(\tH\000\022\r\n\003key\030\002 \001(\014H\000\022\016\n\004hash\030\003" +
+      " \001(\014H\000\022\023\n\tsignature\030\004 \001(\014H\000\022\r\n\003str\030\005 \001(\t" +
+      "H\000\022\027\n\005blame\030\006 \001(\0132\006.BlameH\000\022\017\n\005onion\030\007 \001" +
+      "(\014H\000B\006\n\004atom\"\310\001\n\007Message\022\031\n\007address\030\001 \001(" +
+      "\0132\010.Address\022\033\n\003key\030\002 \001(\0132\016.EncryptionKey" +
+      "\022\023\n\004hash\030\003 \001(\0132\005.Hash\022\035\n\tsignature\030\004 \001(\013" +
+      "2\n.Signature\022\013\n\003str\030\005 \001(\t\022\025\n\005blame\030\006 \001(\013" +
+      "2\006.Blame\022\026\n\004next\030\007 \001(\0132\010.Message\022\025\n\005onio" +
+      "n\030\010 \001(\0132\006.Onion\"\032\n\007Address\022\017\n\007address\030\001 ",
+      "\001(\t\"\036\n\017VerificationKey\022\013\n\003key\030\001 \001(\t\"\034\n\rE" +
+      "ncryptionKey\022\013\n\003key\030\001 \001(\t\",\n\rDecryptionK" +
+      "ey\022\013\n\003key\030\001 \001(\t\022\016\n\006public\030\002 \001(\t\"\024\n\004Hash\022" +
+      "\014\n\004hash\030\001 \001(\014\"\036\n\tSignature\022\021\n\tsignature\030" +
+      "\001 \001(\014\"\026\n\005Onion\022\r\n\005onion\030\001 \001(\014\"\"\n\013Transac" +
+      "tion\022\023\n\013transaction\030\001 \001(\014\"\271\001\n\005Blame\022\027\n\006r" +
+      "eason\030\001 \001(\0162\007.Reason\022!\n\007accused\030\002 \001(\0132\020." +
+      "VerificationKey\022\033\n\003key\030\003 \001(\0132\016.Decryptio" +
+      "nKey\022!\n\013transaction\030\004 \001(\0132\014.Transaction\022" +
+      "\031\n\007invalid\030\005 \001(\0132\010.Invalid\022\031\n\007packets\030\006 ",
+      "\001(\0132\010.Packets\"\032\n\007Invalid\022\017\n\007invalid\030\001 \001(" +
+      "\014\"\"\n\007Packets\022\027\n\006packet\030\001 \003(\0132\007.Signed*\220\001" +
+      "\n\005Phase\022\010\n\004NONE\020\000\022\020\n\014ANNOUNCEMENT\020\001\022\013\n\007S" +
+      "HUFFLE\020\002\022\r\n\tBROADCAST\020\003\022\026\n\022EQUIVOCATION_" +
+      "CHECK\020\004\022\013\n\007SIGNING\020\005\022\037\n\033VERIFICATION_AND" +
+      "_SUBMISSION\020\006\022\t\n\005BLAME\020\007*\306\001\n\006Reason\022\025\n\021I" +
+      "NSUFFICIENTFUNDS\020\000\022\017\n\013DOUBLESPEND\020\001\022\027\n\023E" +
+      "QUIVOCATIONFAILURE\020\002\022\022\n\016SHUFFLEFAILURE\020\003" +
+      "\022!\n\035SHUFFLEANDEQUIVOCATIONFAILURE\020\004\022\024\n\020I" +
+      "NVALIDSIGNATURE\020\005\022\021\n\rMISSINGOUTPUT\020\006\022\010\n\004",
+      "LIAR\020\007\022\021\n\rINVALIDFORMAT\020\010B!\n\030com.shuffle" +
+      ".player.protoB\005Protob\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -9183,75 +12096,93 @@ public final class Proto {
     internal_static_Signed_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Signed_descriptor,
-        new java.lang.String[] { "Packet", "Signature", });
+        new java.lang.String[] { "Packet", "Signature", "Encoded", });
     internal_static_Packet_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Packet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Packet_descriptor,
         new java.lang.String[] { "Session", "Number", "From", "To", "Phase", "Message", });
-    internal_static_Message_descriptor =
+    internal_static_PacketV2_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_PacketV2_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PacketV2_descriptor,
+        new java.lang.String[] { "Session", "Number", "From", "To", "Phase", "Atoms", "Version", });
+    internal_static_Atom_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_Atom_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Atom_descriptor,
+        new java.lang.String[] { "Address", "Key", "Hash", "Signature", "Str", "Blame", "Onion", "Atom", });
+    internal_static_Message_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_Message_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Message_descriptor,
-        new java.lang.String[] { "Address", "Key", "Hash", "Signature", "Str", "Blame", "Next", });
+        new java.lang.String[] { "Address", "Key", "Hash", "Signature", "Str", "Blame", "Next", "Onion", });
     internal_static_Address_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_Address_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Address_descriptor,
         new java.lang.String[] { "Address", });
     internal_static_VerificationKey_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_VerificationKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_VerificationKey_descriptor,
         new java.lang.String[] { "Key", });
     internal_static_EncryptionKey_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_EncryptionKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_EncryptionKey_descriptor,
         new java.lang.String[] { "Key", });
     internal_static_DecryptionKey_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_DecryptionKey_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_DecryptionKey_descriptor,
         new java.lang.String[] { "Key", "Public", });
     internal_static_Hash_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_Hash_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Hash_descriptor,
         new java.lang.String[] { "Hash", });
     internal_static_Signature_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_Signature_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Signature_descriptor,
         new java.lang.String[] { "Signature", });
+    internal_static_Onion_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_Onion_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Onion_descriptor,
+        new java.lang.String[] { "Onion", });
     internal_static_Transaction_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_Transaction_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Transaction_descriptor,
         new java.lang.String[] { "Transaction", });
     internal_static_Blame_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_Blame_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Blame_descriptor,
         new java.lang.String[] { "Reason", "Accused", "Key", "Transaction", "Invalid", "Packets", });
     internal_static_Invalid_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_Invalid_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Invalid_descriptor,
         new java.lang.String[] { "Invalid", });
     internal_static_Packets_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_Packets_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Packets_descriptor,
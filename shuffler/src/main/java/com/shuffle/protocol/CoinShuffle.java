@@ -9,6 +9,8 @@
 package com.shuffle.protocol;
 
 import com.shuffle.bitcoin.Address;
+import com.shuffle.bitcoin.AsyncCoin;
+import com.shuffle.bitcoin.AsyncCoinAdapter;
 import com.shuffle.bitcoin.Coin;
 import com.shuffle.bitcoin.CoinNetworkException;
 import com.shuffle.bitcoin.Crypto;
@@ -34,9 +36,11 @@ import org.apache.logging.log4j.LogManager;
 import org.bitcoinj.core.AddressFormatException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -44,8 +48,13 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -63,10 +72,34 @@ public class CoinShuffle {
 
     final Crypto crypto;
 
-    private final Coin coin;
+    // Queries to the coin network are made for all players at once.
+    private final AsyncCoin coin;
 
     final MessageFactory messages;
 
+    // Used for work within a round that can be done in parallel, such as
+    // decrypting the shuffle vector.
+    private final ExecutorService executor;
+
+    // A pool with a thread for each processor. Its threads do not keep the program running.
+    public static ExecutorService workers(final String name) {
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, name);
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+    }
+
+    // How long to wait for an answer from the coin network.
+    static long queryTimeout = 120000; // Two minutes.
+
+    // Parallel work is done on these threads unless another executor is given.
+    private static final ExecutorService defaultExecutor = workers("coin shuffle");
+
     // A single round of the protocol. It is possible that the players may go through
     // several failed rounds until they have eliminated malicious players.
     class Round {
@@ -100,6 +133,10 @@ public class CoinShuffle {
 
         public final Mailbox mailbox;
 
+        // My own onion, which is built in the background while we wait
+        // for our turn in the shuffle phase.
+        private Future<Bytestring> onion = null;
+
         Transaction protocolDefinition(
         ) throws TimeoutException, Matrix, InterruptedException,
                 FormatException, IOException, CoinNetworkException,
@@ -142,6 +179,14 @@ public class CoinShuffle {
 
             readAnnouncements(announcement, encryptionKeys, changeAddresses);
 
+            // All the keys needed for our onion are known now, so we can start on it.
+            onion = executor.submit(new Callable<Bytestring>() {
+                @Override
+                public Bytestring call() {
+                    return encrypt(addrNew);
+                }
+            });
+
             // Phase 2: Shuffle
             // In the shuffle phase, players go in order and reorder the addresses they have been
             // given by the previous player. They insert their own address in a random location.
@@ -227,7 +272,8 @@ public class CoinShuffle {
             }
 
             // Generate the join transaction.
-            Transaction t = coin.shuffleTransaction(amount, inputs, newAddresses, changeAddresses);
+            Transaction t = await(coin.shuffleTransactionAsync(
+                    amount, inputs, newAddresses, changeAddresses));
 
             checkDoubleSpending(t);
             if (t == null) throw new RuntimeException("Transaction in null. This should not happen.");
@@ -261,15 +307,15 @@ public class CoinShuffle {
             }
 
             // Verify the signatures.
-            Map<VerificationKey, Bytestring> invalid = new HashMap<>();
+            Map<VerificationKey, Bytestring> received = new HashMap<>();
             for (Map.Entry<VerificationKey, Message> sig : signatureMessages.entrySet()) {
-                VerificationKey key = sig.getKey();
-                Bytestring signature = sig.getValue().readSignature();
-                signatures.put(key, signature);
+                received.put(sig.getKey(), sig.getValue().readSignature());
+            }
+            signatures.putAll(received);
 
-                if (t.addInputScript(signature)) {
-                    invalid.put(key, signature);
-                }
+            Map<VerificationKey, Bytestring> invalid = new HashMap<>();
+            for (VerificationKey key : t.addInputScripts(received)) {
+                invalid.put(key, received.get(key));
             }
 
             if (invalid.size() > 0 || invalidClaim) {
@@ -327,19 +373,46 @@ public class CoinShuffle {
             return queue;
         }
 
+        // Stop building our onion if the round ended before it was needed.
+        void cancelOnion() {
+            if (onion != null) onion.cancel(true);
+        }
+
         // The shuffle phase.
-        Message shufflePhase(Message shuffled, Address addrNew) throws FormatException {
+        Message shufflePhase(Message shuffled, Address addrNew)
+                throws FormatException, InterruptedException {
+
+            // Use the onion that was made in advance if it is for the same address.
+            Bytestring encrypted;
+            if (onion != null && addrNew.equals(this.addrNew)) {
+                try {
+                    encrypted = onion.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+
+                    throw new RuntimeException(e.getCause());
+                }
+            } else {
+                encrypted = encrypt(addrNew);
+            }
+
+            // Insert new entry and reorder the keys.
+            return shuffle(shuffled.attachOnion(encrypted));
+        }
 
-            // Add our own address to the mix. Note that if me == N, ie, the last player, then no
-            // encryption is done. That is because we have reached the last layer of encryption.
-            String encrypted = addrNew.toString();
+        // Add our own address to the mix. Note that if me == N, ie, the last player, then no
+        // encryption is done. That is because we have reached the last layer of encryption.
+        // The layers are kept as raw bytes so that each one adds a fixed overhead.
+        Bytestring encrypt(Address addrNew) {
+            Bytestring encrypted = new Bytestring(addrNew.toString().getBytes());
             for (int i = N; i > me; i--) {
                 // Successively encrypt with the keys of the players who haven't had their turn yet.
                 encrypted = encryptionKeys.get(players.get(i)).encrypt(encrypted);
             }
 
-            // Insert new entry and reorder the keys.
-            return shuffle(shuffled.attach(encrypted));
+            return encrypted;
         }
 
         // In the broadcast phase, we have to either receive all the
@@ -363,26 +436,36 @@ public class CoinShuffle {
             return newAddresses;
         }
 
-        // In the shuffle phase, we have to receive a set of strings from the previous player and
-        // decrypt them all.
-        final Message decryptAll(Message message, DecryptionKey key, int expected)
+        // In the shuffle phase, we have to receive a set of onions from the previous player and
+        // decrypt them all. The onions are independent of one another, so the layers are
+        // removed in parallel. The output is in the same order as the input.
+        final Message decryptAll(Message message, final DecryptionKey key, int expected)
                 throws IOException, InterruptedException, FormatException {
 
-            Message decrypted = messages.make();
-
-            int count = 0;
-            Set<String> addrs = new HashSet<>(); // Used to check that all addresses are different.
+            List<Callable<Bytestring>> decryptions = new ArrayList<>();
+            // Used to check that all addresses are different.
+            Set<Bytestring> addrs = new HashSet<>();
 
             while (!message.isEmpty()) {
-                String encrypted = message.readString();
+                final Bytestring encrypted = message.readOnion();
                 message = message.rest();
 
                 addrs.add(encrypted);
-                count++;
-                decrypted = decrypted.attach(key.decrypt(encrypted));
+                decryptions.add(new Callable<Bytestring>() {
+                    @Override
+                    public Bytestring call() throws FormatException {
+                        return key.decrypt(encrypted);
+                    }
+                });
             }
 
-            if (addrs.size() != count || count != expected) {
+            // Check the count before doing any decryption.
+            Message decrypted = null;
+            if (addrs.size() == decryptions.size() && decryptions.size() == expected) {
+                decrypted = decrypt(decryptions);
+            }
+
+            if (decrypted == null) {
                 phase.set(Phase.Blame);
                 mailbox.broadcast(messages.make().attach(Blame.ShuffleFailure(players.get(N))),
                         phase.get());
@@ -393,6 +476,31 @@ public class CoinShuffle {
             return decrypted;
         }
 
+        // Returns null if one of the onions could not be decrypted.
+        private Message decrypt(List<Callable<Bytestring>> decryptions)
+                throws InterruptedException {
+
+            Message decrypted = messages.make();
+            for (Future<Bytestring> future : executor.invokeAll(decryptions)) {
+                try {
+                    decrypted = decrypted.attachOnion(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof FormatException) {
+                        // Someone put in an onion that was not encrypted to us.
+                        return null;
+                    }
+
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+
+            return decrypted;
+        }
+
         // Some misbehavior that has occurred during the shuffle phase and we want to
         // find out what happened!
         private void blameShuffleMisbehavior()
@@ -458,8 +566,22 @@ public class CoinShuffle {
             List<VerificationKey> offenders = new LinkedList<>();
 
             // Check that each participant has the required amounts.
+            Map<Address, Long> amounts = new HashMap<>();
+            for (VerificationKey player : players.values()) {
+                amounts.put(player.address(), amount);
+            }
+
+            Map<Address, Boolean> sufficient = await(coin.sufficientFundsAsync(amounts));
             for (VerificationKey player : players.values()) {
-                if (!coin.sufficientFunds(player.address(), amount)) {
+                Boolean ok = sufficient.get(player.address());
+
+                // A missing answer means the lookup failed.
+                if (ok == null) {
+                    throw new CoinNetworkException(
+                            "Could not look up funds for " + player.address());
+                }
+
+                if (!ok) {
                     // Enter the blame phase.
                     offenders.add(player);
                 }
@@ -504,9 +626,17 @@ public class CoinShuffle {
                 FormatException, TimeoutException, Matrix, CoinNetworkException, AddressFormatException {
 
             // Check for double spending.
+            List<Address> addresses = new LinkedList<>();
+            for (VerificationKey key : players.values()) {
+                addresses.add(key.address());
+            }
+
+            Map<Address, Transaction> conflicts
+                    = await(coin.getConflictingTransactionsAsync(t, addresses, amount));
+
             Message doubleSpend = messages.make();
             for (VerificationKey key : players.values()) {
-                Transaction o = coin.getConflictingTransaction(t, key.address(), amount);
+                Transaction o = conflicts.get(key.address());
                 if (o != null) {
                     doubleSpend = doubleSpend.attach(Blame.DoubleSpend(key, o));
                 }
@@ -520,6 +650,26 @@ public class CoinShuffle {
             }
         }
 
+        // Wait for a query to the coin network and throw whatever it threw.
+        private <X> X await(Future<X> query) throws CoinNetworkException,
+                AddressFormatException, IOException, InterruptedException {
+
+            try {
+                return query.get(queryTimeout, TimeUnit.MILLISECONDS);
+            } catch (java.util.concurrent.TimeoutException e) {
+                query.cancel(true);
+                throw new CoinNetworkException("Query to the coin network timed out.");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof CoinNetworkException) throw (CoinNetworkException) cause;
+                if (cause instanceof AddressFormatException) throw (AddressFormatException) cause;
+                if (cause instanceof IOException) throw (IOException) cause;
+                if (cause instanceof InterruptedException) throw (InterruptedException) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                throw new CoinNetworkException(cause.getMessage());
+            }
+        }
+
         // When we know we'll receive a bunch of blame messages, we have to go through them all
         // to figure out what's going on.
         final Matrix fillBlameMatrix() throws IOException, InterruptedException, FormatException {
@@ -530,10 +680,7 @@ public class CoinShuffle {
             // Get all hashes received in phase 4 to check that they were reported correctly.
             Map<VerificationKey, Message> hashes = new HashMap<>();
             {
-                Queue<Packet> hashMessages =
-                        mailbox.getPacketsByPhase(Phase.EquivocationCheck);
-
-                for (Packet packet : hashMessages) {
+                for (Packet packet : mailbox.packets(Phase.EquivocationCheck)) {
                     hashes.put(packet.from(), packet.payload());
                     // Include my own hash.
                     hashes.put(vk, equivocationCheckHash(players, encryptionKeys, newAddresses));
@@ -642,13 +789,8 @@ public class CoinShuffle {
                                         // the public key we have for this player. Include the
                                         // original packet containing the encryption key and the
                                         // packet with the mismatched key.
-                                        Packet newKeyPacket = null;
-                                        Queue<Packet> newKeyPackets = mailbox.getPacketsByPhase(Phase.Announcement);
-                                        for (Packet p : newKeyPackets) {
-                                            if (p.from().equals(packet.from())) {
-                                                newKeyPacket = p;
-                                            }
-                                        }
+                                        Packet newKeyPacket =
+                                                mailbox.packet(Phase.Announcement, packet.from());
                                         matrix.put(vk, Evidence.Liar(from, new Packet[]{newKeyPacket, packet}));
                                     }
                                 }
@@ -743,7 +885,8 @@ public class CoinShuffle {
             if (outputVectors.size() > 0) {
                 // Add our own vector to this.
                 if (me != N) {
-                    outputVectors.put(vk, mailbox.getPacketsByPhase(Phase.BroadcastOutput).peek());
+                    Iterator<Packet> outputs = mailbox.packets(Phase.BroadcastOutput).iterator();
+                    outputVectors.put(vk, outputs.hasNext() ? outputs.next() : null);
                 }
 
                 // We should have one output vector for every player except the last and ourselves.
@@ -880,10 +1023,10 @@ public class CoinShuffle {
         Message shuffled = messages.make();
 
         // Read all elements of the packet and insert them in a Queue.
-        Queue<String> old = new LinkedList<>();
+        Queue<Bytestring> old = new LinkedList<>();
         int N = 0;
         while (!message.isEmpty()) {
-            old.add(message.readString());
+            old.add(message.readOnion());
             message = message.rest();
             N++;
         }
@@ -898,7 +1041,7 @@ public class CoinShuffle {
             }
 
             // add the randomly selected element to the queue.
-            shuffled = shuffled.attach(old.remove());
+            shuffled = shuffled.attachOnion(old.remove());
         }
 
         return shuffled;
@@ -1027,7 +1170,7 @@ public class CoinShuffle {
                 || shuffleMessages == null || broadcastMessages == null)
             throw new NullPointerException();
 
-        SortedSet<String> outputs = new TreeSet<>();
+        Set<Bytestring> outputs = new HashSet<>();
 
         // Go through the steps of shuffling messages.
         for (int i = 1; i < players.size(); i++) {
@@ -1043,17 +1186,22 @@ public class CoinShuffle {
 
             // Grab the correct number of addresses and decrypt them.
             // SortedSet<Address> addresses = new TreeSet<>();
-            SortedSet<String> decrypted = new TreeSet<>();
+            Set<Bytestring> decrypted = new HashSet<>();
             for (int j = 0; j < i; j++) {
                 if (message.isEmpty()) {
                     return Evidence.ShuffleMisbehaviorDropAddress(
                             players.get(i), decryptionKeys, shuffleMessages, broadcastMessages);
                 }
 
-                String address = message.readString();
+                Bytestring address = message.readOnion();
                 message = message.rest();
-                for (int k = i + 1; k <= players.size(); k++) {
-                    address = decryptionKeys.get(players.get(k)).decrypt(address);
+                try {
+                    for (int k = i + 1; k <= players.size(); k++) {
+                        address = decryptionKeys.get(players.get(k)).decrypt(address);
+                    }
+                } catch (FormatException e) {
+                    return Evidence.ShuffleMisbehaviorDropAddress(
+                            players.get(i), decryptionKeys, shuffleMessages, broadcastMessages);
                 }
 
                 // There shouldn't be duplicates.
@@ -1078,7 +1226,7 @@ public class CoinShuffle {
                         players.get(i), decryptionKeys, shuffleMessages, broadcastMessages);
             }
 
-            outputs.add(decrypted.first());
+            outputs.addAll(decrypted);
         }
 
         // Now check the last set of messages from player N.
@@ -1141,9 +1289,15 @@ public class CoinShuffle {
         Mailbox mailbox = new Mailbox(
                 sk.VerificationKey(), numberedPlayers.values(), messages);
 
-        return this.new Round(
-                machine, amount, sk, numberedPlayers, addrNew, change, mailbox
-        ).protocolDefinition();
+        Round round = this.new Round(
+                machine, amount, sk, numberedPlayers, addrNew, change, mailbox);
+
+        try {
+            return round.protocolDefinition();
+        } finally {
+            // If the round failed or went to blame, our onion may still be in the works.
+            round.cancelOnion();
+        }
     }
 
     public CoinShuffle(
@@ -1151,12 +1305,22 @@ public class CoinShuffle {
             Crypto crypto, // Connects to the cryptography.
             Coin coin // Connects us to the Bitcoin or other cryptocurrency netork.
     ) {
-        if (crypto == null || coin == null || messages == null) {
+        this(messages, crypto, coin, defaultExecutor);
+    }
+
+    public CoinShuffle(
+            MessageFactory messages, // Object that knows how to create and copy messages.
+            Crypto crypto, // Connects to the cryptography.
+            Coin coin, // Connects us to the Bitcoin or other cryptocurrency netork.
+            ExecutorService executor // Runs the parts of the protocol that can be done in parallel.
+    ) {
+        if (crypto == null || coin == null || messages == null || executor == null) {
             throw new NullPointerException();
         }
         this.crypto = crypto;
-        this.coin = coin;
+        this.coin = AsyncCoinAdapter.async(coin);
         this.messages = messages;
+        this.executor = executor;
     }
 
     /**
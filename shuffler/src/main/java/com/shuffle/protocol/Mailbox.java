@@ -18,11 +18,16 @@ import com.shuffle.protocol.message.Phase;
 
 import java.io.IOException;
 import java.net.ProtocolException;
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -37,11 +42,49 @@ public class Mailbox {
     private final VerificationKey me;
     private final Collection<VerificationKey> players; // The keys representing all the players.
 
-    // A queue of messages that has been delivered that we aren't ready to look at yet.
-    private final Queue<Packet> delivered = new LinkedList<>();
+    // Messages that have been delivered that we aren't ready to look at yet, by phase.
+    private final Map<Phase, Queue<Packet>> delivered = new EnumMap<>(Phase.class);
 
-    // All messages received (does not include those in delivered).
-    private final Queue<Packet> history = new LinkedList<>();
+    // All messages received (does not include those in delivered), by phase and by sender.
+    private final Map<Phase, List<Packet>> history = new EnumMap<>(Phase.class);
+    private final Map<Phase, Map<VerificationKey, Packet>> bySender = new EnumMap<>(Phase.class);
+
+    // A read-only view of the history and the delivered messages for a phase.
+    private class PhaseView extends AbstractCollection<Packet> {
+        private final Phase phase;
+
+        private PhaseView(Phase phase) {
+            this.phase = phase;
+        }
+
+        @Override
+        public Iterator<Packet> iterator() {
+            final Iterator<Packet> h = history(phase).iterator();
+            final Iterator<Packet> d = delivered(phase).iterator();
+
+            return new Iterator<Packet>() {
+                @Override
+                public boolean hasNext() {
+                    return h.hasNext() || d.hasNext();
+                }
+
+                @Override
+                public Packet next() {
+                    return h.hasNext() ? h.next() : d.next();
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return history(phase).size() + delivered(phase).size();
+        }
+    }
 
     private final Set<Reason> blame = new HashSet<>();
 
@@ -64,6 +107,36 @@ public class Mailbox {
         return blame.size() > 0;
     }
 
+    private Queue<Packet> delivered(Phase phase) {
+        Queue<Packet> q = delivered.get(phase);
+        if (q == null) {
+            q = new ArrayDeque<>();
+            delivered.put(phase, q);
+        }
+        return q;
+    }
+
+    private List<Packet> history(Phase phase) {
+        List<Packet> h = history.get(phase);
+        if (h == null) {
+            h = new ArrayList<>();
+            history.put(phase, h);
+        }
+        return h;
+    }
+
+    private void record(Packet packet) {
+        Phase phase = packet.phase();
+        history(phase).add(packet);
+
+        Map<VerificationKey, Packet> senders = bySender.get(phase);
+        if (senders == null) {
+            senders = new HashMap<>();
+            bySender.put(phase, senders);
+        }
+        senders.put(packet.from(), packet);
+    }
+
     // Send a message into the network.
     public void send(Message m, Phase phase, VerificationKey to)
             throws IOException, InterruptedException, FormatException {
@@ -78,18 +151,27 @@ public class Mailbox {
         // If this is a message to myself, don't send it. Just pretend we received it.
         // This is useful later when we have to collect all blame messages later.
         if (to.equals(me)) {
-            history.add(packet);
-            if (packet.phase() == Phase.Blame) {
-                blame.add(packet.payload().readBlame().reason);
-            }
+            receiveOwn(packet);
         }
     }
 
+    // The message is signed once and the same packet goes to every player.
     public void broadcast(Message message, Phase phase)
             throws IOException, InterruptedException, FormatException {
 
-        for (VerificationKey to : players) {
-            send(message, phase, to);
+        Packet packet = message.broadcast(phase, players);
+
+        if (players.contains(me)) {
+            receiveOwn(packet);
+        }
+    }
+
+    private void receiveOwn(Packet packet) throws FormatException {
+        if (packet == null) return;
+
+        record(packet);
+        if (packet.phase() == Phase.Blame) {
+            blame.add(packet.payload().readBlame().reason);
         }
     }
 
@@ -97,22 +179,8 @@ public class Mailbox {
     // ahead under some circumstances, so we have to keep their messages to look at later.
     // It always returns a blame packet if encountered.
     private Packet receiveNextPacket(Phase expectedPhase) throws InterruptedException, IOException {
-        Packet found = null;
-
-        // Go through the queue of received messages if any are there.
-        if (delivered.size() > 0) {
-            Iterator<Packet> i = delivered.iterator();
-            while (i.hasNext()) {
-                Packet packet = i.next();
-
-                // Return any that matches what we're looking for.
-                if (expectedPhase == packet.phase()) {
-                    i.remove();
-                    found = packet;
-                    break;
-                }
-            }
-        }
+        // Take the first message we already received for this phase, if there is one.
+        Packet found = delivered(expectedPhase).poll();
 
         // Now we wait for the right message from the network, since we haven't already received it.
         if (found == null) {
@@ -130,11 +198,11 @@ public class Mailbox {
                     break;
                 }
 
-                delivered.add(packet);
+                delivered(phase).add(packet);
             }
         }
 
-        history.add(found);
+        record(found);
         if (found.phase() == Phase.Blame) {
 
             try {
@@ -149,21 +217,20 @@ public class Mailbox {
 
     // Get all packets sent or received by phase. Used during blame phase.
     public Queue<Packet> getPacketsByPhase(Phase phase) {
-        Queue<Packet> selection = new LinkedList<>();
+        return new LinkedList<>(packets(phase));
+    }
 
-        for (Packet packet : history) {
-            if (packet.phase() == phase) {
-                selection.add(packet);
-            }
-        }
+    // A read-only view of all packets sent or received by phase, which is not copied.
+    public Collection<Packet> packets(Phase phase) {
+        return new PhaseView(phase);
+    }
 
-        for (Packet packet : delivered) {
-            if (packet.phase() == phase) {
-                selection.add(packet);
-            }
-        }
+    // The last packet we have looked at from the given player in the given phase.
+    public Packet packet(Phase phase, VerificationKey from) {
+        Map<VerificationKey, Packet> senders = bySender.get(phase);
+        if (senders == null) return null;
 
-        return selection;
+        return senders.get(from);
     }
 
     // Wait to receive a message from a given player.
@@ -218,7 +285,7 @@ public class Mailbox {
                 if (!ignoreBlame) {
                     // Put the messages already collected back so that they can be received later.
                     for (Packet p : broadcasts.values()) {
-                        delivered.add(p);
+                        delivered(p.phase()).add(p);
                     }
 
                     throw new BlameException(packet.from(), packet);
@@ -279,10 +346,8 @@ public class Mailbox {
         }
 
         // First get the blame messages in history.
-        for (Packet packet : history) {
-            if (packet.phase() == Phase.Blame) {
-                blame.get(packet.from()).add(packet);
-            }
+        for (Packet packet : history(Phase.Blame)) {
+            blame.get(packet.from()).add(packet);
         }
 
         // Then receive any more blame messages until there are no more.
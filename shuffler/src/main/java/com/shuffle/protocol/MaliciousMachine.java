@@ -18,6 +18,7 @@ import com.shuffle.bitcoin.SigningKey;
 import com.shuffle.bitcoin.Transaction;
 import com.shuffle.bitcoin.VerificationKey;
 import com.shuffle.chan.Send;
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.blame.Blame;
 import com.shuffle.protocol.blame.BlameException;
 import com.shuffle.protocol.blame.Matrix;
@@ -240,13 +241,13 @@ public final class MaliciousMachine extends CoinShuffle {
 
         @Override
         Message shufflePhase(Message shuffled, Address addrNew)
-                throws FormatException {
+                throws FormatException, InterruptedException {
             Message dropped = messages.make();
 
             int i = 1;
             while (!shuffled.isEmpty()) {
                 if (i != drop) {
-                    dropped = dropped.attach(shuffled.readString());
+                    dropped = dropped.attachOnion(shuffled.readOnion());
                 }
                 shuffled = shuffled.rest();
                 i ++;
@@ -275,18 +276,18 @@ public final class MaliciousMachine extends CoinShuffle {
 
         @Override
         Message shufflePhase(Message shuffled, Address addrNew)
-                throws FormatException {
+                throws FormatException, InterruptedException {
             Message findDuplcate = shuffled;
             shuffled = messages.make();
-            String duplicate = null;
+            Bytestring duplicate = null;
 
             int i = 1;
             while (!shuffled.isEmpty()) {
-                String address = findDuplcate.readString();
+                Bytestring address = findDuplcate.readOnion();
                 if (i == replace) {
                     duplicate = address;
                 }
-                shuffled = shuffled.attach(address);
+                shuffled = shuffled.attachOnion(address);
                 findDuplcate = findDuplcate.rest();
                 i++;
             }
@@ -295,9 +296,9 @@ public final class MaliciousMachine extends CoinShuffle {
             i = 1;
             while (!shuffled.isEmpty()) {
                 if (i != drop && duplicate != null) {
-                    dropped = dropped.attach(shuffled.readString());
+                    dropped = dropped.attachOnion(shuffled.readOnion());
                 } else {
-                    dropped = dropped.attach(duplicate);
+                    dropped = dropped.attachOnion(duplicate);
                 }
                 shuffled = shuffled.rest();
                 i ++;
@@ -326,15 +327,15 @@ public final class MaliciousMachine extends CoinShuffle {
 
         @Override
         Message shufflePhase(Message shuffled, Address addrNew)
-                throws FormatException {
+                throws FormatException, InterruptedException {
             Message dropped = messages.make();
 
             int i = 1;
             while (!shuffled.isEmpty()) {
                 if (i != drop) {
-                    dropped = dropped.attach(shuffled.readAddress());
+                    dropped = dropped.attachOnion(shuffled.readOnion());
                 } else {
-                    dropped = dropped.attach(replace);
+                    dropped = dropped.attachOnion(new Bytestring(replace.toString().getBytes()));
                 }
                 shuffled = shuffled.rest();
                 i ++;
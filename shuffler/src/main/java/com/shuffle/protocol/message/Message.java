@@ -17,6 +17,7 @@ import com.shuffle.protocol.blame.Blame;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * Created by Daniel Krawisz on 12/19/15.
@@ -34,6 +35,9 @@ public interface Message extends Serializable {
 
     Message attach(Blame blame);
 
+    // A layered ciphertext from the shuffle phase, carried as raw bytes.
+    Message attachOnion(Bytestring onion);
+
     EncryptionKey readEncryptionKey() throws FormatException;
 
     Bytestring readSignature() throws FormatException;
@@ -44,6 +48,8 @@ public interface Message extends Serializable {
 
     Blame readBlame() throws FormatException;
 
+    Bytestring readOnion() throws FormatException;
+
     Message rest() throws FormatException;
 
     Message hashed() throws FormatException, IOException;
@@ -52,4 +58,8 @@ public interface Message extends Serializable {
     Packet send(Phase phase, VerificationKey to) throws // May be thrown if this protocol runs in an interruptable thread.
             InterruptedException,
             IOException; // May be thrown if the internet connection fails.
+
+    // Sign once and send the same packet to every player in to. The packet has no recipient.
+    Packet broadcast(Phase phase, Collection<VerificationKey> to)
+            throws InterruptedException, IOException;
 }
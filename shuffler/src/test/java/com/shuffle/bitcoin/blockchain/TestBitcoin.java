@@ -10,15 +10,24 @@ import org.bitcoinj.core.Coin;
 import org.bitcoinj.core.Context;
 import org.bitcoinj.core.ECKey;
 import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.core.Sha256Hash;
 import org.bitcoinj.core.Transaction;
 import org.bitcoinj.core.TransactionInput;
+import org.bitcoinj.script.Script;
+import org.bitcoinj.script.ScriptBuilder;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.xml.bind.DatatypeConverter;
 import javax.xml.bind.annotation.adapters.HexBinaryAdapter;
@@ -244,4 +253,99 @@ public class TestBitcoin {
          * has already been spent..
          */
     }
+
+    @Test
+    public void testAddInputScripts() throws InterruptedException, AddressFormatException {
+        MockBitcoin mock = new MockBitcoin();
+        HexBinaryAdapter adapter = new HexBinaryAdapter();
+        ECKey privKey1 = ECKey.fromPrivate(Hex.decode("bd28acf50b7304b098aefa12fd1bb1cbeb4975cc20e86055b3b9ea65b1c80972"));
+        ECKey privKey2 = ECKey.fromPrivate(Hex.decode("224de2bacfba369f854e8db918540d40f45f7459c83f8b47a9501306bce29715"));
+        Transaction parentTx1 = new Transaction(mock.netParams, adapter.unmarshal("01000000013607cf0cd0c29a6b5d6dd4d7e95c85be0577ee62bf3685c26ea6f36a55bba167000000006b483045022100c75ca43c81d9ecd0aaf1327b80512c1f386accbe2684ae8bcd302bc6e164979f02203efbc08bc5aaaaeb98cda97adf34903f67b803c364b0dde03c9284891d5fc2ee012102834755244b98488d24dd643c81403f0660abf9dff5804ce7d1a2076924e45862ffffffff01a001da60000000001976a914dea86c67b46e5d5bd89ab24d40590f871591ffae88ac00000000"));
+        Transaction parentTx2 = new Transaction(mock.netParams, adapter.unmarshal("01000000018fff9cf295ab3545b974b4dbf87c8cf268f93b4fd88b0acfb9504ca187e1e548000000006a4730440220709d86aa33fabee055f6df16596ac3f171465edd1551856d46ce31a9a9b7bfb202204e482f8d2161322fc7665ad9184f5f0910934cf92b6b91e4176ba17982ee6948012103a3b087c39703146c561c7e9ddd9637de3176e2dfba1773307d9c6e7a5373fd25ffffffff01f0c6f601000000001976a9149c294ec749de349f114e19a32b6c3c585aa0f83588ac00000000"));
+
+        // Each player signs their own copy of the transaction.
+        List<Bytestring> sigs = new LinkedList<>();
+        for (ECKey key : new ECKey[]{privKey1, privKey2}) {
+            Transaction tx = new Transaction(mock.netParams);
+            tx.addOutput(Coin.SATOSHI.multiply(parentTx1.getOutput(0).getValue().value - 50000l), new org.bitcoinj.core.Address(mock.netParams, "mivwStMcpCfVqnDw5zmHYtEffCNgy7uqj6"));
+            tx.addOutput(Coin.SATOSHI.multiply(parentTx2.getOutput(0).getValue().value - 50000l), new org.bitcoinj.core.Address(mock.netParams, "mthh7gRXtEwznD1tqbxaWggS8QjtfqkiSP"));
+            tx.addInput(parentTx1.getOutput(0));
+            tx.addInput(parentTx2.getOutput(0));
+            sigs.add(mock.getSignature(tx, key));
+        }
+        Assert.assertNotNull(sigs.get(0));
+        Assert.assertNotNull(sigs.get(1));
+
+        // The signatures are added to a fresh copy, along with one which is garbage.
+
+        Transaction tx = new Transaction(mock.netParams);
+        tx.addOutput(Coin.SATOSHI.multiply(parentTx1.getOutput(0).getValue().value - 50000l), new org.bitcoinj.core.Address(mock.netParams, "mivwStMcpCfVqnDw5zmHYtEffCNgy7uqj6"));
+        tx.addOutput(Coin.SATOSHI.multiply(parentTx2.getOutput(0).getValue().value - 50000l), new org.bitcoinj.core.Address(mock.netParams, "mthh7gRXtEwznD1tqbxaWggS8QjtfqkiSP"));
+        tx.addInput(parentTx1.getOutput(0));
+        tx.addInput(parentTx2.getOutput(0));
+        Bitcoin.Transaction t = mock.new Transaction(tx.getHashAsString(), tx, false);
+
+        Map<Integer, Bytestring> scripts = new HashMap<>();
+        scripts.put(1, sigs.get(0));
+        scripts.put(2, sigs.get(1));
+        scripts.put(3, new Bytestring(new byte[]{1, 2, 3}));
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            mock.setVerifier(pool);
+            Assert.assertFalse(t.isValid());
+            Assert.assertEquals(Collections.singleton(3), t.addInputScripts(scripts));
+            Assert.assertTrue(t.isValid());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNonCanonicalSighash() throws InterruptedException, AddressFormatException {
+        MockBitcoin mock = new MockBitcoin();
+        HexBinaryAdapter adapter = new HexBinaryAdapter();
+        ECKey privKey1 = ECKey.fromPrivate(Hex.decode("bd28acf50b7304b098aefa12fd1bb1cbeb4975cc20e86055b3b9ea65b1c80972"));
+        Transaction parentTx1 = new Transaction(mock.netParams, adapter.unmarshal("01000000013607cf0cd0c29a6b5d6dd4d7e95c85be0577ee62bf3685c26ea6f36a55bba167000000006b483045022100c75ca43c81d9ecd0aaf1327b80512c1f386accbe2684ae8bcd302bc6e164979f02203efbc08bc5aaaaeb98cda97adf34903f67b803c364b0dde03c9284891d5fc2ee012102834755244b98488d24dd643c81403f0660abf9dff5804ce7d1a2076924e45862ffffffff01a001da60000000001976a914dea86c67b46e5d5bd89ab24d40590f871591ffae88ac00000000"));
+
+        Transaction tx = new Transaction(mock.netParams);
+        tx.addOutput(Coin.SATOSHI.multiply(parentTx1.getOutput(0).getValue().value - 50000l), new org.bitcoinj.core.Address(mock.netParams, "mivwStMcpCfVqnDw5zmHYtEffCNgy7uqj6"));
+        tx.addInput(parentTx1.getOutput(0));
+
+        // Signed over the SIGHASH_ALL preimage, but tagged with a flag byte of 4, which the
+        // network would hash differently.
+        Sha256Hash hash = tx.hashForSignature(0, parentTx1.getOutput(0).getScriptPubKey(), Transaction.SigHash.ALL, false);
+        byte[] der = privKey1.sign(hash).encodeToDER();
+        byte[] sig = Arrays.copyOf(der, der.length + 1);
+        sig[der.length] = 4;
+        Script script = new ScriptBuilder().data(sig).data(privKey1.getPubKey()).build();
+
+        Bitcoin.Transaction t = mock.new Transaction(tx.getHashAsString(), tx, false);
+        Map<Integer, Bytestring> scripts = new HashMap<>();
+        scripts.put(1, new Bytestring(script.getProgram()));
+
+        Assert.assertEquals(Collections.singleton(1), t.addInputScripts(scripts));
+        Assert.assertFalse(t.isValid());
+    }
+
+    @Test
+    public void testSighashFollowsChanges() throws AddressFormatException {
+        MockBitcoin mock = new MockBitcoin();
+        HexBinaryAdapter adapter = new HexBinaryAdapter();
+        Transaction parentTx1 = new Transaction(mock.netParams, adapter.unmarshal("01000000013607cf0cd0c29a6b5d6dd4d7e95c85be0577ee62bf3685c26ea6f36a55bba167000000006b483045022100c75ca43c81d9ecd0aaf1327b80512c1f386accbe2684ae8bcd302bc6e164979f02203efbc08bc5aaaaeb98cda97adf34903f67b803c364b0dde03c9284891d5fc2ee012102834755244b98488d24dd643c81403f0660abf9dff5804ce7d1a2076924e45862ffffffff01a001da60000000001976a914dea86c67b46e5d5bd89ab24d40590f871591ffae88ac00000000"));
+
+        Transaction tx = new Transaction(mock.netParams);
+        tx.addOutput(Coin.SATOSHI.multiply(parentTx1.getOutput(0).getValue().value - 50000l), new org.bitcoinj.core.Address(mock.netParams, "mivwStMcpCfVqnDw5zmHYtEffCNgy7uqj6"));
+        tx.addInput(parentTx1.getOutput(0));
+
+        Bitcoin.Transaction t = mock.new Transaction(tx.getHashAsString(), tx, false);
+        Sha256Hash before = t.sighash(0);
+
+        // Changing an output without changing how many there are.
+        tx.getOutput(0).setValue(Coin.SATOSHI.multiply(parentTx1.getOutput(0).getValue().value - 60000l));
+        Sha256Hash after = t.sighash(0);
+
+        Assert.assertNotEquals(before, after);
+        Assert.assertEquals(tx.hashForSignature(0, parentTx1.getOutput(0).getScriptPubKey(), Transaction.SigHash.ALL, false), after);
+    }
 }
@@ -0,0 +1,135 @@
+package com.shuffle.bitcoin.blockchain;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests BtcdClient against a local server which answers every request
+ * with the method and first parameter it was given.
+ */
+public class TestBtcdClient {
+    private HttpServer server;
+    private BtcdClient client;
+
+    private final AtomicInteger posts = new AtomicInteger(0);
+    private final Set<Integer> ports = Collections.synchronizedSet(new HashSet<Integer>());
+
+    private static JSONObject respond(JSONObject request) {
+        JSONObject response = new JSONObject().put("id", request.get("id"));
+        String method = request.getString("method");
+
+        if (method.equals("fail")) {
+            return response.put("result", JSONObject.NULL)
+                    .put("error", new JSONObject().put("code", -5).put("message", "failed"));
+        }
+
+        return response.put("result", method + ":" + request.getJSONArray("params").get(0))
+                .put("error", JSONObject.NULL);
+    }
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                posts.incrementAndGet();
+                ports.add(exchange.getRemoteAddress().getPort());
+
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                InputStream in = exchange.getRequestBody();
+                byte[] buffer = new byte[1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    body.write(buffer, 0, read);
+                }
+                String request = body.toString("UTF-8");
+
+                String response;
+                if (request.startsWith("[")) {
+                    // Answer in reverse order, since batch responses need not be in order.
+                    JSONArray requests = new JSONArray(request);
+                    JSONArray responses = new JSONArray();
+                    for (int i = requests.length() - 1; i >= 0; i--) {
+                        responses.put(respond(requests.getJSONObject(i)));
+                    }
+                    response = responses.toString();
+                } else {
+                    response = respond(new JSONObject(request)).toString();
+                }
+
+                byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(bytes);
+                out.close();
+            }
+        });
+        server.start();
+
+        client = new BtcdClient(
+                new URL("http://127.0.0.1:" + server.getAddress().getPort()), "user", "pass");
+    }
+
+    @After
+    public void shutdown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testCall() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            BtcdClient.Response response = client.call("getrawtransaction", "tx" + i);
+            Assert.assertNull(response.error);
+            Assert.assertEquals("getrawtransaction:tx" + i, response.result);
+        }
+
+        BtcdClient.Response error = client.call("fail", "x");
+        Assert.assertNull(error.result);
+        Assert.assertEquals("failed", error.message());
+
+        // The same connection was used every time.
+        Assert.assertEquals(6, posts.get());
+        Assert.assertEquals(1, ports.size());
+    }
+
+    @Test
+    public void testBatch() throws IOException {
+        List<BtcdClient.Request> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requests.add(new BtcdClient.Request("searchrawtransactions", "address" + i));
+        }
+        requests.add(new BtcdClient.Request("fail", "x"));
+
+        List<BtcdClient.Response> responses = client.batch(requests);
+
+        Assert.assertEquals(1, posts.get());
+        Assert.assertEquals(requests.size(), responses.size());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals("searchrawtransactions:address" + i, responses.get(i).result);
+        }
+        Assert.assertNotNull(responses.get(10).error);
+    }
+}
@@ -0,0 +1,144 @@
+package com.shuffle.bitcoin.blockchain;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestCache {
+
+    private static class Counter implements Callable<String> {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final String value;
+
+        Counter(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String call() throws Exception {
+            calls.incrementAndGet();
+            return value;
+        }
+    }
+
+    @Test
+    public void testEviction() throws ExecutionException, InterruptedException {
+        Cache<Integer, String> cache = new Cache<>(2, Cache.FOREVER);
+        Counter one = new Counter("one");
+        Counter two = new Counter("two");
+        Counter three = new Counter("three");
+
+        Assert.assertEquals("one", cache.get(1, one));
+        Assert.assertEquals("two", cache.get(2, two));
+        Assert.assertEquals("one", cache.get(1, one));
+
+        // 2 is the least recently used, so it goes.
+        Assert.assertEquals("three", cache.get(3, three));
+        Assert.assertEquals(2, cache.size());
+
+        cache.get(1, one);
+        cache.get(2, two);
+        Assert.assertEquals(1, one.calls.get());
+        Assert.assertEquals(2, two.calls.get());
+    }
+
+    @Test
+    public void testExpiry() throws ExecutionException, InterruptedException {
+        Cache<Integer, String> cache = new Cache<>(10, new Cache.Expiry<String>() {
+            @Override
+            public long ttl(String value) {
+                return value == null ? 0 : Cache.FOREVER;
+            }
+        });
+
+        Counter missing = new Counter(null);
+        Assert.assertNull(cache.get(1, missing));
+        Assert.assertNull(cache.get(1, missing));
+        Assert.assertEquals(2, missing.calls.get());
+
+        // Failures are not kept either.
+        final AtomicInteger failures = new AtomicInteger(0);
+        Callable<String> fail = new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                failures.incrementAndGet();
+                throw new IOException();
+            }
+        };
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.get(2, fail);
+                Assert.fail();
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IOException);
+            }
+        }
+        Assert.assertEquals(2, failures.get());
+    }
+
+    @Test
+    public void testPut() throws ExecutionException, InterruptedException {
+        Cache<Integer, String> cache = new Cache<>(10, Cache.FOREVER);
+        Assert.assertNull(cache.peek(1));
+
+        // A value put in the cache is not loaded again.
+        cache.put(1, "one");
+        Assert.assertEquals("one", cache.peek(1));
+
+        Counter one = new Counter("uno");
+        Assert.assertEquals("one", cache.get(1, one));
+        Assert.assertEquals(0, one.calls.get());
+
+        // Nor is one that was loaded.
+        Assert.assertEquals("two", cache.get(2, new Counter("two")));
+        Assert.assertEquals("two", cache.peek(2));
+
+        cache.put(2, "dos");
+        Assert.assertEquals("dos", cache.peek(2));
+    }
+
+    @Test
+    public void testSingleFlight() throws InterruptedException {
+        final Cache<Integer, String> cache = new Cache<>(10, Cache.FOREVER);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Callable<String> slow = new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                calls.incrementAndGet();
+                release.await();
+                return "slow";
+            }
+        };
+
+        int n = 8;
+        final CountDownLatch done = new CountDownLatch(n);
+        final AtomicInteger correct = new AtomicInteger(0);
+        for (int i = 0; i < n; i++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        if ("slow".equals(cache.get(1, slow))) correct.incrementAndGet();
+                    } catch (ExecutionException | InterruptedException e) {
+                        e.printStackTrace();
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        Thread.sleep(100);
+        release.countDown();
+        done.await();
+
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(n, correct.get());
+    }
+}
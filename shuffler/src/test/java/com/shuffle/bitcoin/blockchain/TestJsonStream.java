@@ -0,0 +1,92 @@
+package com.shuffle.bitcoin.blockchain;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestJsonStream {
+
+    @Test
+    public void testObjectAndArray() throws IOException {
+        String json = "{\"n\": 3, \"txs\": [{\"hash\": \"a\"}, {\"hash\": \"b\"},{\"hash\":\"c\"}],"
+                + " \"other\": {\"x\": [1, 2]}, \"empty\": []}";
+
+        final List<String> hashes = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        JsonStream.object(new JSONTokener(new StringReader(json)), new JsonStream.Field() {
+            @Override
+            public void read(String key, JSONTokener json) throws IOException {
+                keys.add(key);
+                if (!key.equals("txs") && !key.equals("empty")) {
+                    json.nextValue();
+                    return;
+                }
+
+                JsonStream.array(json, new JsonStream.Value() {
+                    @Override
+                    public void read(JSONTokener json) {
+                        hashes.add(new JSONObject(json).getString("hash"));
+                    }
+                });
+            }
+        });
+
+        Assert.assertEquals("[n, txs, other, empty]", keys.toString());
+        Assert.assertEquals("[a, b, c]", hashes.toString());
+    }
+
+    @Test
+    public void testNull() throws IOException {
+        JSONTokener json = new JSONTokener(new StringReader(" null, 1"));
+        Assert.assertTrue(JsonStream.nextNull(json));
+        Assert.assertEquals(',', json.nextClean());
+        Assert.assertFalse(JsonStream.nextNull(json));
+        Assert.assertEquals(1, json.nextValue());
+    }
+
+    @Test(expected = JSONException.class)
+    public void testMalformed() throws IOException {
+        JsonStream.array(new JSONTokener(new StringReader("[1, 2: 3]")), new JsonStream.Value() {
+            @Override
+            public void read(JSONTokener json) {
+                json.nextValue();
+            }
+        });
+    }
+
+    @Test
+    public void testHex() throws IOException {
+        byte[] expected = new byte[]{0, 1, (byte) 0xab, (byte) 0xff, 0x7f};
+        Assert.assertArrayEquals(expected, JsonStream.hex("0001abFF7f"));
+        Assert.assertArrayEquals(expected, JsonStream.hex(new StringReader("0001ab\nFF7f\n")));
+
+        try {
+            JsonStream.hex("abc");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+
+        try {
+            JsonStream.hex("zz");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+
+        // Only ASCII digits, not Arabic-Indic or fullwidth ones.
+        try {
+            JsonStream.hex("\u0661\uff10");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.shuffle.JvmModule;
 import com.shuffle.bitcoin.Address;
 import com.shuffle.bitcoin.DecryptionKey;
 import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.p2p.Bytestring;
 import com.shuffle.protocol.FormatException;
 
 import org.apache.commons.codec.binary.Hex;
@@ -21,11 +22,19 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.crypto.Cipher;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
 
 /**
  * Created by conta on 02.06.16.
@@ -137,4 +146,69 @@ public class DecryptionKeyImplTest {
         System.out.println("and then decrypted \n back to :\n" + decAddress);
         assertEquals(testAddress.toString(), decAddress.toString());
     }
+
+    @Test
+    public void testDecryptOnion() throws FormatException {
+        Bytestring address = new Bytestring("myGgn8UojMsyqn6KGQLEbVbpYSePcKfawG".getBytes());
+
+        // Every layer should add the same fixed overhead.
+        Bytestring one = encryptionKey.encrypt(address);
+        Bytestring two = encryptionKey.encrypt(one);
+        Bytestring three = encryptionKey.encrypt(two);
+        int overhead = one.bytes.length - address.bytes.length;
+        assertEquals(overhead, two.bytes.length - one.bytes.length);
+        assertEquals(overhead, three.bytes.length - two.bytes.length);
+
+        assertEquals(address,
+                decryptionKey.decrypt(decryptionKey.decrypt(decryptionKey.decrypt(three))));
+
+        try {
+            decryptionKey.decrypt(address);
+            fail("Decrypting a plaintext should throw a FormatException.");
+        } catch (FormatException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testCipherReuse() throws Exception {
+        final Bytestring message = new Bytestring("myGgn8UojMsyqn6KGQLEbVbpYSePcKfawG".getBytes());
+
+        // The same key gives a different ciphertext every time.
+        Bytestring one = encryptionKey.encrypt(message);
+        Bytestring two = encryptionKey.encrypt(message);
+        assertNotEquals(one, two);
+
+        // A failed decryption does not spoil the ones after it.
+        try {
+            decryptionKey.decrypt(message);
+            fail();
+        } catch (FormatException e) {
+            // Expected.
+        }
+        assertEquals(message, decryptionKey.decrypt(one));
+        assertEquals(message, decryptionKey.decrypt(two));
+
+        // Each thread has ciphers of its own.
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Bytestring>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final Bytestring encrypted = encryptionKey.encrypt(message);
+                results.add(pool.submit(new Callable<Bytestring>() {
+                    @Override
+                    public Bytestring call() throws FormatException {
+                        return decryptionKey.decrypt(encryptionKey.encrypt(
+                                decryptionKey.decrypt(encrypted)));
+                    }
+                }));
+            }
+
+            for (Future<Bytestring> result : results) {
+                assertEquals(message, result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package com.shuffle.bitcoin.impl;
+
+import com.google.inject.Guice;
+import com.shuffle.JvmModule;
+import com.shuffle.p2p.Bytestring;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+
+import javax.crypto.Cipher;
+
+/**
+ * Measures the time per ECIES operation when a cipher is looked up and initialized for every
+ * message, as was done before, against the per-thread ciphers kept by the key classes.
+ * This is not a test. Run it with
+ *
+ *     java com.shuffle.bitcoin.impl.EciesBenchmark [iterations]
+ */
+public class EciesBenchmark {
+
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    private static void measure(String name, int iterations, Operation op) throws Exception {
+        // Warm up first.
+        for (int i = 0; i < iterations / 10 + 1; i++) op.run();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) op.run();
+        long each = (System.nanoTime() - start) / iterations;
+
+        System.out.println(String.format("%-32s %8d us/op", name, each / 1000));
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        Guice.createInjector(new JvmModule());
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("ECIES", new BouncyCastleProvider());
+        generator.initialize(new ECGenParameterSpec("secp256k1"));
+        final KeyPair keys = generator.generateKeyPair();
+
+        final EncryptionKeyImpl ek = new EncryptionKeyImpl(keys.getPublic());
+        final DecryptionKeyImpl dk = new DecryptionKeyImpl(keys);
+
+        final Bytestring message = new Bytestring("myGgn8UojMsyqn6KGQLEbVbpYSePcKfawG".getBytes());
+        final byte[] encrypted = ek.encrypt(message).bytes;
+
+        measure("encrypt, cipher per call", iterations, new Operation() {
+            @Override
+            public void run() throws GeneralSecurityException {
+                Cipher cipher = Cipher.getInstance("ECIES");
+                cipher.init(Cipher.ENCRYPT_MODE, keys.getPublic());
+                cipher.doFinal(message.bytes);
+            }
+        });
+
+        measure("encrypt, per-thread cipher", iterations, new Operation() {
+            @Override
+            public void run() {
+                ek.encrypt(message);
+            }
+        });
+
+        measure("decrypt, injector per call", iterations, new Operation() {
+            @Override
+            public void run() throws GeneralSecurityException {
+                Guice.createInjector(new JvmModule()).injectMembers(this);
+                Cipher cipher = Cipher.getInstance("ECIES");
+                cipher.init(Cipher.DECRYPT_MODE, keys.getPrivate());
+                cipher.doFinal(encrypted);
+            }
+        });
+
+        measure("decrypt, cipher per call", iterations, new Operation() {
+            @Override
+            public void run() throws GeneralSecurityException {
+                Cipher cipher = Cipher.getInstance("ECIES");
+                cipher.init(Cipher.DECRYPT_MODE, keys.getPrivate());
+                cipher.doFinal(encrypted);
+            }
+        });
+
+        measure("decrypt, per-thread cipher", iterations, new Operation() {
+            @Override
+            public void run() throws Exception {
+                dk.decrypt(new Bytestring(encrypted));
+            }
+        });
+    }
+}
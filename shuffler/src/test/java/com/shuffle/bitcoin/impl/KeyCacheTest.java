@@ -0,0 +1,71 @@
+package com.shuffle.bitcoin.impl;
+
+import com.shuffle.bitcoin.Address;
+import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.bitcoin.VerificationKey;
+import com.shuffle.protocol.FormatException;
+
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.NetworkParameters;
+import org.junit.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class KeyCacheTest {
+    NetworkParameters testnet = NetworkParameters.fromID(NetworkParameters.ID_TESTNET);
+    NetworkParameters mainnet = NetworkParameters.fromID(NetworkParameters.ID_MAINNET);
+
+    @Test
+    public void testVerificationKey() {
+        String hex = new ECKey().getPublicKeyAsHex();
+
+        VerificationKeyImpl vk = KeyCache.verificationKey(hex, testnet);
+        assertSame(vk, KeyCache.verificationKey(hex, testnet));
+        assertEquals(new VerificationKeyImpl(hex, testnet), vk);
+        assertEquals(new VerificationKeyImpl(hex, testnet).hashCode(), vk.hashCode());
+        assertEquals(0, vk.compareTo(new VerificationKeyImpl(hex, testnet)));
+
+        // The same key on another network has another address.
+        VerificationKey main = KeyCache.verificationKey(hex, mainnet);
+        assertNotSame(vk, main);
+        assertEquals(new VerificationKeyImpl(hex, mainnet).address(), main.address());
+    }
+
+    @Test
+    public void testEncryptionKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("ECIES",
+                new org.bouncycastle.jce.provider.BouncyCastleProvider());
+        generator.initialize(new ECGenParameterSpec("secp256k1"));
+        String hex = new EncryptionKeyImpl(generator.generateKeyPair().getPublic()).toString();
+
+        EncryptionKey ek = KeyCache.encryptionKey(hex);
+        assertSame(ek, KeyCache.encryptionKey(hex));
+        assertEquals(hex, ek.toString());
+        assertEquals(new EncryptionKeyImpl(hex), ek);
+    }
+
+    @Test
+    public void testAddress() throws FormatException {
+        String str = new ECKey().toAddress(testnet).toString();
+
+        Address addr = KeyCache.address(str);
+        assertSame(addr, KeyCache.address(str));
+        assertEquals(str, addr.toString());
+
+        // Failures are not remembered.
+        for (int i = 0; i < 2; i++) {
+            try {
+                KeyCache.address("not an address");
+                fail();
+            } catch (FormatException e) {
+                // Expected.
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.shuffle.bitcoin.impl;
+
+import com.shuffle.bitcoin.DecryptionKey;
+import com.shuffle.mock.MockDecryptionKey;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KeyPoolTest {
+
+    // Runs tasks only when we say so.
+    private static class Manual implements Executor {
+        final Queue<Runnable> tasks = new LinkedList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) tasks.remove().run();
+        }
+    }
+
+    @Test
+    public void testTake() {
+        final AtomicInteger made = new AtomicInteger(0);
+        Manual executor = new Manual();
+
+        KeyPool pool = new KeyPool(new KeyPool.Factory() {
+            @Override
+            public DecryptionKey make() {
+                return new MockDecryptionKey(made.incrementAndGet());
+            }
+        }, 3, executor);
+
+        // The pool begins to fill as soon as it is made.
+        Assert.assertEquals(3, executor.tasks.size());
+        executor.runAll();
+        Assert.assertEquals(3, pool.available());
+
+        Set<DecryptionKey> taken = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            taken.add(pool.take());
+
+            // Every key taken is replaced, but only once.
+            Assert.assertEquals(1, executor.tasks.size());
+            executor.runAll();
+            Assert.assertEquals(3, pool.available());
+        }
+
+        // When the pool is empty, a key is made right away.
+        for (int i = 0; i < 5; i++) {
+            taken.add(pool.take());
+        }
+        Assert.assertEquals(0, pool.available());
+        Assert.assertEquals(3, executor.tasks.size());
+
+        // No key was given out twice.
+        Assert.assertEquals(15, taken.size());
+        Assert.assertEquals(15, made.get());
+    }
+}
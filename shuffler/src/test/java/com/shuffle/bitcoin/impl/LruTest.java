@@ -0,0 +1,25 @@
+package com.shuffle.bitcoin.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LruTest {
+
+    @Test
+    public void testEviction() {
+        Lru<Integer, String> lru = new Lru<>(2);
+        Assert.assertEquals("one", lru.putIfAbsent(1, "one"));
+        Assert.assertEquals("two", lru.putIfAbsent(2, "two"));
+
+        // The first value in is kept.
+        Assert.assertEquals("one", lru.putIfAbsent(1, "uno"));
+
+        // 2 is the least recently used, so it goes.
+        Assert.assertEquals("one", lru.get(1));
+        Assert.assertEquals("three", lru.putIfAbsent(3, "three"));
+        Assert.assertEquals(2, lru.size());
+        Assert.assertNull(lru.get(2));
+        Assert.assertEquals("one", lru.get(1));
+        Assert.assertEquals("three", lru.get(3));
+    }
+}
@@ -0,0 +1,51 @@
+package com.shuffle.bitcoin.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class RandomnessTest {
+
+    @Test
+    public void testPerThread() throws InterruptedException {
+        SecureRandom mine = Randomness.current();
+        Assert.assertSame(mine, Randomness.current());
+
+        final AtomicReference<SecureRandom> theirs = new AtomicReference<>();
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                theirs.set(Randomness.current());
+            }
+        });
+        thread.start();
+        thread.join();
+
+        Assert.assertNotNull(theirs.get());
+        Assert.assertNotSame(mine, theirs.get());
+
+        // Independently seeded.
+        byte[] a = new byte[32];
+        byte[] b = new byte[32];
+        mine.nextBytes(a);
+        theirs.get().nextBytes(b);
+        Assert.assertFalse(Arrays.equals(a, b));
+    }
+
+    @Test
+    public void testReseed() {
+        // Start from a fresh DRBG.
+        SecureRandom first = Randomness.current();
+        while (Randomness.current() == first);
+
+        SecureRandom second = Randomness.current();
+        for (int i = 2; i < Randomness.reseedInterval; i++) {
+            Assert.assertSame(second, Randomness.current());
+        }
+
+        Assert.assertNotSame(second, Randomness.current());
+    }
+}
@@ -125,4 +125,23 @@ public class SigningKeyImplTest {
 
         key.sign(b);
     }
-}
\ No newline at end of file
+
+   @Test
+   public void testVerificationCache() {
+      VerificationKey vk = signingKey.VerificationKey();
+      Bytestring hello = new Bytestring("Hello World".getBytes());
+      Bytestring signature = signingKey.sign(hello);
+
+      long hits = VerificationCache.hits();
+      long misses = VerificationCache.misses();
+
+      assertTrue(vk.verify(hello, signature));
+      assertTrue(vk.verify(hello, signature));
+      assertTrue(!vk.verify(new Bytestring("Goodbye World".getBytes()), signature));
+      assertTrue(!vk.verify(new Bytestring("Goodbye World".getBytes()), signature));
+
+      // Each signature is only checked once, whether it is valid or not.
+      assertEquals(misses + 2, VerificationCache.misses());
+      assertEquals(hits + 2, VerificationCache.hits());
+   }
+}
@@ -0,0 +1,37 @@
+package com.shuffle.chan.packet;
+
+import com.shuffle.chan.HistorySend;
+import com.shuffle.chan.IgnoreSend;
+import com.shuffle.p2p.Bytestring;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class TestIncomingPacketSend {
+
+    @Test
+    public void testSend() throws InterruptedException, IOException {
+        Bytestring session = new Bytestring("session".getBytes());
+        HistorySend<Packet<Integer, String>> h
+                = new HistorySend<>(new IgnoreSend<Packet<Integer, String>>());
+        IncomingPacketSend<Integer, String> in = new IncomingPacketSend<>(h, session, 1, 2);
+
+        // Numbers may skip those of packets sent to other players.
+        Assert.assertTrue(in.send(new Packet<>(session, 1, 2, 0, "a")));
+        Assert.assertTrue(in.send(new Packet<>(session, 1, 2, 3, "b")));
+
+        // Broadcasts have no recipient.
+        Assert.assertTrue(in.send(new Packet<Integer, String>(session, 1, null, 4, "c")));
+
+        // Old or repeated numbers, other recipients, senders and sessions are rejected.
+        Assert.assertFalse(in.send(new Packet<>(session, 1, 2, 4, "d")));
+        Assert.assertFalse(in.send(new Packet<>(session, 1, 2, 2, "d")));
+        Assert.assertFalse(in.send(new Packet<>(session, 1, 3, 5, "d")));
+        Assert.assertFalse(in.send(new Packet<>(session, 3, 2, 5, "d")));
+        Assert.assertFalse(in.send(new Packet<>(new Bytestring(new byte[]{1}), 1, 2, 5, "d")));
+
+        Assert.assertEquals(3, h.history().size());
+    }
+}
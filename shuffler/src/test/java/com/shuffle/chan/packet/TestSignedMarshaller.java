@@ -0,0 +1,35 @@
+package com.shuffle.chan.packet;
+
+import com.shuffle.chan.HistorySend;
+import com.shuffle.chan.IgnoreSend;
+import com.shuffle.mock.MockSigningKey;
+import com.shuffle.protocol.FormatException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class TestSignedMarshaller {
+
+    @Test
+    public void testRoundTrip()
+            throws InterruptedException, IOException, FormatException {
+
+        Marshaller<String> m = new JavaMarshaller<>();
+        Marshaller<Signed<String>> sm = new SignedMarshaller<>(m);
+        MockSigningKey k = new MockSigningKey(1);
+
+        HistorySend<Signed<String>> h = new HistorySend<>(new IgnoreSend<Signed<String>>());
+        Assert.assertTrue(new SigningSend<>(h, m, k).send("hello"));
+
+        // The bytes which were signed go out on the wire unchanged.
+        Signed<String> signed = h.last();
+        Assert.assertNotNull(signed.encoded);
+
+        Signed<String> received = sm.unmarshall(sm.marshall(signed));
+        Assert.assertEquals(signed, received);
+        Assert.assertEquals(signed.encoded, received.encoded);
+        Assert.assertTrue(k.VerificationKey().verify(received.encoded, received.signature));
+    }
+}
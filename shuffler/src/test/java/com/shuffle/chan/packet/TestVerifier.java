@@ -0,0 +1,49 @@
+package com.shuffle.chan.packet;
+
+import com.shuffle.chan.Inbox;
+import com.shuffle.chan.Send;
+import com.shuffle.mock.MockSigningKey;
+import com.shuffle.p2p.Bytestring;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class TestVerifier {
+
+    @Test
+    public void testVerifier() throws InterruptedException, IOException {
+        Marshaller<String> m = new JavaMarshaller<>();
+        Verifier<String> verifier = new Verifier<>(m, 2, 4);
+        Inbox<Integer, Signed<String>> inbox = new Inbox<>(1000);
+
+        MockSigningKey a = new MockSigningKey(1);
+        MockSigningKey b = new MockSigningKey(2);
+
+        Send<Signed<String>> fromA = verifier.verifies(a.VerificationKey(), inbox.receivesFrom(1));
+        Send<Signed<String>> fromB = verifier.verifies(b.VerificationKey(), inbox.receivesFrom(2));
+
+        int n = 100;
+        for (int i = 0; i < n; i++) {
+            String s = Integer.toString(i);
+            Assert.assertTrue(fromA.send(new Signed<>(s, a.sign(m.marshall(s)))));
+
+            // Messages from b are signed by the wrong key.
+            Assert.assertTrue(fromB.send(new Signed<>(s, new Bytestring(new byte[]{1}))));
+        }
+
+        // Only the correctly signed messages get through, in the order they were sent.
+        for (int i = 0; i < n; i++) {
+            Inbox.Envelope<Integer, Signed<String>> e = inbox.receive(1, TimeUnit.SECONDS);
+            Assert.assertNotNull(e);
+            Assert.assertEquals(1, (int) e.from);
+            Assert.assertEquals(Integer.toString(i), e.payload.message);
+        }
+
+        Assert.assertNull(inbox.receive(100, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(n, verifier.verified());
+        Assert.assertEquals(n, verifier.rejected());
+    }
+}
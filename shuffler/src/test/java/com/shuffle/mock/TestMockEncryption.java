@@ -1,5 +1,7 @@
 package com.shuffle.mock;
 
+import com.shuffle.p2p.Bytestring;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -46,4 +48,19 @@ public class TestMockEncryption {
                 new MockDecryptionKey(1).decrypt("abcd~decrypt[2]")
                         .equals("abcd~encrypt[2]~decrypt[1]"));
     }
+
+    @Test
+    public void testOnion() {
+        Bytestring abcd = new Bytestring("abcd".getBytes());
+
+        Bytestring onion = new MockEncryptionKey(1).encrypt(new MockEncryptionKey(2).encrypt(abcd));
+        Assert.assertEquals(abcd.bytes.length + 10, onion.bytes.length);
+        Assert.assertEquals(abcd,
+                new MockDecryptionKey(2).decrypt(new MockDecryptionKey(1).decrypt(onion)));
+
+        // Decrypting with the wrong key adds a layer rather than removing one.
+        Bytestring wrong = new MockDecryptionKey(2).decrypt(onion);
+        Assert.assertNotEquals(abcd, new MockDecryptionKey(1).decrypt(wrong));
+        Assert.assertEquals(onion, new MockEncryptionKey(2).encrypt(wrong));
+    }
 }
@@ -0,0 +1,67 @@
+package com.shuffle.player;
+
+import com.shuffle.chan.packet.JavaMarshaller;
+import com.shuffle.mock.MockAddress;
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.protocol.FormatException;
+import com.shuffle.protocol.message.Message;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class TestMessage {
+
+    @Test
+    public void testAttachAndRest() throws FormatException {
+        Message empty = new com.shuffle.player.Message(null);
+        Message a = empty.attach("a");
+        Message ab = a.attach("b");
+
+        // Attaching to a message which has already been extended must not
+        // change the other message.
+        Message ac = a.attach("c");
+
+        Assert.assertTrue(empty.isEmpty());
+        Assert.assertEquals("a", a.readString());
+        Assert.assertTrue(a.rest().isEmpty());
+        Assert.assertEquals("b", ab.rest().readString());
+        Assert.assertEquals("c", ac.rest().readString());
+        Assert.assertEquals(empty.attach("a").attach("b"), ab);
+        Assert.assertEquals(empty.attach("a").attach("b").hashCode(), ab.hashCode());
+        Assert.assertNotEquals(ab, ac);
+
+        // Different types of atom are not equal.
+        Bytestring bytes = new Bytestring("a".getBytes());
+        Assert.assertNotEquals(empty.attach(bytes), empty.attachOnion(bytes));
+    }
+
+    @Test
+    public void testLongMessage() throws FormatException, IOException {
+        int n = 100000;
+
+        Message m = new com.shuffle.player.Message(null);
+        Message other = new com.shuffle.player.Message(null);
+        for (int i = 0; i < n; i++) {
+            m = m.attach(new MockAddress(i));
+            other = other.attach(new MockAddress(i));
+        }
+
+        // None of these should overflow the stack.
+        Assert.assertEquals(m, other);
+        Assert.assertNotEquals(m, other.rest());
+        Assert.assertNotNull(m.toString());
+
+        JavaMarshaller<com.shuffle.player.Message> jm = new JavaMarshaller<>();
+        Message copy = jm.unmarshall(jm.marshall((com.shuffle.player.Message) m));
+        Assert.assertEquals(m, copy);
+
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(new MockAddress(i), copy.readAddress());
+            copy = copy.rest();
+        }
+
+        Assert.assertTrue(copy.isEmpty());
+    }
+}
@@ -0,0 +1,179 @@
+package com.shuffle.player;
+
+import com.shuffle.bitcoin.EncryptionKey;
+import com.shuffle.bitcoin.VerificationKey;
+import com.shuffle.chan.BasicChan;
+import com.shuffle.chan.Inbox;
+import com.shuffle.chan.Send;
+import com.shuffle.chan.packet.Marshaller;
+import com.shuffle.chan.packet.Packet;
+import com.shuffle.chan.packet.Signed;
+import com.shuffle.mock.MockAddress;
+import com.shuffle.mock.MockEncryptionKey;
+import com.shuffle.mock.MockProtobuf;
+import com.shuffle.mock.MockSigningKey;
+import com.shuffle.mock.MockVerificationKey;
+import com.shuffle.p2p.Bytestring;
+import com.shuffle.player.proto.Proto;
+import com.shuffle.protocol.FormatException;
+import com.shuffle.protocol.message.Phase;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+public class TestProtobuf {
+
+    private static Packet<VerificationKey, P> packet(int atoms) {
+        com.shuffle.protocol.message.Message m = new Message(null);
+        for (int i = 0; i < atoms; i++) {
+            switch (i % 4) {
+                case 0:
+                    m = m.attachOnion(new Bytestring(new byte[]{3, 4, 5, (byte) i}));
+                    break;
+                case 1:
+                    m = m.attach(new MockEncryptionKey(i));
+                    break;
+                case 2:
+                    m = m.attach(new MockAddress(i % 10));
+                    break;
+                default:
+                    m = m.attach(new Bytestring(new byte[]{1, 2, (byte) i}));
+            }
+        }
+
+        return new Packet<VerificationKey, P>(new Bytestring("session".getBytes()),
+                new MockVerificationKey(1), new MockVerificationKey(2), 7,
+                new P(Phase.Shuffling, (Message) m));
+    }
+
+    @Test
+    public void testVersion2() throws IOException, FormatException {
+        Marshaller<Packet<VerificationKey, P>> v1 = new MockProtobuf(Protobuf.V1).packetMarshaller;
+        Marshaller<Packet<VerificationKey, P>> v2 = new MockProtobuf(Protobuf.V2).packetMarshaller;
+
+        // A version 1 marshaller can read packets written in version 2. Messages
+        // this long would be too deeply nested to be read if written in version 1.
+        Packet<VerificationKey, P> p = packet(1000);
+        Assert.assertEquals(p, v1.unmarshall(v2.marshall(p)));
+        Assert.assertEquals(p, v2.unmarshall(v2.marshall(p)));
+
+        // Size increases linearly with the number of atoms.
+        int a = v2.marshall(packet(400)).bytes.length;
+        int b = v2.marshall(packet(800)).bytes.length;
+        int c = v2.marshall(packet(1200)).bytes.length;
+        Assert.assertEquals(b - a, c - b);
+    }
+
+    @Test
+    public void testVersion1() throws IOException, FormatException {
+        Marshaller<Packet<VerificationKey, P>> v1 = readingV1(Protobuf.V1).packetMarshaller;
+        Marshaller<Packet<VerificationKey, P>> v2 = readingV1(Protobuf.V2).packetMarshaller;
+
+        // Packets written in version 1 can be read by a version 2 marshaller.
+        com.shuffle.protocol.message.Message m = new Message(null)
+                .attachOnion(new Bytestring(new byte[]{3, 4, 5}))
+                .attach(new MockEncryptionKey(6))
+                .attach(new MockAddress(7));
+
+        Packet<VerificationKey, P> p = new Packet<VerificationKey, P>(
+                new Bytestring("session".getBytes()),
+                new MockVerificationKey(1), new MockVerificationKey(2), 7,
+                new P(Phase.Shuffling, (Message) m));
+
+        Assert.assertEquals(p, v1.unmarshall(v1.marshall(p)));
+        Assert.assertEquals(p, v2.unmarshall(v1.marshall(p)));
+    }
+
+    @Test
+    public void testVersion1Broadcast() throws Exception {
+        final List<Signed<Packet<VerificationKey, P>>> sent = new LinkedList<>();
+        Send<Signed<Packet<VerificationKey, P>>> wire = new Send<Signed<Packet<VerificationKey, P>>>() {
+            @Override
+            public boolean send(Signed<Packet<VerificationKey, P>> x) {
+                sent.add(x);
+                return true;
+            }
+
+            @Override
+            public void close() {}
+        };
+
+        List<VerificationKey> players = Arrays.<VerificationKey>asList(
+                new MockVerificationKey(1), new MockVerificationKey(2), new MockVerificationKey(3));
+        Map<VerificationKey, Send<Signed<Packet<VerificationKey, P>>>> net = new HashMap<>();
+        net.put(players.get(1), wire);
+        net.put(players.get(2), wire);
+
+        Messages messages = new Messages(new Bytestring("session".getBytes()),
+                new MockSigningKey(1), net,
+                new BasicChan<Inbox.Envelope<VerificationKey, Signed<Packet<VerificationKey, P>>>>(),
+                new MockProtobuf(Protobuf.V1));
+
+        Message m = (Message) messages.make().attach("x");
+        Assert.assertNotNull(messages.broadcast(m, Phase.Announcement, players));
+
+        // A version 1 broadcast is a separate packet for each player, which a peer from
+        // before version 2 can read: it must have a sender, a recipient and a message.
+        Assert.assertEquals(2, sent.size());
+        for (int i = 0; i < sent.size(); i++) {
+            Proto.Packet p = Proto.Packet.parseFrom(sent.get(i).encoded.bytes);
+            Assert.assertTrue(p.hasFrom() && p.hasTo() && p.hasMessage());
+            Assert.assertEquals(players.get(i + 1).toString(), p.getTo().getKey());
+            Assert.assertEquals("x", p.getMessage().getStr());
+        }
+    }
+
+    // Version 1 writes mock keys as their string form, which MockProtobuf can't read back.
+    private static MockProtobuf readingV1(int version) {
+        return new MockProtobuf(version) {
+            @Override
+            public VerificationKey unmarshallVerificationKey(String str) {
+                return new MockVerificationKey(index(str));
+            }
+
+            @Override
+            public EncryptionKey unmarshallEncryptionKey(String str) {
+                return new MockEncryptionKey(index(str));
+            }
+        };
+    }
+
+    private static String index(String str) {
+        return str.substring(str.indexOf('[') + 1, str.length() - 1);
+    }
+
+    @Test
+    public void testBroadcast() throws IOException, FormatException {
+        Packet<VerificationKey, P> p = new Packet<VerificationKey, P>(
+                new Bytestring("session".getBytes()), new MockVerificationKey(1), null, 3,
+                new P(Phase.Announcement, (Message) new Message(null).attach("x")));
+
+        // A broadcast has no recipient.
+        Marshaller<Packet<VerificationKey, P>> m = new MockProtobuf(Protobuf.V2).packetMarshaller;
+        Assert.assertEquals(p, m.unmarshall(m.marshall(p)));
+        Assert.assertNull(m.unmarshall(m.marshall(p)).to);
+    }
+
+    @Test
+    public void testNegotiate() {
+        Assert.assertEquals(Protobuf.CURRENT, Protobuf.negotiate(Arrays.asList(2, 2)));
+        Assert.assertEquals(Protobuf.CURRENT, Protobuf.negotiate(Arrays.asList(2, 5)));
+
+        // Peers from before version 2 can't take part in a round.
+        for (Integer old : Arrays.asList(1, null)) {
+            try {
+                Protobuf.negotiate(Arrays.asList(2, old));
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+    }
+}
@@ -83,8 +83,14 @@ public class TestMailbox {
 
             Messages messages = network.messages(me.VerificationKey());
 
-            new Mailbox(me.VerificationKey(), players, messages
-            ).broadcast(messages.make(), Phase.Shuffling);
+            Mailbox mailbox = new Mailbox(me.VerificationKey(), players, messages);
+            mailbox.broadcast(messages.make(), Phase.Shuffling);
+
+            // The broadcast is in our own history.
+            Assert.assertEquals(1, mailbox.packets(Phase.Shuffling).size());
+            Assert.assertTrue(mailbox.packets(Phase.Announcement).isEmpty());
+            Assert.assertEquals(mailbox.packets(Phase.Shuffling).iterator().next(),
+                    mailbox.packet(Phase.Shuffling, me.VerificationKey()));
 
             for (Inbox.Envelope<VerificationKey, Signed<Packet<VerificationKey, P>>> sent
                     : network.getResponses()) {
@@ -264,11 +264,12 @@ public class TestShuffleMachineMethods {
 
             Message input = messages.make();
             for (int i : test.input) {
-                input = input.attach(new MockAddress(i).toString());
+                input = input.attachOnion(new Bytestring(new MockAddress(i).toString().getBytes()));
             }
             Message expected = messages.make();
             for (int i : test.expected) {
-                expected = expected.attach(new MockAddress(i).toString());
+                expected = expected.attachOnion(
+                        new Bytestring(new MockAddress(i).toString().getBytes()));
             }
 
             Message result = machine.shuffle(input);
@@ -438,8 +439,9 @@ public class TestShuffleMachineMethods {
                     playersPublic.add(key);
                     Address addr = key.address();
 
-                    output = output.attach(addr.toString());
-                    input = input.attach(dk.EncryptionKey().encrypt(addr.toString()));
+                    Bytestring plain = new Bytestring(addr.toString().getBytes());
+                    output = output.attachOnion(plain);
+                    input = input.attachOnion(dk.EncryptionKey().encrypt(plain));
                 }
 
                 Mailbox mailbox = new Mailbox(sk.VerificationKey(), playersPublic, messages);